@@ -135,6 +135,9 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generatePrimaryKeyTypes            = false;
     String                             generateNewline                    = "\n";
     String                             generateIndentation;
+    int                                generateParallelism                = 1;
+    boolean                            generateIncremental                = false;
+    boolean                            generateLazyInitialization         = false;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                     = "UTF-8";
@@ -1016,6 +1019,36 @@ abstract class AbstractGenerator implements Generator {
         this.generateIndentation = indentation;
     }
 
+    @Override
+    public int generateParallelism() {
+        return generateParallelism < 1 ? Runtime.getRuntime().availableProcessors() : generateParallelism;
+    }
+
+    @Override
+    public void setGenerateParallelism(int parallelism) {
+        this.generateParallelism = parallelism;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean incremental) {
+        this.generateIncremental = incremental;
+    }
+
+    @Override
+    public boolean generateLazyInitialization() {
+        return generateLazyInitialization;
+    }
+
+    @Override
+    public void setGenerateLazyInitialization(boolean lazyInitialization) {
+        this.generateLazyInitialization = lazyInitialization;
+    }
+
     // ----
 
     @Override
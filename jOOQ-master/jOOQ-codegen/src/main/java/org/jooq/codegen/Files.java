@@ -40,25 +40,26 @@ package org.jooq.codegen;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A cache for directories and their contents.
+ * <p>
+ * This cache is thread safe, to allow for generating files in parallel.
  *
  * @author Lukas Eder
  */
 public final class Files {
 
     private final Map<File, String[]> lists;
-    private final Set<File> mkdirs;
+    private final Set<File>           mkdirs;
 
     public Files() {
-        this.lists = new HashMap<>();
-        this.mkdirs = new HashSet<>();
+        this.lists = new ConcurrentHashMap<>();
+        this.mkdirs = ConcurrentHashMap.newKeySet();
     }
 
     public final String[] list(File dir, FilenameFilter filter) {
@@ -66,6 +67,10 @@ public final class Files {
 
         if (list == null) {
             list = dir.list();
+
+            if (list == null)
+                return new String[0];
+
             lists.put(dir, list);
         }
 
@@ -78,7 +83,12 @@ public final class Files {
     }
 
     public final void mkdirs(File dir) {
-        if (mkdirs.add(dir))
+
+        // The directory is flagged only after its creation, so concurrent
+        // callers never skip a directory that doesn't exist yet
+        if (!mkdirs.contains(dir)) {
             dir.mkdirs();
+            mkdirs.add(dir);
+        }
     }
 }
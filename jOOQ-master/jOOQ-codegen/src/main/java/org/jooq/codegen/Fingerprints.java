@@ -0,0 +1,411 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.meta.AbstractTypedElementDefinition.customType;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.Constants;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Database;
+import org.jooq.meta.Definition;
+import org.jooq.meta.EmbeddableColumnDefinition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.TypedElementDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.meta.jaxb.ForcedType;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * Fingerprints of generated definitions, used for incremental code
+ * generation.
+ * <p>
+ * A fingerprint is a hash of everything in a definition's meta data and in the
+ * code generation configuration that contributes to its generated artefacts.
+ * The fingerprints of the previous code generation run are read from a file
+ * in the target directory. Artefacts whose fingerprint is unchanged and whose
+ * file still exists do not need to be generated again.
+ * <p>
+ * This class is thread safe, to allow for generating files in parallel.
+ *
+ * @author Lukas Eder
+ */
+final class Fingerprints {
+
+    private static final JooqLogger       log       = JooqLogger.getLogger(Fingerprints.class);
+    static final String                   FILE_NAME = ".jooq-fingerprints";
+
+    private final File                    file;
+    private final String                  configuration;
+    private final Map<String, String>     previous;
+    private final Map<String, String>     current;
+    private final Map<Definition, String> definitions;
+
+    Fingerprints(File file, String configuration) {
+        this.file = file;
+        this.configuration = configuration;
+        this.previous = read(file);
+        this.current = new ConcurrentHashMap<>();
+        this.definitions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Whether an artefact's fingerprint is unchanged since the previous run.
+     */
+    final boolean unchanged(String key, String fingerprint) {
+        return fingerprint.equals(previous.get(key));
+    }
+
+    /**
+     * Remember an artefact's fingerprint, once it is up to date.
+     */
+    final void generated(String key, String fingerprint) {
+        current.put(key, fingerprint);
+    }
+
+    /**
+     * Persist the fingerprints of all artefacts that are up to date in this
+     * run. Fingerprints of artefacts that weren't generated are discarded.
+     */
+    final void store() {
+        Writer writer = null;
+
+        try {
+            file.getParentFile().mkdirs();
+            writer = new OutputStreamWriter(new FileOutputStream(file), UTF_8);
+
+            for (Entry<String, String> entry : new TreeMap<>(current).entrySet())
+                writer.append(entry.getValue()).append('\t').append(entry.getKey()).append('\n');
+        }
+        catch (IOException e) {
+            log.warn("Could not write fingerprints to " + file, e);
+        }
+        finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                }
+                catch (IOException ignore) {}
+            }
+        }
+    }
+
+    private static final Map<String, String> read(File file) {
+        Map<String, String> result = new HashMap<>();
+
+        if (file.exists()) {
+            BufferedReader reader = null;
+
+            try {
+                reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8));
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+
+                    if (tab > 0)
+                        result.put(line.substring(tab + 1), line.substring(0, tab));
+                }
+            }
+            catch (IOException e) {
+                log.warn("Could not read fingerprints from " + file, e);
+                result.clear();
+            }
+            finally {
+                if (reader != null) {
+                    try {
+                        reader.close();
+                    }
+                    catch (IOException ignore) {}
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX Computing fingerprints
+    // -------------------------------------------------------------------------
+
+    /**
+     * The fingerprint of a table or routine, including the configuration and
+     * an additional context, such as the schema version.
+     */
+    final String fingerprint(Definition definition, String context) {
+        String result = definitions.get(definition);
+
+        if (result == null) {
+            StringBuilder sb = new StringBuilder(configuration).append('\n').append(context).append('\n');
+
+            if (definition instanceof TableDefinition)
+                describe(sb, (TableDefinition) definition);
+            else if (definition instanceof RoutineDefinition)
+                describe(sb, (RoutineDefinition) definition);
+            else
+                describe(sb, definition);
+
+            result = hash(sb.toString());
+            definitions.put(definition, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * The fingerprint of all the code generation configuration that is
+     * independent of individual definitions.
+     */
+    static final String configuration(AbstractGenerator generator, Database database) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(Constants.FULL_VERSION).append('\n');
+        sb.append(System.getProperty("java.specification.version")).append('\n');
+        sb.append(generator.getClass().getName()).append('\n');
+
+        // All flags of the generator, which may affect any artefact, but not
+        // the state of the generator's subclasses, such as the generation date
+        for (Field field : AbstractGenerator.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())
+                || field.getType() == GeneratorStrategyWrapper.class
+                || field.getName().equals("generateParallelism"))
+                continue;
+
+            try {
+                field.setAccessible(true);
+                sb.append(field.getName()).append('=').append(field.get(generator)).append('\n');
+            }
+            catch (Exception e) {
+                sb.append(field.getName()).append("=?\n");
+            }
+        }
+
+        GeneratorStrategy strategy = generator.getStrategy();
+        if (strategy instanceof GeneratorStrategyWrapper)
+            strategy = ((GeneratorStrategyWrapper) strategy).delegate;
+
+        sb.append(strategy.getClass().getName()).append('\n');
+        sb.append(strategy.getTargetDirectory()).append('\n');
+        sb.append(strategy.getTargetPackage()).append('\n');
+        sb.append(strategy.getInstanceFields()).append('\n');
+        sb.append(strategy.getJavaBeansGettersAndSetters()).append('\n');
+
+        if (strategy instanceof MatcherStrategy)
+            sb.append(((MatcherStrategy) strategy).getMatchers()).append('\n');
+
+        sb.append(database.getClass().getName()).append('\n');
+        sb.append(database.getDialect()).append('\n');
+        sb.append(Arrays.toString(database.getRecordVersionFields())).append('\n');
+        sb.append(Arrays.toString(database.getRecordTimestampFields())).append('\n');
+        sb.append(Arrays.toString(database.getSyntheticPrimaryKeys())).append('\n');
+        sb.append(Arrays.toString(database.getOverridePrimaryKeys())).append('\n');
+        sb.append(database.getConfiguredForcedTypes()).append('\n');
+
+        // Legacy <customType/> elements take effect through the forced types
+        // that refer to them by name
+        for (ForcedType forcedType : database.getConfiguredForcedTypes())
+            sb.append(customType(database, forcedType)).append('\n');
+
+        sb.append(database.getConfiguredEmbeddables()).append('\n');
+
+        return sb.toString();
+    }
+
+    private static final void describe(StringBuilder sb, TableDefinition table) {
+        describe(sb, (Definition) table);
+        sb.append("view=").append(table.isView())
+          .append(",materialized=").append(table.isMaterializedView())
+          .append(",temporary=").append(table.isTemporary())
+          .append(",tvf=").append(table.isTableValuedFunction())
+          .append('\n');
+
+        if (table.getParentTable() != null)
+            sb.append("parent=").append(table.getParentTable().getQualifiedName()).append('\n');
+
+        for (ColumnDefinition column : table.getColumns())
+            describe(sb, "column", column);
+
+        if (table.isTableValuedFunction())
+            for (ParameterDefinition parameter : table.getParameters())
+                describe(sb, "parameter", parameter);
+
+        if (table.getIdentity() != null)
+            sb.append("identity=").append(table.getIdentity().getColumn().getName()).append('\n');
+
+        for (UniqueKeyDefinition key : table.getUniqueKeys()) {
+            sb.append(key.isPrimaryKey() ? "primary key " : "unique key ").append(key.getName());
+            names(sb, key.getKeyColumns());
+
+            // Other tables' references to this table appear in its artefacts, too
+            for (ForeignKeyDefinition fk : key.getForeignKeys()) {
+                sb.append(" referenced by ").append(fk.getQualifiedName()).append(' ').append(fk.getTable().getQualifiedName());
+                names(sb, fk.getKeyColumns());
+            }
+
+            sb.append('\n');
+        }
+
+        for (ForeignKeyDefinition fk : table.getForeignKeys()) {
+            sb.append("foreign key ").append(fk.getName());
+            names(sb, fk.getKeyColumns());
+            sb.append(" references ").append(fk.getReferencedKey().getQualifiedName()).append(' ').append(fk.getReferencedTable().getQualifiedName());
+            names(sb, fk.getReferencedColumns());
+            sb.append('\n');
+        }
+
+        for (IndexDefinition index : table.getIndexes()) {
+            sb.append(index.isUnique() ? "unique index " : "index ").append(index.getName());
+
+            for (IndexColumnDefinition column : index.getIndexColumns())
+                sb.append(' ').append(column.getName()).append(' ').append(column.getSortOrder());
+
+            sb.append('\n');
+        }
+
+        for (CheckConstraintDefinition check : table.getCheckConstraints())
+            sb.append("check ").append(check.getName()).append(' ').append(check.getCheckClause()).append('\n');
+
+        for (EmbeddableDefinition embeddable : table.getEmbeddables()) {
+            sb.append("embeddable ").append(embeddable.getQualifiedName());
+
+            for (EmbeddableColumnDefinition column : embeddable.getColumns())
+                sb.append(' ').append(column.getName()).append("->").append(column.getColumn().getName());
+
+            sb.append('\n');
+        }
+    }
+
+    private static final void describe(StringBuilder sb, RoutineDefinition routine) {
+        describe(sb, (Definition) routine);
+
+        if (routine.getPackage() != null)
+            sb.append("package=").append(routine.getPackage().getQualifiedName()).append('\n');
+
+        sb.append("aggregate=").append(routine.isAggregate())
+          .append(",sqlUsable=").append(routine.isSQLUsable())
+          .append('\n');
+
+        if (routine.getReturnValue() != null)
+            describe(sb, "return", routine.getReturnValue());
+
+        for (ParameterDefinition parameter : routine.getAllParameters())
+            describe(sb, (routine.getInParameters().contains(parameter) ? "in" : "") + (routine.getOutParameters().contains(parameter) ? "out" : "") + (parameter.isDefaulted() ? " defaulted" : ""), parameter);
+    }
+
+    private static final void describe(StringBuilder sb, Definition definition) {
+        sb.append(definition.getClass().getName()).append(' ')
+          .append(definition.getQualifiedName()).append(' ')
+          .append(definition.getQualifiedOutputName()).append(' ')
+          .append(definition.getOverload()).append('\n')
+          .append("comment=").append(definition.getComment()).append('\n');
+    }
+
+    private static final void describe(StringBuilder sb, String kind, TypedElementDefinition<?> element) {
+        sb.append(kind).append(' ').append(element.getName()).append(' ').append(element.getOutputName());
+
+        if (element instanceof ColumnDefinition)
+            sb.append(" identity=").append(((ColumnDefinition) element).isIdentity());
+
+        describe(sb, element.getType());
+        sb.append(" comment=").append(element.getComment()).append('\n');
+    }
+
+    private static final void describe(StringBuilder sb, DataTypeDefinition type) {
+        sb.append(" type=").append(type.getType())
+          .append('(').append(type.getLength()).append(',').append(type.getPrecision()).append(',').append(type.getScale()).append(')')
+          .append(" user=").append(type.getQualifiedUserType())
+          .append(" java=").append(type.getJavaType())
+          .append(" converter=").append(type.getConverter())
+          .append(" binding=").append(type.getBinding())
+          .append(" nullable=").append(type.isNullable())
+          .append(" identity=").append(type.isIdentity())
+          .append(" default=").append(type.getDefaultValue());
+    }
+
+    private static final void names(StringBuilder sb, List<? extends Definition> definitions) {
+        sb.append(" (");
+
+        for (int i = 0; i < definitions.size(); i++)
+            sb.append(i > 0 ? ", " : "").append(definitions.get(i).getName());
+
+        sb.append(')');
+    }
+
+    private static final String hash(String string) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(string.getBytes(UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest)
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 not supported", e);
+        }
+    }
+}
@@ -802,6 +802,12 @@ public class GenerationTool {
                 generator.setGenerateNewline(g.getGenerate().getNewline());
             if (g.getGenerate().getIndentation() != null)
                 generator.setGenerateIndentation(g.getGenerate().getIndentation());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setGenerateParallelism(g.getGenerate().getParallelism());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
+            if (g.getGenerate().isLazyInitialization() != null)
+                generator.setGenerateLazyInitialization(g.getGenerate().isLazyInitialization());
 
 
             // [#3669] Optional Database element
@@ -889,6 +889,52 @@ public interface Generator {
      */
     void setGenerateIndentation(String indentation);
 
+    /**
+     * The number of threads used to generate per-table artefacts, or a value
+     * below <code>1</code> for the number of available processors. Routines
+     * and all other artefacts are generated serially.
+     * <p>
+     * With a parallelism greater than <code>1</code>, per-table generation
+     * methods, such as <code>generateRecord(TableDefinition)</code>, are
+     * called concurrently. Generators overriding them must be thread safe.
+     * The {@link org.jooq.meta.Database} is not thread safe. Its meta data is
+     * loaded before these methods are called, and they must only read it.
+     */
+    int generateParallelism();
+
+    /**
+     * The number of threads used to generate per-table artefacts, or a value
+     * below <code>1</code> for the number of available processors. Routines
+     * and all other artefacts are generated serially.
+     */
+    void setGenerateParallelism(int parallelism);
+
+    /**
+     * Whether to skip generating artefacts of tables and routines whose meta
+     * data and code generation configuration are unchanged since the previous
+     * run.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether to skip generating artefacts of tables and routines whose meta
+     * data and code generation configuration are unchanged since the previous
+     * run.
+     */
+    void setGenerateIncremental(boolean incremental);
+
+    /**
+     * Whether keys and indexes should be initialised lazily in per-table holder
+     * classes, and whether schema classes should omit table instance fields.
+     */
+    boolean generateLazyInitialization();
+
+    /**
+     * Whether keys and indexes should be initialised lazily in per-table holder
+     * classes, and whether schema classes should omit table instance fields.
+     */
+    void setGenerateLazyInitialization(boolean lazyInitialization);
+
     /**
      * The target directory
      */
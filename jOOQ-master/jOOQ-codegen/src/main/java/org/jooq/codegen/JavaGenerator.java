@@ -65,6 +65,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -74,6 +75,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -236,7 +241,7 @@ public class JavaGenerator extends AbstractGenerator {
     /**
      * All files modified by this generator.
      */
-    private Set<File>                             files                        = new LinkedHashSet<>();
+    private Set<File>                             files                        = Collections.synchronizedSet(new LinkedHashSet<File>());
 
     /**
      * These directories were not modified by this generator, but flagged as not
@@ -245,6 +250,18 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private Set<File>                             directoriesNotForRemoval     = new LinkedHashSet<>();
 
+    /**
+     * The executor for per-table generation tasks, if these are generated in
+     * parallel.
+     */
+    private ExecutorService                       executor;
+
+    /**
+     * The fingerprints of generated tables and routines, if code is generated
+     * incrementally.
+     */
+    private Fingerprints                          fingerprints;
+
     private final boolean                         scala;
     private final String                          tokenVoid;
     private final Files                           fileCache;
@@ -343,13 +360,16 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  global references (sequences)", generateGlobalSequenceReferences());
         log.info("  global references (tables)", generateGlobalTableReferences());
         log.info("  global references (udts)", generateGlobalUDTReferences());
+        log.info("  incremental", generateIncremental());
         log.info("  indexes", generateIndexes());
         log.info("  instance fields", generateInstanceFields());
         log.info("  interfaces", generateInterfaces()
               + ((!generateInterfaces && generateImmutableInterfaces) ? " (forced to true because of <immutableInterfaces/>)" : ""));
         log.info("  interfaces (immutable)", generateInterfaces());
         log.info("  javadoc", generateJavadoc());
+        log.info("  parallelism", generateParallelism());
         log.info("  keys", generateKeys());
+        log.info("  lazy initialization", generateLazyInitialization());
         log.info("  links", generateLinks());
         log.info("  pojos", generatePojos()
               + ((!generatePojos && generateDaos) ? " (forced to true because of <daos/>)" :
@@ -387,18 +407,34 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         // XXX Generating catalogs
         // ----------------------------------------------------------------------
-        log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
-        for (CatalogDefinition catalog : database.getCatalogs()) {
-            try {
-                if (generateCatalogIfEmpty(catalog))
-                    generate(catalog);
-                else
-                    log.info("Excluding empty catalog", catalog);
-            }
-            catch (Exception e) {
-                throw new GeneratorException("Error generating code for catalog " + catalog, e);
+        if (generateIncremental())
+            fingerprints = new Fingerprints(new File(getStrategy().getFileRoot(), Fingerprints.FILE_NAME), Fingerprints.configuration(this, db));
+
+        if (generateParallelism() > 1)
+            startParallelGeneration();
+
+        try {
+            log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
+            for (CatalogDefinition catalog : database.getCatalogs()) {
+                try {
+                    if (generateCatalogIfEmpty(catalog))
+                        generate(catalog);
+                    else
+                        log.info("Excluding empty catalog", catalog);
+                }
+                catch (Exception e) {
+                    throw new GeneratorException("Error generating code for catalog " + catalog, e);
+                }
             }
         }
+        finally {
+            stopParallelGeneration();
+        }
+
+        if (fingerprints != null) {
+            fingerprints.store();
+            fingerprints = null;
+        }
 
         // [#5556] Clean up common parent directory
         log.info("Removing excess files");
@@ -761,14 +797,14 @@ public class JavaGenerator extends AbstractGenerator {
                     final String columnTypeFull = getJavaType(identity.getColumn().getType(resolver()));
                     final String columnType = out.ref(columnTypeFull);
                     final String identityId = getStrategy().getJavaIdentifier(identity.getColumn().getContainer());
-                    final int block = allIdentities.size() / INITIALISER_SIZE;
+                    final String block = holder("Identities", allIdentities.size(), identity.getTable());
 
                     printDeprecationIfUnknownType(out, columnTypeFull);
                     if (scala)
-                        out.tab(1).println("val IDENTITY_%s = Identities%s.IDENTITY_%s",
+                        out.tab(1).println("val IDENTITY_%s = %s.IDENTITY_%s",
                                 identityId, block, identityId);
                     else
-                        out.tab(1).println("public static final %s<%s, %s> IDENTITY_%s = Identities%s.IDENTITY_%s;",
+                        out.tab(1).println("public static final %s<%s, %s> IDENTITY_%s = %s.IDENTITY_%s;",
                             Identity.class, identityType, columnType, identityId, block, identityId);
 
                     allIdentities.add(identity);
@@ -792,12 +828,12 @@ public class JavaGenerator extends AbstractGenerator {
 
                     final String keyType = out.ref(getStrategy().getFullJavaClassName(uniqueKey.getTable(), Mode.RECORD));
                     final String keyId = getStrategy().getJavaIdentifier(uniqueKey);
-                    final int block = allUniqueKeys.size() / INITIALISER_SIZE;
+                    final String block = holder("UniqueKeys", allUniqueKeys.size(), uniqueKey.getTable());
 
                     if (scala)
-                        out.tab(1).println("val %s = UniqueKeys%s.%s", keyId, block, keyId);
+                        out.tab(1).println("val %s = %s.%s", keyId, block, keyId);
                     else
-                        out.tab(1).println("public static final %s<%s> %s = UniqueKeys%s.%s;", UniqueKey.class, keyType, keyId, block, keyId);
+                        out.tab(1).println("public static final %s<%s> %s = %s.%s;", UniqueKey.class, keyType, keyId, block, keyId);
 
                     allUniqueKeys.add(uniqueKey);
                 }
@@ -818,15 +854,15 @@ public class JavaGenerator extends AbstractGenerator {
                 for (ForeignKeyDefinition foreignKey : foreignKeys) {
                     empty = false;
 
-                    final String keyType = out.ref(getStrategy().getFullJavaClassName(foreignKey.getKeyTable(), Mode.RECORD));
+                    final String keyType = out.ref(getStrategy().getFullJavaClassName(foreignKey.getTable(), Mode.RECORD));
                     final String referencedType = out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable(), Mode.RECORD));
                     final String keyId = getStrategy().getJavaIdentifier(foreignKey);
-                    final int block = allForeignKeys.size() / INITIALISER_SIZE;
+                    final String block = holder("ForeignKeys", allForeignKeys.size(), foreignKey.getTable());
 
                     if (scala)
-                        out.tab(1).println("val %s = ForeignKeys%s.%s", keyId, block, keyId);
+                        out.tab(1).println("val %s = %s.%s", keyId, block, keyId);
                     else
-                        out.tab(1).println("public static final %s<%s, %s> %s = ForeignKeys%s.%s;", ForeignKey.class, keyType, referencedType, keyId, block, keyId);
+                        out.tab(1).println("public static final %s<%s, %s> %s = %s.%s;", ForeignKey.class, keyType, referencedType, keyId, block, keyId);
 
                     allForeignKeys.add(foreignKey);
                 }
@@ -842,13 +878,20 @@ public class JavaGenerator extends AbstractGenerator {
         int uniqueKeyCounter = 0;
         int foreignKeyCounter = 0;
 
-        out.tab(1).header("[#1459] distribute members to avoid static initialisers > 64kb");
+        if (generateLazyInitialization())
+            out.tab(1).header("Per-table holders, initialised on first access");
+        else
+            out.tab(1).header("[#1459] distribute members to avoid static initialisers > 64kb");
 
         // Identities
         // ----------
 
         for (IdentityDefinition identity : allIdentities) {
-            printIdentity(out, identityCounter, identity);
+            if (generateLazyInitialization())
+                printIdentity(out, identityCounter, identity, true);
+            else
+                printIdentity(out, identityCounter, identity);
+
             identityCounter++;
         }
 
@@ -860,7 +903,12 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------
 
         for (UniqueKeyDefinition uniqueKey : allUniqueKeys) {
-            printUniqueKey(out, uniqueKeyCounter, uniqueKey);
+            if (generateLazyInitialization())
+                printUniqueKey(out, uniqueKeyCounter, uniqueKey,
+                    uniqueKeyCounter == 0 || !allUniqueKeys.get(uniqueKeyCounter - 1).getTable().equals(uniqueKey.getTable()));
+            else
+                printUniqueKey(out, uniqueKeyCounter, uniqueKey);
+
             uniqueKeyCounter++;
         }
 
@@ -872,7 +920,12 @@ public class JavaGenerator extends AbstractGenerator {
         // -----------
 
         for (ForeignKeyDefinition foreignKey : allForeignKeys) {
-            printForeignKey(out, foreignKeyCounter, foreignKey);
+            if (generateLazyInitialization())
+                printForeignKey(out, foreignKeyCounter, foreignKey,
+                    foreignKeyCounter == 0 || !allForeignKeys.get(foreignKeyCounter - 1).getTable().equals(foreignKey.getTable()));
+            else
+                printForeignKey(out, foreignKeyCounter, foreignKey);
+
             foreignKeyCounter++;
         }
 
@@ -921,12 +974,12 @@ public class JavaGenerator extends AbstractGenerator {
 
                 for (IndexDefinition index : indexes) {
                     final String keyId = getStrategy().getJavaIdentifier(index);
-                    final int block = allIndexes.size() / INITIALISER_SIZE;
+                    final String block = holder("Indexes", allIndexes.size(), index.getTable());
 
                     if (scala)
-                        out.tab(1).println("val %s = Indexes%s.%s", keyId, block, keyId);
+                        out.tab(1).println("val %s = %s.%s", keyId, block, keyId);
                     else
-                        out.tab(1).println("public static final %s %s = Indexes%s.%s;", Index.class, keyId, block, keyId);
+                        out.tab(1).println("public static final %s %s = %s.%s;", Index.class, keyId, block, keyId);
 
                     allIndexes.add(index);
                 }
@@ -940,13 +993,21 @@ public class JavaGenerator extends AbstractGenerator {
         // keeping top-level initialiser small
         int indexCounter = 0;
 
-        out.tab(1).header("[#1459] distribute members to avoid static initialisers > 64kb");
+        if (generateLazyInitialization())
+            out.tab(1).header("Per-table holders, initialised on first access");
+        else
+            out.tab(1).header("[#1459] distribute members to avoid static initialisers > 64kb");
 
         // Indexes
         // -------
 
         for (IndexDefinition index : allIndexes) {
-            printIndex(out, indexCounter, index);
+            if (generateLazyInitialization())
+                printIndex(out, indexCounter, index,
+                    indexCounter == 0 || !allIndexes.get(indexCounter - 1).getTable().equals(index.getTable()));
+            else
+                printIndex(out, indexCounter, index);
+
             indexCounter++;
         }
 
@@ -961,21 +1022,13 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void printIndex(JavaWriter out, int indexCounter, IndexDefinition index) {
-        final int block = indexCounter / INITIALISER_SIZE;
+        printIndex(out, indexCounter, index, indexCounter % INITIALISER_SIZE == 0);
+    }
 
+    private void printIndex(JavaWriter out, int indexCounter, IndexDefinition index, boolean newHolder) {
         // Print new nested class
-        if (indexCounter % INITIALISER_SIZE == 0) {
-            if (indexCounter > 0) {
-                out.tab(1).println("}");
-            }
-
-            out.println();
-
-            if (scala)
-                out.tab(1).println("private object Indexes%s {", block);
-            else
-                out.tab(1).println("private static class Indexes%s {", block);
-        }
+        if (newHolder)
+            printHolder(out, indexCounter > 0, holder("Indexes", indexCounter, index.getTable()));
 
         if (scala)
             out.tab(2).print("val %s : %s = ",
@@ -1029,23 +1082,16 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void printIdentity(JavaWriter out, int identityCounter, IdentityDefinition identity) {
-        final int block = identityCounter / INITIALISER_SIZE;
+        printIdentity(out, identityCounter, identity, identityCounter % INITIALISER_SIZE == 0);
+    }
+
+    private void printIdentity(JavaWriter out, int identityCounter, IdentityDefinition identity, boolean newHolder) {
         final String identityTypeFull = getJavaType(identity.getColumn().getType(resolver()));
         final String identityType = out.ref(identityTypeFull);
 
         // Print new nested class
-        if (identityCounter % INITIALISER_SIZE == 0) {
-            if (identityCounter > 0) {
-                out.tab(1).println("}");
-            }
-
-            out.println();
-
-            if (scala)
-                out.tab(1).println("private object Identities%s {", block);
-            else
-                out.tab(1).println("private static class Identities%s {", block);
-        }
+        if (newHolder)
+            printHolder(out, identityCounter > 0, holder("Identities", identityCounter, identity.getTable()));
 
         printDeprecationIfUnknownType(out, identityTypeFull);
         if (scala)
@@ -1083,21 +1129,14 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void printUniqueKey(JavaWriter out, int uniqueKeyCounter, UniqueKeyDefinition uniqueKey) {
-        final int block = uniqueKeyCounter / INITIALISER_SIZE;
-
-        // Print new nested class
-        if (uniqueKeyCounter % INITIALISER_SIZE == 0) {
-            if (uniqueKeyCounter > 0) {
-                out.tab(1).println("}");
-            }
+        printUniqueKey(out, uniqueKeyCounter, uniqueKey, uniqueKeyCounter % INITIALISER_SIZE == 0);
+    }
 
-            out.println();
+    private void printUniqueKey(JavaWriter out, int uniqueKeyCounter, UniqueKeyDefinition uniqueKey, boolean newHolder) {
 
-            if (scala)
-                out.tab(1).println("private object UniqueKeys%s {", block);
-            else
-                out.tab(1).println("private static class UniqueKeys%s {", block);
-        }
+        // Print new nested class
+        if (newHolder)
+            printHolder(out, uniqueKeyCounter > 0, holder("UniqueKeys", uniqueKeyCounter, uniqueKey.getTable()));
 
         if (scala)
             out.tab(2).print("val %s : %s[%s] = ",
@@ -1139,31 +1178,24 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void printForeignKey(JavaWriter out, int foreignKeyCounter, ForeignKeyDefinition foreignKey) {
-        final int block = foreignKeyCounter / INITIALISER_SIZE;
-
-        // Print new nested class
-        if (foreignKeyCounter % INITIALISER_SIZE == 0) {
-            if (foreignKeyCounter > 0) {
-                out.tab(1).println("}");
-            }
+        printForeignKey(out, foreignKeyCounter, foreignKey, foreignKeyCounter % INITIALISER_SIZE == 0);
+    }
 
-            out.println();
+    private void printForeignKey(JavaWriter out, int foreignKeyCounter, ForeignKeyDefinition foreignKey, boolean newHolder) {
 
-            if (scala)
-                out.tab(1).println("private object ForeignKeys%s {", block);
-            else
-                out.tab(1).println("private static class ForeignKeys%s {", block);
-        }
+        // Print new nested class
+        if (newHolder)
+            printHolder(out, foreignKeyCounter > 0, holder("ForeignKeys", foreignKeyCounter, foreignKey.getTable()));
 
         if (scala)
             out.tab(2).println("val %s : %s[%s, %s] = %s.createForeignKey(%s, %s, \"%s\", Array([[%s]]).asInstanceOf[Array[%s[%s, _] ] ], %s)",
                 getStrategy().getJavaIdentifier(foreignKey),
                 ForeignKey.class,
-                out.ref(getStrategy().getFullJavaClassName(foreignKey.getKeyTable(), Mode.RECORD)),
+                out.ref(getStrategy().getFullJavaClassName(foreignKey.getTable(), Mode.RECORD)),
                 out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable(), Mode.RECORD)),
                 Internal.class,
-                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getReferencedKey()), 2),
-                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getKeyTable()), 2),
+                globalReference(out, foreignKey.getReferencedKey(), "UniqueKeys", foreignKey.getReferencedTable()),
+                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getTable()), 2),
                 escapeString(foreignKey.getOutputName()),
                 out.ref(getStrategy().getFullJavaIdentifiers(foreignKey.getKeyColumns()), colRefSegments(null)),
                 TableField.class,
@@ -1172,28 +1204,76 @@ public class JavaGenerator extends AbstractGenerator {
         else
             out.tab(2).println("public static final %s<%s, %s> %s = %s.createForeignKey(%s, %s, \"%s\", new %s[] { [[%s]] }, %s);",
                 ForeignKey.class,
-                out.ref(getStrategy().getFullJavaClassName(foreignKey.getKeyTable(), Mode.RECORD)),
+                out.ref(getStrategy().getFullJavaClassName(foreignKey.getTable(), Mode.RECORD)),
                 out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable(), Mode.RECORD)),
                 getStrategy().getJavaIdentifier(foreignKey),
                 Internal.class,
-                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getReferencedKey()), 2),
-                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getKeyTable()), 2),
+                globalReference(out, foreignKey.getReferencedKey(), "UniqueKeys", foreignKey.getReferencedTable()),
+                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getTable()), 2),
                 escapeString(foreignKey.getOutputName()),
                 TableField.class,
                 out.ref(getStrategy().getFullJavaIdentifiers(foreignKey.getKeyColumns()), colRefSegments(null)),
                 foreignKey.enforced());
     }
 
+    /**
+     * The name of the nested class holding a key or index in <code>Keys</code>
+     * or <code>Indexes</code>.
+     * <p>
+     * With lazy initialisation, each table gets its own holders, which are
+     * initialised only when the table's keys or indexes are first accessed.
+     * Otherwise, members are distributed to blocks of
+     * {@link #INITIALISER_SIZE} to avoid static initialisers &gt; 64kb.
+     */
+    private String holder(String prefix, int counter, TableDefinition table) {
+        return generateLazyInitialization()
+            ? prefix + "_" + getStrategy().getJavaClassName(table)
+            : prefix + (counter / INITIALISER_SIZE);
+    }
+
+    private void printHolder(JavaWriter out, boolean closePrevious, String holder) {
+        if (closePrevious)
+            out.tab(1).println("}");
+
+        out.println();
+
+        // Lazy holders are referenced directly from generated tables
+        if (generateLazyInitialization())
+            if (scala)
+                out.tab(1).println("object %s {", holder);
+            else
+                out.tab(1).println("public static class %s {", holder);
+        else
+            if (scala)
+                out.tab(1).println("private object %s {", holder);
+            else
+                out.tab(1).println("private static class %s {", holder);
+    }
+
+    /**
+     * A reference to a global key or index, which bypasses the eagerly
+     * initialised members of <code>Keys</code> and <code>Indexes</code> in
+     * favour of the per-table holder, with lazy initialisation.
+     */
+    private String globalReference(JavaWriter out, Definition definition, String prefix, TableDefinition table) {
+        final String id = getStrategy().getFullJavaIdentifier(definition);
+
+        if (!generateLazyInitialization())
+            return out.ref(id, 2);
+
+        final int i = id.lastIndexOf('.');
+        return out.ref(id.substring(0, i) + "." + holder(prefix, 0, table) + id.substring(i), 3);
+    }
+
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        generateEach(database.getTables(schema), Mode.RECORD, "Error while generating table record", new DefinitionTask<TableDefinition>() {
+            @Override
+            public void generate(TableDefinition table) {
                 generateRecord(table);
-            } catch (Exception e) {
-                log.error("Error while generating table record " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Table records generated");
     }
@@ -1873,13 +1953,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        generateEach(database.getTables(schema), Mode.INTERFACE, "Error while generating table interface", new DefinitionTask<TableDefinition>() {
+            @Override
+            public void generate(TableDefinition table) {
                 generateInterface(table);
-            } catch (Exception e) {
-                log.error("Error while generating table interface " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Table interfaces generated");
     }
@@ -2784,7 +2863,10 @@ public class JavaGenerator extends AbstractGenerator {
 
         for (RoutineDefinition routine : database.getRoutines(schema)) {
             try {
-                generateRoutine(schema, routine);
+                if (!upToDate(routine, Mode.DEFAULT)) {
+                    generateRoutine(schema, routine);
+                    generated(routine, Mode.DEFAULT);
+                }
             }
             catch (Exception e) {
                 log.error("Error while generating routine " + routine, e);
@@ -3003,14 +3085,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        generateEach(database.getTables(schema), Mode.DAO, "Error while generating table DAO", new DefinitionTask<TableDefinition>() {
+            @Override
+            public void generate(TableDefinition table) {
                 generateDao(table);
             }
-            catch (Exception e) {
-                log.error("Error while generating table DAO " + table, e);
-            }
-        }
+        });
 
         watch.splitInfo("Table DAOs generated");
     }
@@ -3235,14 +3315,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        generateEach(database.getTables(schema), Mode.POJO, "Error while generating table POJO", new DefinitionTask<TableDefinition>() {
+            @Override
+            public void generate(TableDefinition table) {
                 generatePojo(table);
             }
-            catch (Exception e) {
-                log.error("Error while generating table POJO " + table, e);
-            }
-        }
+        });
 
         watch.splitInfo("Table POJOs generated");
     }
@@ -3855,17 +3933,15 @@ public class JavaGenerator extends AbstractGenerator {
             printClassJavadoc(out, "The table <code>" + table.getQualifiedInputName() + "</code>.");
     }
 
-    protected void generateTables(SchemaDefinition schema) {
+    protected void generateTables(final SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        generateEach(database.getTables(schema), Mode.DEFAULT, "Error while generating table", new DefinitionTask<TableDefinition>() {
+            @Override
+            public void generate(TableDefinition table) {
                 generateTable(schema, table);
             }
-            catch (Exception e) {
-                log.error("Error while generating table " + table, e);
-            }
-        }
+        });
 
         watch.splitInfo("Tables generated");
     }
@@ -4116,7 +4192,9 @@ public class JavaGenerator extends AbstractGenerator {
 
             if (!indexes.isEmpty()) {
                 if (generateGlobalIndexReferences()) {
-                    final List<String> indexFullIds = out.ref(getStrategy().getFullJavaIdentifiers(indexes), 2);
+                    final List<String> indexFullIds = new ArrayList<>(indexes.size());
+                    for (IndexDefinition index : indexes)
+                        indexFullIds.add(globalReference(out, index, "Indexes", table));
 
                     if (scala) {
                         out.println();
@@ -4177,7 +4255,7 @@ public class JavaGenerator extends AbstractGenerator {
                 final String identityTypeFull = getJavaType(identity.getColumn().getType(resolver()));
                 final String identityType = out.ref(identityTypeFull);
                 final String identityFullId = generateGlobalKeyReferences()
-                    ? out.ref(getStrategy().getFullJavaIdentifier(identity), 2)
+                    ? globalReference(out, identity, "Identities", table)
                     : null;
 
                 if (scala) {
@@ -4215,7 +4293,7 @@ public class JavaGenerator extends AbstractGenerator {
             // The primary / main unique key
             if (primaryKey != null) {
                 final String keyFullId = generateGlobalKeyReferences()
-                    ? out.ref(getStrategy().getFullJavaIdentifier(primaryKey), 2)
+                    ? globalReference(out, primaryKey, "UniqueKeys", table)
                     : null;
 
                 if (scala) {
@@ -4248,7 +4326,9 @@ public class JavaGenerator extends AbstractGenerator {
             List<UniqueKeyDefinition> uniqueKeys = table.getUniqueKeys();
             if (uniqueKeys.size() > 0) {
                 if (generateGlobalKeyReferences()) {
-                    final List<String> keyFullIds = out.ref(getStrategy().getFullJavaIdentifiers(uniqueKeys), 2);
+                    final List<String> keyFullIds = new ArrayList<>(uniqueKeys.size());
+                    for (UniqueKeyDefinition uniqueKey : uniqueKeys)
+                        keyFullIds.add(globalReference(out, uniqueKey, "UniqueKeys", table));
 
                     if (scala) {
                         out.println();
@@ -4304,7 +4384,9 @@ public class JavaGenerator extends AbstractGenerator {
 
             // [#7554] Not yet supported with global key references turned off
             if (foreignKeys.size() > 0 && generateGlobalKeyReferences()) {
-                final List<String> keyFullIds = out.ref(getStrategy().getFullJavaIdentifiers(foreignKeys), 2);
+                final List<String> keyFullIds = new ArrayList<>(foreignKeys.size());
+                for (ForeignKeyDefinition foreignKey : foreignKeys)
+                    keyFullIds.add(globalReference(out, foreignKey, "ForeignKeys", table));
 
                 if (scala) {
                     out.println();
@@ -4322,7 +4404,7 @@ public class JavaGenerator extends AbstractGenerator {
                 // Outbound (to-one) implicit join paths
                 if (generateImplicitJoinPathsToOne()) {
                     for (ForeignKeyDefinition foreignKey : foreignKeys) {
-                        final String keyFullId = out.ref(getStrategy().getFullJavaIdentifier(foreignKey), 2);
+                        final String keyFullId = globalReference(out, foreignKey, "ForeignKeys", table);
                         final String referencedTableClassName = out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable()));
                         final String keyMethodName = out.ref(getStrategy().getJavaMethodName(foreignKey));
 
@@ -4959,12 +5041,15 @@ public class JavaGenerator extends AbstractGenerator {
                         ? escapeEntities(table.getComment())
                         : "The table <code>" + table.getQualifiedOutputName() + "</code>.";
 
-                    out.tab(1).javadoc(tableComment);
+                    // Instance fields would initialise all tables along with the schema
+                    if (!generateLazyInitialization()) {
+                        out.tab(1).javadoc(tableComment);
 
-                    if (scala)
-                        out.tab(1).println("val %s = %s", tableId, tableShortId);
-                    else
-                        out.tab(1).println("public final %s %s = %s;", tableClassName, tableId, tableShortId);
+                        if (scala)
+                            out.tab(1).println("val %s = %s", tableId, tableShortId);
+                        else
+                            out.tab(1).println("public final %s %s = %s;", tableClassName, tableId, tableShortId);
+                    }
 
                     // [#3797] Table-valued functions generate two different literals in
                     // globalObjectReferences
@@ -6824,4 +6909,175 @@ public class JavaGenerator extends AbstractGenerator {
         if (out.close())
             files.add(out.file());
     }
+
+    // -------------------------------------------------------------------------
+    // XXX Parallel generation
+    // -------------------------------------------------------------------------
+
+    /**
+     * A generation task for a single definition.
+     */
+    private interface DefinitionTask<D extends Definition> {
+        void generate(D definition);
+    }
+
+    /**
+     * Run a generation task for each definition, in parallel if
+     * {@link #generateParallelism()} allows for it.
+     * <p>
+     * Each task writes its own files, so the generated output does not depend
+     * on the order in which tasks complete. Errors are logged in definition
+     * order, as in serial generation. Artefacts that are up to date with the
+     * previous incremental code generation run are skipped.
+     */
+    private <D extends Definition> void generateEach(List<D> definitions, Mode mode, String error, final DefinitionTask<D> task) {
+        if (executor == null || definitions.size() < 2) {
+            for (D definition : definitions) {
+                try {
+                    if (!upToDate(definition, mode)) {
+                        task.generate(definition);
+                        generated(definition, mode);
+                    }
+                }
+                catch (Exception e) {
+                    log.error(error + " " + definition, e);
+                }
+            }
+
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(definitions.size());
+        for (final D definition : definitions)
+            futures.add(upToDate(definition, mode) ? null : executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    task.generate(definition);
+                }
+            }));
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                if (futures.get(i) != null) {
+                    futures.get(i).get();
+                    generated(definitions.get(i), mode);
+                }
+            }
+            catch (ExecutionException e) {
+                log.error(error + " " + definitions.get(i), e.getCause());
+            }
+            catch (InterruptedException e) {
+                for (Future<?> future : futures)
+                    if (future != null)
+                        future.cancel(true);
+
+                Thread.currentThread().interrupt();
+                throw new GeneratorException("Interrupted while generating code", e);
+            }
+        }
+    }
+
+    /**
+     * Start the executor for parallel generation.
+     * <p>
+     * Definitions are lazily initialised and cached by the {@link Database},
+     * which is not thread safe. All meta data that is needed by per-table
+     * generation tasks is thus loaded up front, after which the tasks only
+     * read it. Per-table generation code that starts reading any other meta
+     * data must have it loaded here as well.
+     */
+    private void startParallelGeneration() {
+        log.info("Loading meta data for parallel generation");
+
+        for (SchemaDefinition schema : database.getSchemata()) {
+            database.getSequences(schema);
+            database.getIdentities(schema);
+            database.getIndexes(schema);
+            database.getUniqueKeys(schema);
+            database.getForeignKeys(schema);
+            database.getCheckConstraints(schema);
+            database.getEmbeddables(schema);
+            database.getEnums(schema);
+            database.getDomains(schema);
+            database.getUDTs(schema);
+            database.getArrays(schema);
+            database.getRoutines(schema);
+            database.getPackages(schema);
+
+            for (TableDefinition table : database.getTables(schema)) {
+                for (ColumnDefinition column : table.getColumns()) {
+                    column.getType();
+                    column.getType(resolver());
+                }
+
+                table.getEmbeddables();
+                table.getIndexes();
+                table.getPrimaryKey();
+                table.getUniqueKeys();
+                table.getForeignKeys();
+                table.getCheckConstraints();
+                table.getIdentity();
+
+                if (table.isTableValuedFunction())
+                    table.getParameters();
+            }
+        }
+
+        watch.splitInfo("Meta data loaded");
+        executor = Executors.newFixedThreadPool(generateParallelism());
+    }
+
+    private void stopParallelGeneration() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX Incremental generation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether a definition's artefact is up to date with the previous
+     * incremental code generation run, in case of which it needn't be
+     * generated again.
+     */
+    private boolean upToDate(Definition definition, Mode mode) {
+        if (fingerprints == null)
+            return false;
+
+        File file = getFile(definition, mode);
+        String key = fingerprintKey(definition, mode);
+        String fingerprint = fingerprint(definition);
+
+        if (fingerprints.unchanged(key, fingerprint) && file.exists()) {
+            log.info("Skipping unchanged", file.getName());
+
+            files.add(file);
+            fingerprints.generated(key, fingerprint);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Remember that a definition's artefact is up to date.
+     */
+    private void generated(Definition definition, Mode mode) {
+        if (fingerprints != null)
+            fingerprints.generated(fingerprintKey(definition, mode), fingerprint(definition));
+    }
+
+    private String fingerprintKey(Definition definition, Mode mode) {
+        return mode + " " + definition.getQualifiedName() + (definition.getOverload() == null ? "" : " " + definition.getOverload());
+    }
+
+    private String fingerprint(Definition definition) {
+        return fingerprints.fingerprint(definition,
+            "schema version:" + schemaVersions.get(definition.getSchema()) + "\n" +
+            "catalog version:" + catalogVersions.get(definition.getCatalog())
+        );
+    }
 }
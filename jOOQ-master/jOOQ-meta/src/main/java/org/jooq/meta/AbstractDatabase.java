@@ -200,6 +200,9 @@ public abstract class AbstractDatabase implements Database {
     private List<PackageDefinition>                                          packages;
     private Relations                                                        relations;
 
+    // These lazily initialised caches are not thread safe. Parallel code
+    // generation populates them from a single thread before reading them
+    // concurrently, see JavaGenerator's parallel generation
     private transient Map<SchemaDefinition, List<SequenceDefinition>>        sequencesBySchema;
     private transient Map<SchemaDefinition, List<IdentityDefinition>>        identitiesBySchema;
     private transient Map<SchemaDefinition, List<IndexDefinition>>           indexesBySchema;
@@ -38,15 +38,17 @@
 package org.jooq.meta;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.jooq.meta.jaxb.RegexFlag;
 
 /**
  * A cache for {@link Pattern} instances.
+ * <p>
+ * This cache is thread safe, to allow for generating code in parallel.
  *
  * @author Lukas Eder
  */
@@ -56,7 +58,7 @@ public final class Patterns {
     private List<RegexFlag>            regexFlags;
 
     public Patterns() {
-        patterns = new HashMap<>();
+        patterns = new ConcurrentHashMap<>();
     }
 
     public final Pattern pattern(String regex) {
@@ -183,6 +183,12 @@ public class Generate implements Serializable, XMLAppendable
     protected String newline = "\\n";
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String indentation;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean lazyInitialization = false;
 
     /**
      * Generate index information.
@@ -1942,6 +1948,54 @@ public class Generate implements Serializable, XMLAppendable
         this.indentation = value;
     }
 
+    /**
+     * The number of threads used to generate per-table artefacts, such as tables, records, POJOs, interfaces, and DAOs. Routines and all other artefacts are generated serially. Values below 1 default to the number of available processors.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to generate per-table artefacts, such as tables, records, POJOs, interfaces, and DAOs. Routines and all other artefacts are generated serially. Values below 1 default to the number of available processors.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * Whether to skip generating artefacts of tables and routines whose meta data and code generation configuration are unchanged since the previous run, according to fingerprints stored in the target directory.
+     * 
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Whether to skip generating artefacts of tables and routines whose meta data and code generation configuration are unchanged since the previous run, according to fingerprints stored in the target directory.
+     * 
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
+    /**
+     * Whether generated Keys and Indexes should be distributed to lazily initialised per-table holder classes, and whether schema classes should omit table instance fields, such that only the tables that are actually used are initialised.
+     * 
+     */
+    public Boolean isLazyInitialization() {
+        return lazyInitialization;
+    }
+
+    /**
+     * Whether generated Keys and Indexes should be distributed to lazily initialised per-table holder classes, and whether schema classes should omit table instance fields, such that only the tables that are actually used are initialised.
+     * 
+     */
+    public void setLazyInitialization(Boolean value) {
+        this.lazyInitialization = value;
+    }
+
     public Generate withIndexes(Boolean value) {
         setIndexes(value);
         return this;
@@ -2345,6 +2399,33 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate per-table artefacts, such as tables, records, POJOs, interfaces, and DAOs. Routines and all other artefacts are generated serially. Values below 1 default to the number of available processors.
+     * 
+     */
+    public Generate withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    /**
+     * Whether to skip generating artefacts of tables and routines whose meta data and code generation configuration are unchanged since the previous run, according to fingerprints stored in the target directory.
+     * 
+     */
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
+    /**
+     * Whether generated Keys and Indexes should be distributed to lazily initialised per-table holder classes, and whether schema classes should omit table instance fields, such that only the tables that are actually used are initialised.
+     * 
+     */
+    public Generate withLazyInitialization(Boolean value) {
+        setLazyInitialization(value);
+        return this;
+    }
+
     @Override
     public final void appendTo(XMLBuilder builder) {
         builder.append("indexes", indexes);
@@ -2421,6 +2502,9 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("primaryKeyTypes", primaryKeyTypes);
         builder.append("newline", newline);
         builder.append("indentation", indentation);
+        builder.append("parallelism", parallelism);
+        builder.append("incremental", incremental);
+        builder.append("lazyInitialization", lazyInitialization);
     }
 
     @Override
@@ -3108,6 +3192,33 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
+        if (lazyInitialization == null) {
+            if (other.lazyInitialization!= null) {
+                return false;
+            }
+        } else {
+            if (!lazyInitialization.equals(other.lazyInitialization)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -3189,6 +3300,9 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((primaryKeyTypes == null)? 0 :primaryKeyTypes.hashCode()));
         result = ((prime*result)+((newline == null)? 0 :newline.hashCode()));
         result = ((prime*result)+((indentation == null)? 0 :indentation.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
+        result = ((prime*result)+((lazyInitialization == null)? 0 :lazyInitialization.hashCode()));
         return result;
     }
 
@@ -0,0 +1,248 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.BlobStreamBinding;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A wrapper type for binary large objects, whose content is streamed rather
+ * than materialised in memory.
+ * <p>
+ * Values fetched through the {@link BlobStreamBinding} are backed by a JDBC
+ * {@link Blob}, which stays bound to the connection or transaction that
+ * fetched it. Its content must be consumed before that connection or
+ * transaction is closed, and {@link #close()} should be called to free the
+ * underlying resources early.
+ * <p>
+ * Values created from an {@link InputStream} or a {@link Path} can be bound
+ * to statements through the {@link BlobStreamBinding}, in case of which the
+ * content is streamed to the server using
+ * {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream, long)}.
+ * Values created from an {@link InputStream} can be read only once, see
+ * {@link #isRepeatable()}.
+ *
+ * @author Lukas Eder
+ */
+public final class BlobStream implements Closeable {
+
+    private final Blob        blob;
+    private final byte[]      bytes;
+    private final Path        path;
+    private final InputStream stream;
+    private final long        length;
+
+    private BlobStream(Blob blob, byte[] bytes, Path path, InputStream stream, long length) {
+        this.blob = blob;
+        this.bytes = bytes;
+        this.path = path;
+        this.stream = stream;
+        this.length = length;
+    }
+
+    /**
+     * Create a value that is backed by a JDBC {@link Blob}.
+     */
+    public static final BlobStream valueOf(Blob blob) {
+        return blob == null ? null : new BlobStream(blob, null, null, null, -1L);
+    }
+
+    /**
+     * Create a value from an {@link InputStream} of a known length, or
+     * <code>-1</code> if the length is unknown.
+     */
+    public static final BlobStream valueOf(InputStream stream, long length) {
+        return stream == null ? null : new BlobStream(null, null, null, stream, length);
+    }
+
+    /**
+     * Create a value from a byte array.
+     */
+    public static final BlobStream valueOf(byte[] bytes) {
+        return bytes == null ? null : new BlobStream(null, bytes, null, null, bytes.length);
+    }
+
+    /**
+     * Create a value from the contents of a file.
+     */
+    public static final BlobStream valueOf(Path path) {
+        try {
+            return path == null ? null : new BlobStream(null, null, path, null, Files.size(path));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The length of the content in bytes, or <code>-1</code> if the length is
+     * unknown.
+     */
+    public final long length() {
+        if (blob != null) {
+            try {
+                return blob.length();
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Cannot get BLOB length", e);
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Whether {@link #inputStream()} returns a new stream on every call, i.e.
+     * whether this value is not backed by a single {@link InputStream}.
+     */
+    public final boolean isRepeatable() {
+        return stream == null;
+    }
+
+    /**
+     * Whether the content is already held in memory, i.e. whether
+     * {@link #bytes()} does not need to read it from a {@link Blob}, a file,
+     * or an {@link InputStream}.
+     */
+    public final boolean isMaterialised() {
+        return bytes != null;
+    }
+
+    /**
+     * A stream of the content.
+     *
+     * @see #isRepeatable()
+     */
+    public final InputStream inputStream() {
+        if (blob != null) {
+            try {
+                return blob.getBinaryStream();
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Cannot read BLOB", e);
+            }
+        }
+        else if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        else if (path != null) {
+            try {
+                return Files.newInputStream(path);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return stream;
+    }
+
+    /**
+     * A channel of the content.
+     *
+     * @see #inputStream()
+     */
+    public final ReadableByteChannel channel() {
+        return Channels.newChannel(inputStream());
+    }
+
+    /**
+     * Copy the content to an {@link OutputStream} using a constant amount of
+     * memory.
+     *
+     * @return The number of copied bytes.
+     */
+    public final long transferTo(OutputStream out) {
+        byte[] buffer = new byte[8192];
+        long result = 0L;
+
+        try (InputStream in = inputStream()) {
+            for (int read; (read = in.read(buffer)) != -1; result += read)
+                out.write(buffer, 0, read);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Materialise the content in memory.
+     */
+    public final byte[] bytes() {
+        if (bytes != null)
+            return bytes.clone();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transferTo(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Free the underlying {@link Blob}, or close the underlying
+     * {@link InputStream}, if any.
+     */
+    @Override
+    public final void close() {
+        if (blob != null)
+            JDBCUtils.safeFree(blob);
+        else if (stream != null)
+            JDBCUtils.safeClose(stream);
+    }
+
+    @Override
+    public String toString() {
+        return "BlobStream [length=" + length() + "]";
+    }
+}
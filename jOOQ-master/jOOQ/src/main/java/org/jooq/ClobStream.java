@@ -0,0 +1,234 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.ClobStreamBinding;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A wrapper type for character large objects, whose content is streamed
+ * rather than materialised in memory.
+ * <p>
+ * Values fetched through the {@link ClobStreamBinding} are backed by a JDBC
+ * {@link Clob}, which stays bound to the connection or transaction that
+ * fetched it. Its content must be consumed before that connection or
+ * transaction is closed, and {@link #close()} should be called to free the
+ * underlying resources early.
+ * <p>
+ * Values created from a {@link Reader} or a {@link Path} can be bound to
+ * statements through the {@link ClobStreamBinding}, in case of which the
+ * content is streamed to the server using
+ * {@link java.sql.PreparedStatement#setCharacterStream(int, Reader, long)}.
+ * Values created from a {@link Reader} can be read only once, see
+ * {@link #isRepeatable()}.
+ *
+ * @author Lukas Eder
+ */
+public final class ClobStream implements Closeable {
+
+    private final Clob    clob;
+    private final String  string;
+    private final Path    path;
+    private final Charset charset;
+    private final Reader  reader;
+    private final long    length;
+
+    private ClobStream(Clob clob, String string, Path path, Charset charset, Reader reader, long length) {
+        this.clob = clob;
+        this.string = string;
+        this.path = path;
+        this.charset = charset;
+        this.reader = reader;
+        this.length = length;
+    }
+
+    /**
+     * Create a value that is backed by a JDBC {@link Clob}.
+     */
+    public static final ClobStream valueOf(Clob clob) {
+        return clob == null ? null : new ClobStream(clob, null, null, null, null, -1L);
+    }
+
+    /**
+     * Create a value from a {@link Reader} of a known length in characters,
+     * or <code>-1</code> if the length is unknown.
+     */
+    public static final ClobStream valueOf(Reader reader, long length) {
+        return reader == null ? null : new ClobStream(null, null, null, null, reader, length);
+    }
+
+    /**
+     * Create a value from a string.
+     */
+    public static final ClobStream valueOf(String string) {
+        return string == null ? null : new ClobStream(null, string, null, null, null, string.length());
+    }
+
+    /**
+     * Create a value from the contents of a text file of unknown length.
+     */
+    public static final ClobStream valueOf(Path path, Charset charset) {
+        return path == null ? null : new ClobStream(null, null, path, charset, null, -1L);
+    }
+
+    /**
+     * The length of the content in characters, or <code>-1</code> if the
+     * length is unknown.
+     */
+    public final long length() {
+        if (clob != null) {
+            try {
+                return clob.length();
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Cannot get CLOB length", e);
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Whether {@link #reader()} returns a new reader on every call, i.e.
+     * whether this value is not backed by a single {@link Reader}.
+     */
+    public final boolean isRepeatable() {
+        return reader == null;
+    }
+
+    /**
+     * Whether the content is already held in memory, i.e. whether
+     * {@link #string()} does not need to read it from a {@link Clob}, a file,
+     * or a {@link Reader}.
+     */
+    public final boolean isMaterialised() {
+        return string != null;
+    }
+
+    /**
+     * A reader of the content.
+     *
+     * @see #isRepeatable()
+     */
+    public final Reader reader() {
+        if (clob != null) {
+            try {
+                return clob.getCharacterStream();
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Cannot read CLOB", e);
+            }
+        }
+        else if (string != null) {
+            return new StringReader(string);
+        }
+        else if (path != null) {
+            try {
+                return Files.newBufferedReader(path, charset);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return reader;
+    }
+
+    /**
+     * Copy the content to a {@link Writer} using a constant amount of memory.
+     *
+     * @return The number of copied characters.
+     */
+    public final long transferTo(Writer out) {
+        char[] buffer = new char[8192];
+        long result = 0L;
+
+        try (Reader in = reader()) {
+            for (int read; (read = in.read(buffer)) != -1; result += read)
+                out.write(buffer, 0, read);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Materialise the content in memory.
+     */
+    public final String string() {
+        if (string != null)
+            return string;
+
+        StringWriter out = new StringWriter();
+        transferTo(out);
+        return out.toString();
+    }
+
+    /**
+     * Free the underlying {@link Clob}, or close the underlying
+     * {@link Reader}, if any.
+     */
+    @Override
+    public final void close() {
+        if (clob != null)
+            JDBCUtils.safeFree(clob);
+        else if (reader != null)
+            JDBCUtils.safeClose(reader);
+    }
+
+    @Override
+    public String toString() {
+        return "ClobStream [length=" + length() + "]";
+    }
+}
@@ -41,8 +41,17 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 
+import org.jooq.conf.Settings;
+
 /**
  * A diagnostics listener.
+ * <p>
+ * The {@link #duplicateStatements(DiagnosticsContext)} and
+ * {@link #repeatedStatements(DiagnosticsContext)} events are delivered on the
+ * thread that prepares the statement, unless
+ * {@link Settings#isDiagnosticsAsynchronous()} is set, in case of which they
+ * are delivered on a background thread, possibly after the statement has
+ * completed.
  *
  * @author Lukas Eder
  */
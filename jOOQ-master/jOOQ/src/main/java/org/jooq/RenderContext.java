@@ -40,6 +40,7 @@ package org.jooq;
 import org.jooq.conf.ParamType;
 import org.jooq.conf.RenderKeywordCase;
 import org.jooq.conf.Settings;
+import org.jooq.exception.IOException;
 
 /**
  * The render context is used for rendering {@link QueryPart}'s to SQL.
@@ -72,6 +73,16 @@ public interface RenderContext extends Context<RenderContext> {
     @Override
     String render();
 
+    /**
+     * Append the context's underlying SQL statement to an {@link Appendable},
+     * such as a {@link java.io.Writer} or a {@link java.nio.CharBuffer},
+     * without creating an intermediary {@link String}.
+     *
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    void render(Appendable appendable) throws IOException;
+
     /**
      * Render a query part in a new context derived from this one. The rendered
      * SQL will not be appended to this context.
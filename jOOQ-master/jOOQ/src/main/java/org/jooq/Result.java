@@ -1670,6 +1670,23 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
      */
     Map<Record, Result<R>> intoGroups(Field<?>[] keys) throws IllegalArgumentException;
 
+    /**
+     * Return a {@link Map} with the indexes of this result's records grouped
+     * by the given keys.
+     * <p>
+     * This is a lightweight alternative to {@link #intoGroups(Field[])} for
+     * large results, which does not create a <code>Result</code> per group.
+     * The indexes of each group are in ascending order and can be used with
+     * {@link #get(int)}.
+     *
+     * @param keys The keys. If this is <code>null</code> or an empty array, the
+     *            resulting map will contain at most one entry.
+     * @return A Map containing grouped record indexes
+     * @throws IllegalArgumentException If any of the argument fields is not
+     *             contained in {@link #fieldsRow()}
+     */
+    Map<Record, int[]> intoGroupIndexes(Field<?>[] keys) throws IllegalArgumentException;
+
     /**
      * Return a {@link Map} with the result grouped by the given keys.
      * <p>
@@ -2973,7 +2990,7 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
      * @param fields The fields whose values should be interned
      * @return The same result
      * @see Result#intern(Field...)
-     * @see String#intern()
+     * @see org.jooq.conf.Settings#getFetchInternDictionarySize()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -2988,9 +3005,10 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
      * given set of field indexes. Use this method to save memory when a large
      * result set contains many identical string literals.
      * <p>
-     * Please refer to {@link String#intern()} and to publicly available
-     * literature to learn more about potential side-effects of string
-     * interning.
+     * Values are canonicalised using a dictionary per field, which is bounded
+     * by {@link org.jooq.conf.Settings#getFetchInternDictionarySize()}. Unlike
+     * {@link String#intern()}, this does not write to the JVM's global string
+     * table.
      * <p>
      * Future versions of jOOQ may also "intern" other data types, such as
      * {@link Integer}, {@link Long}, within a <code>Result</code> object.
@@ -2998,7 +3016,7 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
      * @param fieldIndexes The field indexes whose values should be interned
      * @return The same result
      * @see Result#intern(Field...)
-     * @see String#intern()
+     * @see org.jooq.conf.Settings#getFetchInternDictionarySize()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -3014,7 +3032,7 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
      * @param fieldNames The field names whose values should be interned
      * @return The same result
      * @see Result#intern(Field...)
-     * @see String#intern()
+     * @see org.jooq.conf.Settings#getFetchInternDictionarySize()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -3030,7 +3048,7 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
      * @param fieldNames The field names whose values should be interned
      * @return The same result
      * @see Result#intern(Field...)
-     * @see String#intern()
+     * @see org.jooq.conf.Settings#getFetchInternDictionarySize()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
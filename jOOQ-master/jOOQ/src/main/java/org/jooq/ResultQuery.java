@@ -38,6 +38,7 @@
 
 package org.jooq;
 
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -62,6 +63,7 @@ import javax.sql.DataSource;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.NoDataFoundException;
@@ -383,6 +385,46 @@ extends
      */
     <X, A> X collect(Collector<? super R, A, X> collector) throws DataAccessException;
 
+    /**
+     * Execute the query and export its result to a UTF-8 encoded CSV stream.
+     * <p>
+     * The output is the same as that of
+     * {@link Cursor#formatCSV(OutputStream, CSVFormat)} on a
+     * {@link #fetchLazy()} cursor, except for the character encoding, but no
+     * {@link Record} is created along the way. Values are read from the JDBC
+     * {@link ResultSet} and encoded directly to a reusable buffer. As such,
+     * no {@link ExecuteListener#recordStart(ExecuteContext)} or
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events are produced.
+     * <p>
+     * The stream is flushed, but not closed.
+     *
+     * @param stream The stream to write to.
+     * @param format The CSV format, or <code>null</code> for the default.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException if something went wrong writing to the stream
+     */
+    void exportCSV(OutputStream stream, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and export its result to a UTF-8 encoded JSON stream.
+     * <p>
+     * The output is the same as that of
+     * {@link Cursor#formatJSON(OutputStream, JSONFormat)} on a
+     * {@link #fetchLazy()} cursor, except for the character encoding, but no
+     * {@link Record} is created along the way. Values are read from the JDBC
+     * {@link ResultSet} and encoded directly to a reusable buffer. As such,
+     * no {@link ExecuteListener#recordStart(ExecuteContext)} or
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events are produced.
+     * <p>
+     * The stream is flushed, but not closed.
+     *
+     * @param stream The stream to write to.
+     * @param format The JSON format, or <code>null</code> for the default.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException if something went wrong writing to the stream
+     */
+    void exportJSON(OutputStream stream, JSONFormat format) throws DataAccessException, IOException;
+
 
 
     /**
@@ -3955,7 +3997,7 @@ extends
      * @param fields The fields whose values should be interned
      * @return The same result query
      * @see Result#intern(Field...)
-     * @see String#intern()
+     * @see Settings#isFetchInternLowCardinalityStrings()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -3973,7 +4015,7 @@ extends
      * @param fieldIndexes The field indexes whose values should be interned
      * @return The same result query
      * @see Result#intern(int...)
-     * @see String#intern()
+     * @see Settings#isFetchInternLowCardinalityStrings()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -3991,7 +4033,7 @@ extends
      * @param fieldNames The field names whose values should be interned
      * @return The same result query
      * @see Result#intern(String...)
-     * @see String#intern()
+     * @see Settings#isFetchInternLowCardinalityStrings()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -4009,7 +4051,7 @@ extends
      * @param fieldNames The field names whose values should be interned
      * @return The same result query
      * @see Result#intern(Name...)
-     * @see String#intern()
+     * @see Settings#isFetchInternLowCardinalityStrings()
      *
      * @deprecated - 3.10 - [#6254] - This functionality is no longer supported
      *             and will be removed in 4.0
@@ -41,10 +41,18 @@ import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.schema;
 import static org.jooq.tools.StringUtils.isBlank;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 
 import org.jooq.conf.MappedCatalog;
 import org.jooq.conf.MappedSchema;
@@ -54,7 +62,6 @@ import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.impl.DSL;
 import org.jooq.tools.JooqLogger;
-import org.jooq.tools.StringUtils;
 
 /**
  * General mapping of generated artefacts onto run-time substitutes.
@@ -89,20 +96,42 @@ public class SchemaMapping implements Serializable {
     /**
      * Generated UID
      */
-    private static final long                        serialVersionUID  = 8269660159338710470L;
-    private static final JooqLogger                  log               = JooqLogger.getLogger(SchemaMapping.class);
-    private static volatile boolean                  loggedDeprecation = false;
+    private static final long                        serialVersionUID   = 8269660159338710470L;
+    private static final JooqLogger                  log                = JooqLogger.getLogger(SchemaMapping.class);
+    private static volatile boolean                  loggedDeprecation  = false;
+
+
+    /**
+     * The maximum number of distinct {@link RenderMapping} indexes shared
+     * between mappings, beyond which additional indexes are no longer shared.
+     */
+    private static final int                         MAX_SHARED_INDEXES = 1024;
 
     private final Configuration                      configuration;
-    private volatile transient Map<String, Catalog>  catalogs;
-    private volatile transient Map<String, Schema>   schemata;
-    private volatile transient Map<String, Table<?>> tables;
+    private transient ConcurrentMap<Index, Index>    indexes;
+    private volatile transient BoundIndex            bound;
 
     /**
      * Construct a mapping from a {@link Configuration} object
      */
     public SchemaMapping(Configuration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * Construct a mapping from a {@link Configuration} object, sharing
+     * compiled mapping indexes and their cached mapped objects with another
+     * mapping, e.g. the mapping of a parent {@link Configuration}.
+     * <p>
+     * This speeds up mapping when many configurations are derived from a
+     * common parent with one of a set of recurring {@link RenderMapping}
+     * settings, e.g. one per tenant in a multi-tenant application.
+     */
+    public SchemaMapping(Configuration configuration, SchemaMapping parent) {
         this.configuration = configuration;
+        this.indexes = parent != null
+            ? parent.indexes
+            : new ConcurrentHashMap<>();
     }
 
     private final RenderMapping mapping() {
@@ -152,6 +181,7 @@ public class SchemaMapping implements Serializable {
         logDeprecation();
 
         mapping().setDefaultSchema(schemaName);
+        invalidate();
     }
 
     /**
@@ -179,6 +209,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         schema.setOutput(outputSchema);
+        invalidate();
     }
 
     /**
@@ -263,6 +294,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         table.setOutput(outputTable);
+        invalidate();
     }
 
     public Catalog map(Catalog catalog) {
@@ -280,45 +312,35 @@ public class SchemaMapping implements Serializable {
         // [#2089] DefaultCatalog has an empty schema name
         // But we're mapping those names as well
         String catalogName = result.getName();
+        Index index = index();
 
         // [#4642] Don't initialise catalog mapping if not necessary
-        if (!mapping().getCatalogs().isEmpty()) {
+        if (!index.catalogs.isEmpty()) {
+            Catalog mapped = index.catalogCache.get(catalogName);
 
-            // Lazy initialise catalog mapping
-            if (!getCatalogs().containsKey(catalogName)) {
+            // Lazy initialise catalog mapping. Concurrent initialisations
+            // produce equivalent results, of which the first one is kept
+            if (mapped == null) {
+                IndexEntry c = index.catalogs.first(catalogName);
 
-                // [#1857] thread-safe lazy initialisation for those users who
-                // want to use a Configuration and dependent objects in a "thread-safe" manner
-                synchronized (this) {
-                    if (!getCatalogs().containsKey(catalogName)) {
-                        for (MappedCatalog c : mapping().getCatalogs()) {
+                // A configured mapping was found, add a renamed catalog
+                if (c != null) {
+                    String output = c.output(catalogName);
 
-                            // A configured mapping was found, add a renamed catalog
-                            if (matches(c, catalogName)) {
-
-                                // Ignore self-mappings and void-mappings
-                                if (!isBlank(c.getOutput()))
-                                    if (c.getInput() != null && !c.getOutput().equals(catalogName))
-                                        result = new RenamedCatalog(result, c.getOutput());
-                                    else if (c.getInputExpression() != null)
-                                        result = new RenamedCatalog(result, c.getInputExpression().matcher(catalogName).replaceAll(c.getOutput()));
-
-                                break;
-                            }
-                        }
-
-                        // Add mapped catalog or self if no mapping was found
-                        getCatalogs().put(catalogName, result);
-                    }
+                    if (output != null)
+                        result = new RenamedCatalog(result, output);
                 }
+
+                // Add mapped catalog or self if no mapping was found
+                mapped = putIfAbsent(index.catalogCache, catalogName, result);
             }
 
-            result = getCatalogs().get(catalogName);
+            result = mapped;
         }
 
         // The configured default catalog is mapped to "null". This prevents
         // it from being rendered to SQL
-        if ("".equals(result.getName()) || result.getName().equals(mapping().getDefaultCatalog()))
+        if ("".equals(result.getName()) || result.getName().equals(index.defaultCatalog))
             result = null;
 
         return result;
@@ -342,83 +364,70 @@ public class SchemaMapping implements Serializable {
         if (result == null)
             result = schema(name(""));
 
-        Catalog catalog = result.getCatalog();
-        if (catalog == null)
-            catalog = DSL.catalog(name(""));
-
         // [#2089] DefaultSchema has an empty schema name
         // [#7498] But we're mapping those names as well
-        String catalogName = catalog.getName();
+        Catalog catalog = result.getCatalog();
+        String catalogName = catalog == null ? "" : catalog.getName();
         String schemaName = result.getName();
-        String key = StringUtils.isEmpty(catalogName) ? schemaName : catalogName + '.' + schemaName;
+        Index index = index();
 
         // [#4642] Don't initialise schema mapping if not necessary
-        if (!mapping().getSchemata().isEmpty() || !mapping().getCatalogs().isEmpty()) {
-
-            // Lazy initialise schema mapping
-            if (!getSchemata().containsKey(key)) {
-
-                // [#1857] thread-safe lazy initialisation for those users who
-                // want to use a Configuration and dependent objects in a "thread-safe" manner
-                synchronized (this) {
-                    if (!getSchemata().containsKey(key)) {
-
-                        catalogLoop:
-                        for (MappedCatalog c : mapping().getCatalogs()) {
-                            if (matches(c, catalogName)) {
-                                for (MappedSchema s : c.getSchemata()) {
-                                    if (matches(s, schemaName)) {
-
-                                        // Ignore self-mappings and void-mappings
-                                        if (!isBlank(s.getOutput()))
-                                            if (s.getInput() != null && !s.getOutput().equals(schemaName))
-                                                result = new RenamedSchema(map(catalog), result, s.getOutput());
-                                            else if (s.getInputExpression() != null)
-                                                result = new RenamedSchema(map(catalog), result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
-
-                                        break catalogLoop;
-                                    }
-                                }
-
-                                // [#7498] Even without schema mapping configuration, we may still need to map the catalog
-                                result = new RenamedSchema(map(catalog), result, schemaName);
-                                break catalogLoop;
-                            }
-                        }
+        if (!index.schemata.isEmpty() || !index.catalogs.isEmpty()) {
+            ConcurrentMap<String, Schema> cache = nested(index.schemaCache, catalogName);
+            Schema mapped = cache.get(schemaName);
+
+            // Lazy initialise schema mapping. Concurrent initialisations
+            // produce equivalent results, of which the first one is kept
+            if (mapped == null) {
+                if (catalog == null)
+                    catalog = DSL.catalog(name(""));
+
+                IndexEntry c = index.catalogs.first(catalogName);
+                if (c != null) {
+                    IndexEntry s = c.children.first(schemaName);
+
+                    if (s != null) {
+
+                        // Ignore self-mappings and void-mappings
+                        String output = s.output(schemaName);
+
+                        if (output != null)
+                            result = new RenamedSchema(map(catalog), result, output);
+                    }
 
-                        if (!(result instanceof RenamedSchema))
-                            for (MappedSchema s : mapping().getSchemata()) {
+                    // [#7498] Even without schema mapping configuration, we may still need to map the catalog
+                    else
+                        result = new RenamedSchema(map(catalog), result, schemaName);
+                }
 
-                                // A configured mapping was found, add a renamed schema
-                                if (matches(s, schemaName)) {
+                if (!(result instanceof RenamedSchema)) {
+                    IndexEntry s = index.schemata.first(schemaName);
 
-                                    // Ignore self-mappings and void-mappings
-                                    if (!isBlank(s.getOutput()))
-                                        if (s.getInput() != null && !s.getOutput().equals(schemaName))
-                                            result = new RenamedSchema(catalog, result, s.getOutput());
-                                        else if (s.getInputExpression() != null)
-                                            result = new RenamedSchema(catalog, result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
+                    // A configured mapping was found, add a renamed schema
+                    if (s != null) {
 
-                                    break;
-                                }
-                            }
+                        // Ignore self-mappings and void-mappings
+                        String output = s.output(schemaName);
 
-                        // Add mapped schema or self if no mapping was found
-                        getSchemata().put(key, result);
+                        if (output != null)
+                            result = new RenamedSchema(catalog, result, output);
                     }
                 }
+
+                // Add mapped schema or self if no mapping was found
+                mapped = putIfAbsent(cache, schemaName, result);
             }
 
-            result = getSchemata().get(key);
+            result = mapped;
         }
 
         // The configured default schema is mapped to "null". This prevents
         // it from being rendered to SQL
         if ("".equals(result.getName())
-            || result.getName().equals(mapping().getDefaultSchema())
+            || result.getName().equals(index.defaultSchema)
                 && (result.getCatalog() == null
                     || "".equals(result.getCatalog().getName())
-                    || result.getCatalog().getName().equals(mapping().getDefaultCatalog())))
+                    || result.getCatalog().getName().equals(index.defaultCatalog)))
             result = null;
 
         return result;
@@ -434,116 +443,86 @@ public class SchemaMapping implements Serializable {
     public <R extends Record> Table<R> map(Table<R> table) {
         Table<R> result = table;
 
+        if (result == null)
+            return result;
+
+        Index index = index();
+
         // [#4652] Don't initialise table mapping if not necessary
-        if (result != null && (!mapping().getSchemata().isEmpty() || !mapping().getCatalogs().isEmpty())) {
+        if (!index.schemata.isEmpty() || !index.catalogs.isEmpty()) {
             Catalog catalog = result.getCatalog();
             Schema schema = result.getSchema();
 
             // [#1189] Schema can be null in SQLite
             // [#2089] DefaultSchema have empty schema names
-            // [#1186] TODO: replace this by calling table.getQualifiedName()
-            if (catalog == null)
-                catalog = DSL.catalog(name(""));
-            if (schema == null)
-                schema = schema(name(""));
-
-            String catalogName = catalog.getName();
-            String schemaName = schema.getName();
+            String catalogName = catalog == null ? "" : catalog.getName();
+            String schemaName = schema == null ? "" : schema.getName();
             String tableName = result.getName();
-            String key = StringUtils.isEmpty(catalogName) ?
-                (StringUtils.isEmpty(schemaName) ? tableName : (schemaName + "." + tableName))
-                : (catalogName + '.' + schemaName + '.' + tableName);
-
-            // Lazy initialise table mapping
-            if (!getTables().containsKey(key)) {
-
-                // [#1857] thread-safe lazy initialisation for those users who
-                // want to use Configuration and dependent objects in a "thread-safe" manner
-                synchronized (this) {
-                    if (!getTables().containsKey(key)) {
-
-                        catalogLoop:
-                        for (MappedCatalog c : mapping().getCatalogs()) {
-                            if (matches(c, catalogName)) {
-                                for (MappedSchema s : c.getSchemata()) {
-                                    if (matches(s, schemaName)) {
-                                        for (MappedTable t : s.getTables()) {
-
-                                            // A configured mapping was found, add a renamed table
-                                            if (matches(t, tableName)) {
-
-                                                // Ignore self-mappings and void-mappings
-                                                if (!isBlank(t.getOutput()))
-                                                    if (t.getInput() != null && !t.getOutput().equals(tableName))
-                                                        result = new RenamedTable<>(map(schema), result, t.getOutput());
-                                                    else if (t.getInputExpression() != null)
-                                                        result = new RenamedTable<>(map(schema), result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
-
-                                                break catalogLoop;
-                                            }
-                                        }
-                                    }
-                                }
-
-                                // [#7498] Even without table mapping configuration, we may still need to map the schema
-                                result = new RenamedTable<>(map(schema), result, tableName);
-                                break catalogLoop;
-                            }
+
+            ConcurrentMap<String, Table<?>> cache = nested(nested(index.tableCache, catalogName), schemaName);
+            Table<?> mapped = cache.get(tableName);
+
+            // Lazy initialise table mapping. Concurrent initialisations
+            // produce equivalent results, of which the first one is kept
+            if (mapped == null) {
+                if (schema == null)
+                    schema = schema(name(""));
+
+                IndexEntry c = index.catalogs.first(catalogName);
+                if (c != null) {
+                    IndexEntry t = null;
+
+                    // The first table matching in any of the catalog's matching schemata wins
+                    for (int i = c.children.next(schemaName, 0); t == null && i >= 0; i = c.children.next(schemaName, i + 1))
+                        t = c.children.entries[i].children.first(tableName);
+
+                    // A configured mapping was found, add a renamed table
+                    if (t != null) {
+
+                        // Ignore self-mappings and void-mappings
+                        String output = t.output(tableName);
+
+                        if (output != null)
+                            result = new RenamedTable<>(map(schema), result, output);
+                    }
+
+                    // [#7498] Even without table mapping configuration, we may still need to map the schema
+                    else
+                        result = new RenamedTable<>(map(schema), result, tableName);
+                }
+
+                if (!(result instanceof RenamedTable)) {
+                    IndexEntry s = index.schemata.first(schemaName);
+
+                    if (s != null) {
+                        IndexEntry t = s.children.first(tableName);
+
+                        // A configured mapping was found, add a renamed table
+                        if (t != null) {
+
+                            // Ignore self-mappings and void-mappings
+                            String output = t.output(tableName);
+
+                            if (output != null)
+                                result = new RenamedTable<>(map(schema), result, output);
                         }
 
-                        if (!(result instanceof RenamedTable))
-                            schemaLoop:
-                            for (MappedSchema s : mapping().getSchemata()) {
-                                if (matches(s, schemaName)) {
-                                    for (MappedTable t : s.getTables()) {
-
-                                        // A configured mapping was found, add a renamed table
-                                        if (matches(t, tableName)) {
-
-                                            // Ignore self-mappings and void-mappings
-                                            if (!isBlank(t.getOutput()))
-                                                if (t.getInput() != null && !t.getOutput().equals(tableName))
-                                                    result = new RenamedTable<>(map(schema), result, t.getOutput());
-                                                else if (t.getInputExpression() != null)
-                                                    result = new RenamedTable<>(map(schema), result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
-
-                                            break schemaLoop;
-                                        }
-                                    }
-
-                                    // [#7498] Even without table mapping configuration, we may still need to map the schema
-                                    result = new RenamedTable<>(map(schema), result, tableName);
-                                    break schemaLoop;
-                                }
-                            }
-
-                        // Add mapped table or self if no mapping was found
-                        getTables().put(key, result);
+                        // [#7498] Even without table mapping configuration, we may still need to map the schema
+                        else
+                            result = new RenamedTable<>(map(schema), result, tableName);
                     }
                 }
+
+                // Add mapped table or self if no mapping was found
+                mapped = putIfAbsent(cache, tableName, result);
             }
 
-            result = (Table<R>) getTables().get(key);
+            result = (Table<R>) mapped;
         }
 
         return result;
     }
 
-    private final boolean matches(MappedCatalog c, String catalogName) {
-        return (c.getInput() != null && catalogName.equals(c.getInput()))
-            || (c.getInputExpression() != null && c.getInputExpression().matcher(catalogName).matches());
-    }
-
-    private final boolean matches(MappedSchema s, String schemaName) {
-        return (s.getInput() != null && schemaName.equals(s.getInput()))
-            || (s.getInputExpression() != null && s.getInputExpression().matcher(schemaName).matches());
-    }
-
-    private final boolean matches(MappedTable t, String tableName) {
-        return (t.getInput() != null && tableName.equals(t.getInput()))
-            || (t.getInputExpression() != null && t.getInputExpression().matcher(tableName).matches());
-    }
-
     /**
      * Synonym for {@link #use(String)}. Added for better interoperability with
      * Spring
@@ -561,46 +540,303 @@ public class SchemaMapping implements Serializable {
         }
     }
 
-    private final Map<String, Catalog> getCatalogs() {
-        if (catalogs == null) {
+    // ------------------------------------------------------------------------
+    // Precompiled mapping index
+    // ------------------------------------------------------------------------
 
-            // [#1857] thread-safe lazy initialisation for those users who
-            // want to use Configuration and dependent objects in a "thread-safe" manner
-            synchronized (this) {
-                if (catalogs == null) {
-                    catalogs = new HashMap<>();
-                }
-            }
+    /**
+     * Get the index for the current {@link RenderMapping}, compiling it, or
+     * looking up an equivalent index shared with other mappings, if needed.
+     */
+    private final Index index() {
+        RenderMapping m = mapping();
+        boolean c = renderCatalog();
+        boolean s = renderSchema();
+        BoundIndex b = bound;
+
+        if (b == null || b.mapping != m || b.index.renderCatalog != c || b.index.renderSchema != s) {
+            Index index = new Index(m, c, s);
+            Index shared = indexes.get(index);
+
+            if (shared != null)
+                index = shared;
+            else if (indexes.size() < MAX_SHARED_INDEXES && (shared = indexes.putIfAbsent(index, index)) != null)
+                index = shared;
+
+            bound = b = new BoundIndex(m, index);
         }
-        return catalogs;
+
+        return b.index;
+    }
+
+    /**
+     * Invalidate the index after the {@link RenderMapping} has been modified.
+     */
+    private final void invalidate() {
+        bound = null;
     }
 
-    private final Map<String, Schema> getSchemata() {
-        if (schemata == null) {
+    private static final <K, V> V putIfAbsent(ConcurrentMap<K, V> map, K key, V value) {
+        V previous = map.putIfAbsent(key, value);
+        return previous != null ? previous : value;
+    }
 
-            // [#1857] thread-safe lazy initialisation for those users who
-            // want to use Configuration and dependent objects in a "thread-safe" manner
-            synchronized (this) {
-                if (schemata == null) {
-                    schemata = new HashMap<>();
-                }
+    private static final <V> ConcurrentMap<String, V> nested(ConcurrentMap<String, ConcurrentMap<String, V>> map, String key) {
+        ConcurrentMap<String, V> result = map.get(key);
+        return result != null ? result : putIfAbsent(map, key, new ConcurrentHashMap<String, V>());
+    }
+
+    /**
+     * The {@link Index} that was compiled for a given {@link RenderMapping}
+     * instance.
+     */
+    private static final class BoundIndex {
+        final RenderMapping mapping;
+        final Index         index;
+
+        BoundIndex(RenderMapping mapping, Index index) {
+            this.mapping = mapping;
+            this.index = index;
+        }
+    }
+
+    /**
+     * An immutable, compiled representation of a {@link RenderMapping}, along
+     * with the concurrent caches of objects mapped through it.
+     * <p>
+     * Indexes are equal if they were compiled from equal {@link RenderMapping}
+     * contents and flags, in case of which they produce the same mapped
+     * objects, and can thus share their caches.
+     */
+    private static final class Index {
+        final boolean                                                                    renderCatalog;
+        final boolean                                                                    renderSchema;
+        final String                                                                     defaultCatalog;
+        final String                                                                     defaultSchema;
+        final IndexLookup                                                                catalogs;
+        final IndexLookup                                                                schemata;
+        final int                                                                        hash;
+
+        final ConcurrentMap<String, Catalog>                                             catalogCache;
+        final ConcurrentMap<String, ConcurrentMap<String, Schema>>                       schemaCache;
+        final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, Table<?>>>> tableCache;
+
+        Index(RenderMapping mapping, boolean renderCatalog, boolean renderSchema) {
+            List<MappedCatalog> c = mapping.getCatalogs();
+            List<MappedSchema> s = mapping.getSchemata();
+
+            IndexEntry[] catalogEntries = new IndexEntry[c.size()];
+            for (int i = 0; i < catalogEntries.length; i++) {
+                MappedCatalog mc = c.get(i);
+                catalogEntries[i] = new IndexEntry(mc.getInput(), mc.getInputExpression(), mc.getOutput(), schemata(mc.getSchemata()));
+            }
+
+            this.renderCatalog = renderCatalog;
+            this.renderSchema = renderSchema;
+            this.defaultCatalog = mapping.getDefaultCatalog();
+            this.defaultSchema = mapping.getDefaultSchema();
+            this.catalogs = new IndexLookup(catalogEntries);
+            this.schemata = schemata(s);
+            this.hash = Objects.hash(renderCatalog, renderSchema, defaultCatalog, defaultSchema, catalogs, schemata);
+
+            this.catalogCache = new ConcurrentHashMap<>();
+            this.schemaCache = new ConcurrentHashMap<>();
+            this.tableCache = new ConcurrentHashMap<>();
+        }
+
+        private static final IndexLookup schemata(List<MappedSchema> s) {
+            IndexEntry[] entries = new IndexEntry[s.size()];
+
+            for (int i = 0; i < entries.length; i++) {
+                MappedSchema ms = s.get(i);
+                entries[i] = new IndexEntry(ms.getInput(), ms.getInputExpression(), ms.getOutput(), tables(ms.getTables()));
             }
+
+            return new IndexLookup(entries);
+        }
+
+        private static final IndexLookup tables(List<MappedTable> t) {
+            IndexEntry[] entries = new IndexEntry[t.size()];
+
+            for (int i = 0; i < entries.length; i++) {
+                MappedTable mt = t.get(i);
+                entries[i] = new IndexEntry(mt.getInput(), mt.getInputExpression(), mt.getOutput(), null);
+            }
+
+            return new IndexLookup(entries);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Index))
+                return false;
+
+            Index other = (Index) obj;
+            return hash == other.hash
+                && renderCatalog == other.renderCatalog
+                && renderSchema == other.renderSchema
+                && Objects.equals(defaultCatalog, other.defaultCatalog)
+                && Objects.equals(defaultSchema, other.defaultSchema)
+                && catalogs.equals(other.catalogs)
+                && schemata.equals(other.schemata);
         }
-        return schemata;
     }
 
-    private final Map<String, Table<?>> getTables() {
-        if (tables == null) {
+    /**
+     * A list of {@link MappedCatalog}, {@link MappedSchema}, or
+     * {@link MappedTable} entries, indexed by their <code>input</code> names.
+     * <p>
+     * Like the linear search over the configuration, lookups return the first
+     * entry in list order that matches either by <code>input</code> or by
+     * <code>inputExpression</code>, but only the (usually few)
+     * <code>inputExpression</code> entries are scanned.
+     */
+    private static final class IndexLookup {
+        private static final int[]       NO_INDEXES = {};
+
+        final IndexEntry[]               entries;
+        private final Map<String, int[]> inputs;
+        private final int[]              expressions;
+
+        IndexLookup(IndexEntry[] entries) {
+            Map<String, int[]> i = new HashMap<>();
+            int[] e = new int[entries.length];
+            int expressionCount = 0;
+
+            for (int j = 0; j < entries.length; j++) {
+                if (entries[j].input != null) {
+                    int[] existing = i.get(entries[j].input);
 
-            // [#1857] thread-safe lazy initialisation for those users who
-            // want to use Configuration and dependent objects in a "thread-safe" manner
-            synchronized (this) {
-                if (tables == null) {
-                    tables = new HashMap<>();
+                    if (existing == null) {
+                        i.put(entries[j].input, new int[] { j });
+                    }
+                    else {
+                        existing = Arrays.copyOf(existing, existing.length + 1);
+                        existing[existing.length - 1] = j;
+                        i.put(entries[j].input, existing);
+                    }
                 }
+
+                if (entries[j].expression != null)
+                    e[expressionCount++] = j;
             }
+
+            this.entries = entries;
+            this.inputs = i;
+            this.expressions = expressionCount == 0 ? NO_INDEXES : Arrays.copyOf(e, expressionCount);
+        }
+
+        final boolean isEmpty() {
+            return entries.length == 0;
+        }
+
+        /**
+         * The first entry matching a name, or <code>null</code>.
+         */
+        final IndexEntry first(String name) {
+            int i = next(name, 0);
+            return i >= 0 ? entries[i] : null;
+        }
+
+        /**
+         * The position of the next entry at or after <code>from</code>
+         * matching a name, or <code>-1</code>.
+         */
+        final int next(String name, int from) {
+            int result = Integer.MAX_VALUE;
+            int[] i = inputs.get(name);
+
+            if (i != null)
+                for (int j : i)
+                    if (j >= from) {
+                        result = j;
+                        break;
+                    }
+
+            for (int j : expressions)
+                if (j >= result)
+                    break;
+                else if (j >= from && entries[j].expression.matcher(name).matches()) {
+                    result = j;
+                    break;
+                }
+
+            return result == Integer.MAX_VALUE ? -1 : result;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(entries);
         }
-        return tables;
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof IndexLookup && Arrays.equals(entries, ((IndexLookup) obj).entries);
+        }
+    }
+
+    /**
+     * A compiled {@link MappedCatalog}, {@link MappedSchema}, or
+     * {@link MappedTable}.
+     */
+    private static final class IndexEntry {
+        final String      input;
+        final Pattern     expression;
+        final String      output;
+        final IndexLookup children;
+
+        IndexEntry(String input, Pattern expression, String output, IndexLookup children) {
+            this.input = input;
+            this.expression = expression;
+            this.output = output;
+            this.children = children;
+        }
+
+        /**
+         * The output name for a matched input name, or <code>null</code> for
+         * self-mappings and void-mappings.
+         */
+        final String output(String name) {
+            if (!isBlank(output))
+                if (input != null && !output.equals(name))
+                    return output;
+                else if (expression != null)
+                    return expression.matcher(name).replaceAll(output);
+
+            return null;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(input, expression == null ? null : expression.pattern(), output, children);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof IndexEntry))
+                return false;
+
+            IndexEntry other = (IndexEntry) obj;
+            return Objects.equals(input, other.input)
+                && Objects.equals(expression == null ? null : expression.pattern(), other.expression == null ? null : other.expression.pattern())
+                && Objects.equals(output, other.output)
+                && Objects.equals(children, other.children);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        indexes = new ConcurrentHashMap<>();
     }
 
     // ------------------------------------------------------------------------
@@ -62,6 +62,7 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
@@ -165,6 +166,90 @@ public interface Select<R extends Record> extends ResultQuery<R>, TableLike<R>,
      */
     List<Field<?>> getSelect();
 
+    /**
+     * Stream the results of this query page by page, using keyset pagination.
+     * <p>
+     * Rather than keeping a single cursor open over a large result, this
+     * executes a sequence of short queries, each fetching at most
+     * <code>pageSize</code> rows. The first page is fetched by a copy of this
+     * query with a <code>LIMIT</code> clause. Every subsequent page is fetched
+     * by a copy of this query, additionally using a <code>SEEK</code> clause
+     * with the <code>ORDER BY</code> values of the previous page's last
+     * record. The copies inherit execution attributes, such as
+     * {@link #queryTimeout(int)} or {@link #fetchSize(int)}. For example:
+     * <code><pre>
+     * -- The first page
+     * SELECT id, title FROM book ORDER BY id LIMIT 1000
+     *
+     * -- The subsequent pages
+     * SELECT id, title FROM book WHERE id &gt; ? ORDER BY id LIMIT 1000
+     * </pre></code>
+     * <p>
+     * If this query's {@link Configuration#connectionProvider()} is a
+     * {@link org.jooq.impl.DataSourceConnectionProvider}, i.e. outside of a
+     * transaction managed by jOOQ, the next page is fetched in the background
+     * using the {@link Configuration#executorProvider()}, while the current
+     * page is being consumed. Otherwise, each page is fetched on demand on the
+     * consuming thread, using the same connection.
+     * <p>
+     * This query is not modified. It must have an <code>ORDER BY</code> clause
+     * whose fields uniquely identify each row and are all contained in the
+     * <code>SELECT</code> clause. It must not have a <code>LIMIT</code> clause,
+     * set operations, or a <code>SEEK BEFORE</code> clause. Each page is
+     * fetched by a separate query, so unless all pages are fetched within a
+     * single sufficiently isolated transaction, concurrent modifications of
+     * the data may be visible between pages.
+     *
+     * @param pageSize The maximum number of rows to fetch per page.
+     * @return The result.
+     * @throws IllegalStateException If this query does not meet the above
+     *             requirements.
+     * @throws DataAccessException if something went wrong executing a query
+     */
+    Stream<R> fetchKeysetStream(int pageSize) throws DataAccessException;
+
+    /**
+     * Stream the results of this query in parallel, partitioned by ranges of
+     * a key.
+     * <p>
+     * The minimum and maximum values of the key are fetched first. The range
+     * between them is split into at most <code>partitions</code> equally sized
+     * ranges, each of which is fetched by a copy of this query with an
+     * additional predicate. For example: <code><pre>
+     * -- The probe
+     * SELECT min(id), max(id) FROM book
+     *
+     * -- The partitions
+     * SELECT id, title FROM book WHERE (id &lt; ? OR id IS NULL)
+     * SELECT id, title FROM book WHERE id &gt;= ? AND id &lt; ?
+     * SELECT id, title FROM book WHERE id &gt;= ?
+     * </pre></code>
+     * <p>
+     * The resulting {@link Stream}'s {@link java.util.Spliterator} can be
+     * split into groups of partitions, each of which is fetched lazily by the
+     * thread consuming it. The stream is parallel only if the
+     * {@link Configuration#connectionProvider()} is a
+     * {@link org.jooq.impl.DataSourceConnectionProvider}, which can provide
+     * several connections at the same time, e.g. from a connection pool, and
+     * which is not used by a jOOQ managed transaction. Otherwise, the stream is
+     * sequential, as a single JDBC connection must not be used concurrently.
+     * <p>
+     * This query is not modified. It must not have a <code>GROUP BY</code>
+     * clause, a <code>LIMIT</code> clause, or set operations. The results of
+     * different partitions are not ordered with respect to each other.
+     * Supported key types are numbers, {@link java.sql.Date},
+     * {@link java.sql.Timestamp}, {@link java.time.LocalDate} and
+     * {@link java.time.LocalDateTime}.
+     *
+     * @param key The key whose ranges partition the results.
+     * @param partitions The maximum number of partitions.
+     * @return The result.
+     * @throws IllegalStateException If this query does not meet the above
+     *             requirements.
+     * @throws DataAccessException if something went wrong executing a query
+     */
+    Stream<R> fetchPartitionedStream(Field<?> key, int partitions) throws DataAccessException;
+
     /**
      * Execute this query in the context of its attached executor and return a
      * <code>COUNT(*)</code> value.
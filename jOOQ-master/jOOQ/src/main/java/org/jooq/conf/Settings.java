@@ -105,6 +105,8 @@ public class Settings
     protected StatementType statementType = StatementType.PREPARED_STATEMENT;
     @XmlElement(defaultValue = "0")
     protected Integer inlineThreshold = 0;
+    @XmlElement(defaultValue = "true")
+    protected Boolean splitLargeStatements = true;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected InvocationOrder transactionListenerStartInvocationOrder = InvocationOrder.DEFAULT;
@@ -164,8 +166,14 @@ public class Settings
     protected Boolean returnIdentityOnUpdatableRecord = true;
     @XmlElement(defaultValue = "false")
     protected Boolean returnAllOnUpdatableRecord = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean returnIdentityOnBatchInsert = false;
     @XmlElement(defaultValue = "true")
     protected Boolean returnRecordToPojo = true;
+    @XmlElement(defaultValue = "0")
+    protected Integer daoCacheSize = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer daoCacheTimeToLive = 0;
     @XmlElement(defaultValue = "true")
     protected Boolean mapJPAAnnotations = true;
     @XmlElement(defaultValue = "false")
@@ -181,12 +189,18 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "1024")
+    protected Integer fetchInternDictionarySize = 1024;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchInternLowCardinalityStrings = false;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
     protected Boolean inListPadding = false;
     @XmlElement(defaultValue = "2")
     protected Integer inListPadBase = 2;
+    @XmlElement(defaultValue = "false")
+    protected Boolean inListArrayBinding = false;
     @XmlElement(defaultValue = ";")
     protected String delimiter = ";";
     @XmlElement(defaultValue = "false")
@@ -209,6 +223,12 @@ public class Settings
     @XmlElement(defaultValue = "false")
     protected Boolean interpreterDelayForeignKeyDeclarations = false;
     @XmlElement(defaultValue = "false")
+    protected Boolean diagnosticsAsynchronous = false;
+    @XmlElement(defaultValue = "1")
+    protected Integer diagnosticsSamplingInterval = 1;
+    @XmlElement(defaultValue = "10000")
+    protected Integer diagnosticsQueueSize = 10000;
+    @XmlElement(defaultValue = "false")
     protected Boolean migrationAllowsUndo = false;
     @XmlElement(defaultValue = "false")
     protected Boolean migrationRevertUntracked = false;
@@ -936,6 +956,30 @@ public class Settings
         this.inlineThreshold = value;
     }
 
+    /**
+     * Whether multi-row INSERT .. VALUES statements and UPDATE or DELETE statements with large IN lists should be split into several statements if they exceed the inlineThreshold or the dialect's bind value limit, instead of being executed as static statements with inlined bind values. The split statements are not executed atomically, unless they are executed in a transaction.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isSplitLargeStatements() {
+        return splitLargeStatements;
+    }
+
+    /**
+     * Sets the value of the splitLargeStatements property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setSplitLargeStatements(Boolean value) {
+        this.splitLargeStatements = value;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.TransactionListener}s.
      * 
@@ -1425,6 +1469,30 @@ public class Settings
         this.returnAllOnUpdatableRecord = value;
     }
 
+    /**
+     * Whether batch inserts of TableRecords should fetch identity values (or all values, if returnAllOnUpdatableRecord is set) back into the records. This executes multi-row INSERT .. RETURNING statements in dialects that natively support them, or one INSERT statement per record otherwise, instead of JDBC batches.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isReturnIdentityOnBatchInsert() {
+        return returnIdentityOnBatchInsert;
+    }
+
+    /**
+     * Sets the value of the returnIdentityOnBatchInsert property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setReturnIdentityOnBatchInsert(Boolean value) {
+        this.returnIdentityOnBatchInsert = value;
+    }
+
     /**
      * Whether calls to store(), insert(), update(), and delete() that are called on an UpdatableRecord
      * that is created from a POJO (e.g. in a DAO) should return all Record values to the POJO, including
@@ -1451,6 +1519,46 @@ public class Settings
         this.returnRecordToPojo = value;
     }
 
+    /**
+     * The maximum number of records per table that DAOs keep in a read-through cache for findById(), existsById() and fetchOne() on the primary key. The cache is disabled if this is 0.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getDaoCacheSize() {
+        return daoCacheSize;
+    }
+
+    /**
+     * The maximum number of records per table that DAOs keep in a read-through cache for findById(), existsById() and fetchOne() on the primary key. The cache is disabled if this is 0.
+     * 
+     */
+    public void setDaoCacheSize(Integer value) {
+        this.daoCacheSize = value;
+    }
+
+    /**
+     * The time in milliseconds after which records in the DAO cache expire. Records never expire if this is 0.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getDaoCacheTimeToLive() {
+        return daoCacheTimeToLive;
+    }
+
+    /**
+     * The time in milliseconds after which records in the DAO cache expire. Records never expire if this is 0.
+     * 
+     */
+    public void setDaoCacheTimeToLive(Integer value) {
+        this.daoCacheTimeToLive = value;
+    }
+
     /**
      * Whether JPA annotations should be considered by the DefaultRecordMapper.
      * 
@@ -1595,6 +1703,50 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * The maximum number of distinct <code>String</code> values per column that are canonicalised when interning fetched values, see <code>ResultQuery.intern()</code>, <code>Result.intern()</code>, and <code>fetchInternLowCardinalityStrings</code>.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getFetchInternDictionarySize() {
+        return fetchInternDictionarySize;
+    }
+
+    /**
+     * The maximum number of distinct <code>String</code> values per column that are canonicalised when interning fetched values, see <code>ResultQuery.intern()</code>, <code>Result.intern()</code>, and <code>fetchInternLowCardinalityStrings</code>.
+     * 
+     */
+    public void setFetchInternDictionarySize(Integer value) {
+        this.fetchInternDictionarySize = value;
+    }
+
+    /**
+     * Whether <code>String</code> values of columns with a low observed cardinality should be canonicalised automatically when fetching results, sharing one instance per distinct value.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchInternLowCardinalityStrings() {
+        return fetchInternLowCardinalityStrings;
+    }
+
+    /**
+     * Sets the value of the fetchInternLowCardinalityStrings property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchInternLowCardinalityStrings(Boolean value) {
+        this.fetchInternLowCardinalityStrings = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -1659,6 +1811,30 @@ public class Settings
         this.inListPadBase = value;
     }
 
+    /**
+     * Whether IN lists consisting only of bind values should be bound as a single array bind value, e.g. as <code>= ANY(?)</code>, in dialects that support array bind values. This produces the same SQL string for IN lists of any size.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isInListArrayBinding() {
+        return inListArrayBinding;
+    }
+
+    /**
+     * Sets the value of the inListArrayBinding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setInListArrayBinding(Boolean value) {
+        this.inListArrayBinding = value;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -1803,6 +1979,70 @@ public class Settings
         this.interpreterDelayForeignKeyDeclarations = value;
     }
 
+    /**
+     * Whether the statements of a diagnostics connection should be analysed asynchronously by a background thread, rather than synchronously on the calling thread.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDiagnosticsAsynchronous() {
+        return diagnosticsAsynchronous;
+    }
+
+    /**
+     * Sets the value of the diagnosticsAsynchronous property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDiagnosticsAsynchronous(Boolean value) {
+        this.diagnosticsAsynchronous = value;
+    }
+
+    /**
+     * The average number of statements per statement analysed by a diagnostics connection. Use 1 to analyse all statements.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getDiagnosticsSamplingInterval() {
+        return diagnosticsSamplingInterval;
+    }
+
+    /**
+     * The average number of statements per statement analysed by a diagnostics connection. Use 1 to analyse all statements.
+     * 
+     */
+    public void setDiagnosticsSamplingInterval(Integer value) {
+        this.diagnosticsSamplingInterval = value;
+    }
+
+    /**
+     * The maximum number of statements queued for asynchronous analysis, across all diagnostics connections. Further statements are not analysed until the queue drains.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getDiagnosticsQueueSize() {
+        return diagnosticsQueueSize;
+    }
+
+    /**
+     * The maximum number of statements queued for asynchronous analysis, across all diagnostics connections. Further statements are not analysed until the queue drains.
+     * 
+     */
+    public void setDiagnosticsQueueSize(Integer value) {
+        this.diagnosticsQueueSize = value;
+    }
+
     /**
      * Whether migrations are allowed to be executed in inverse order.<p><strong>This is a potentially destructive feature, which should not be turned on in production</strong>. It is useful mostly to quickly switch between branches in a development environment. This feature is available only in commercial distributions.
      * 
@@ -2369,6 +2609,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * Whether multi-row INSERT .. VALUES statements and UPDATE or DELETE statements with large IN lists should be split into several statements if they exceed the inlineThreshold or the dialect's bind value limit, instead of being executed as static statements with inlined bind values. The split statements are not executed atomically, unless they are executed in a transaction.
+     * 
+     */
+    public Settings withSplitLargeStatements(Boolean value) {
+        setSplitLargeStatements(value);
+        return this;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.TransactionListener}s.
      * 
@@ -2537,11 +2786,38 @@ public class Settings
         return this;
     }
 
+    /**
+     * Whether batch inserts of TableRecords should fetch identity values (or all values, if returnAllOnUpdatableRecord is set) back into the records. This executes multi-row INSERT .. RETURNING statements in dialects that natively support them, or one INSERT statement per record otherwise, instead of JDBC batches.
+     * 
+     */
+    public Settings withReturnIdentityOnBatchInsert(Boolean value) {
+        setReturnIdentityOnBatchInsert(value);
+        return this;
+    }
+
     public Settings withReturnRecordToPojo(Boolean value) {
         setReturnRecordToPojo(value);
         return this;
     }
 
+    /**
+     * The maximum number of records per table that DAOs keep in a read-through cache for findById(), existsById() and fetchOne() on the primary key. The cache is disabled if this is 0.
+     * 
+     */
+    public Settings withDaoCacheSize(Integer value) {
+        setDaoCacheSize(value);
+        return this;
+    }
+
+    /**
+     * The time in milliseconds after which records in the DAO cache expire. Records never expire if this is 0.
+     * 
+     */
+    public Settings withDaoCacheTimeToLive(Integer value) {
+        setDaoCacheTimeToLive(value);
+        return this;
+    }
+
     public Settings withMapJPAAnnotations(Boolean value) {
         setMapJPAAnnotations(value);
         return this;
@@ -2597,6 +2873,24 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of distinct <code>String</code> values per column that are canonicalised when interning fetched values, see <code>ResultQuery.intern()</code>, <code>Result.intern()</code>, and <code>fetchInternLowCardinalityStrings</code>.
+     * 
+     */
+    public Settings withFetchInternDictionarySize(Integer value) {
+        setFetchInternDictionarySize(value);
+        return this;
+    }
+
+    /**
+     * Whether <code>String</code> values of columns with a low observed cardinality should be canonicalised automatically when fetching results, sharing one instance per distinct value.
+     * 
+     */
+    public Settings withFetchInternLowCardinalityStrings(Boolean value) {
+        setFetchInternLowCardinalityStrings(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -2616,6 +2910,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * Whether IN lists consisting only of bind values should be bound as a single array bind value, e.g. as <code>= ANY(?)</code>, in dialects that support array bind values. This produces the same SQL string for IN lists of any size.
+     * 
+     */
+    public Settings withInListArrayBinding(Boolean value) {
+        setInListArrayBinding(value);
+        return this;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -2680,6 +2983,33 @@ public class Settings
         return this;
     }
 
+    /**
+     * Whether the statements of a diagnostics connection should be analysed asynchronously by a background thread, rather than synchronously on the calling thread.
+     * 
+     */
+    public Settings withDiagnosticsAsynchronous(Boolean value) {
+        setDiagnosticsAsynchronous(value);
+        return this;
+    }
+
+    /**
+     * The average number of statements per statement analysed by a diagnostics connection. Use 1 to analyse all statements.
+     * 
+     */
+    public Settings withDiagnosticsSamplingInterval(Integer value) {
+        setDiagnosticsSamplingInterval(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of statements queued for asynchronous analysis, across all diagnostics connections. Further statements are not analysed until the queue drains.
+     * 
+     */
+    public Settings withDiagnosticsQueueSize(Integer value) {
+        setDiagnosticsQueueSize(value);
+        return this;
+    }
+
     public Settings withMigrationAllowsUndo(Boolean value) {
         setMigrationAllowsUndo(value);
         return this;
@@ -2863,6 +3193,7 @@ public class Settings
         builder.append("paramCastMode", paramCastMode);
         builder.append("statementType", statementType);
         builder.append("inlineThreshold", inlineThreshold);
+        builder.append("splitLargeStatements", splitLargeStatements);
         builder.append("transactionListenerStartInvocationOrder", transactionListenerStartInvocationOrder);
         builder.append("transactionListenerEndInvocationOrder", transactionListenerEndInvocationOrder);
         builder.append("migrationListenerStartInvocationOrder", migrationListenerStartInvocationOrder);
@@ -2887,7 +3218,10 @@ public class Settings
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
         builder.append("returnIdentityOnUpdatableRecord", returnIdentityOnUpdatableRecord);
         builder.append("returnAllOnUpdatableRecord", returnAllOnUpdatableRecord);
+        builder.append("returnIdentityOnBatchInsert", returnIdentityOnBatchInsert);
         builder.append("returnRecordToPojo", returnRecordToPojo);
+        builder.append("daoCacheSize", daoCacheSize);
+        builder.append("daoCacheTimeToLive", daoCacheTimeToLive);
         builder.append("mapJPAAnnotations", mapJPAAnnotations);
         builder.append("mapConstructorParameterNames", mapConstructorParameterNames);
         builder.append("mapConstructorParameterNamesInKotlin", mapConstructorParameterNamesInKotlin);
@@ -2895,9 +3229,12 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("fetchInternDictionarySize", fetchInternDictionarySize);
+        builder.append("fetchInternLowCardinalityStrings", fetchInternLowCardinalityStrings);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
+        builder.append("inListArrayBinding", inListArrayBinding);
         builder.append("delimiter", delimiter);
         builder.append("emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly", emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly);
         builder.append("executeUpdateWithoutWhere", executeUpdateWithoutWhere);
@@ -2906,6 +3243,9 @@ public class Settings
         builder.append("interpreterNameLookupCaseSensitivity", interpreterNameLookupCaseSensitivity);
         builder.append("interpreterLocale", interpreterLocale);
         builder.append("interpreterDelayForeignKeyDeclarations", interpreterDelayForeignKeyDeclarations);
+        builder.append("diagnosticsAsynchronous", diagnosticsAsynchronous);
+        builder.append("diagnosticsSamplingInterval", diagnosticsSamplingInterval);
+        builder.append("diagnosticsQueueSize", diagnosticsQueueSize);
         builder.append("migrationAllowsUndo", migrationAllowsUndo);
         builder.append("migrationRevertUntracked", migrationRevertUntracked);
         builder.append("migrationAutoValidation", migrationAutoValidation);
@@ -3196,6 +3536,15 @@ public class Settings
                 return false;
             }
         }
+        if (splitLargeStatements == null) {
+            if (other.splitLargeStatements!= null) {
+                return false;
+            }
+        } else {
+            if (!splitLargeStatements.equals(other.splitLargeStatements)) {
+                return false;
+            }
+        }
         if (transactionListenerStartInvocationOrder == null) {
             if (other.transactionListenerStartInvocationOrder!= null) {
                 return false;
@@ -3412,6 +3761,15 @@ public class Settings
                 return false;
             }
         }
+        if (returnIdentityOnBatchInsert == null) {
+            if (other.returnIdentityOnBatchInsert!= null) {
+                return false;
+            }
+        } else {
+            if (!returnIdentityOnBatchInsert.equals(other.returnIdentityOnBatchInsert)) {
+                return false;
+            }
+        }
         if (returnRecordToPojo == null) {
             if (other.returnRecordToPojo!= null) {
                 return false;
@@ -3421,6 +3779,24 @@ public class Settings
                 return false;
             }
         }
+        if (daoCacheSize == null) {
+            if (other.daoCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!daoCacheSize.equals(other.daoCacheSize)) {
+                return false;
+            }
+        }
+        if (daoCacheTimeToLive == null) {
+            if (other.daoCacheTimeToLive!= null) {
+                return false;
+            }
+        } else {
+            if (!daoCacheTimeToLive.equals(other.daoCacheTimeToLive)) {
+                return false;
+            }
+        }
         if (mapJPAAnnotations == null) {
             if (other.mapJPAAnnotations!= null) {
                 return false;
@@ -3484,6 +3860,24 @@ public class Settings
                 return false;
             }
         }
+        if (fetchInternDictionarySize == null) {
+            if (other.fetchInternDictionarySize!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchInternDictionarySize.equals(other.fetchInternDictionarySize)) {
+                return false;
+            }
+        }
+        if (fetchInternLowCardinalityStrings == null) {
+            if (other.fetchInternLowCardinalityStrings!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchInternLowCardinalityStrings.equals(other.fetchInternLowCardinalityStrings)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -3511,6 +3905,15 @@ public class Settings
                 return false;
             }
         }
+        if (inListArrayBinding == null) {
+            if (other.inListArrayBinding!= null) {
+                return false;
+            }
+        } else {
+            if (!inListArrayBinding.equals(other.inListArrayBinding)) {
+                return false;
+            }
+        }
         if (delimiter == null) {
             if (other.delimiter!= null) {
                 return false;
@@ -3583,6 +3986,33 @@ public class Settings
                 return false;
             }
         }
+        if (diagnosticsAsynchronous == null) {
+            if (other.diagnosticsAsynchronous!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsAsynchronous.equals(other.diagnosticsAsynchronous)) {
+                return false;
+            }
+        }
+        if (diagnosticsSamplingInterval == null) {
+            if (other.diagnosticsSamplingInterval!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSamplingInterval.equals(other.diagnosticsSamplingInterval)) {
+                return false;
+            }
+        }
+        if (diagnosticsQueueSize == null) {
+            if (other.diagnosticsQueueSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsQueueSize.equals(other.diagnosticsQueueSize)) {
+                return false;
+            }
+        }
         if (migrationAllowsUndo == null) {
             if (other.migrationAllowsUndo!= null) {
                 return false;
@@ -3771,6 +4201,7 @@ public class Settings
         result = ((prime*result)+((paramCastMode == null)? 0 :paramCastMode.hashCode()));
         result = ((prime*result)+((statementType == null)? 0 :statementType.hashCode()));
         result = ((prime*result)+((inlineThreshold == null)? 0 :inlineThreshold.hashCode()));
+        result = ((prime*result)+((splitLargeStatements == null)? 0 :splitLargeStatements.hashCode()));
         result = ((prime*result)+((transactionListenerStartInvocationOrder == null)? 0 :transactionListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((transactionListenerEndInvocationOrder == null)? 0 :transactionListenerEndInvocationOrder.hashCode()));
         result = ((prime*result)+((migrationListenerStartInvocationOrder == null)? 0 :migrationListenerStartInvocationOrder.hashCode()));
@@ -3795,7 +4226,10 @@ public class Settings
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
         result = ((prime*result)+((returnIdentityOnUpdatableRecord == null)? 0 :returnIdentityOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnAllOnUpdatableRecord == null)? 0 :returnAllOnUpdatableRecord.hashCode()));
+        result = ((prime*result)+((returnIdentityOnBatchInsert == null)? 0 :returnIdentityOnBatchInsert.hashCode()));
         result = ((prime*result)+((returnRecordToPojo == null)? 0 :returnRecordToPojo.hashCode()));
+        result = ((prime*result)+((daoCacheSize == null)? 0 :daoCacheSize.hashCode()));
+        result = ((prime*result)+((daoCacheTimeToLive == null)? 0 :daoCacheTimeToLive.hashCode()));
         result = ((prime*result)+((mapJPAAnnotations == null)? 0 :mapJPAAnnotations.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNames == null)? 0 :mapConstructorParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNamesInKotlin == null)? 0 :mapConstructorParameterNamesInKotlin.hashCode()));
@@ -3803,9 +4237,12 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((fetchInternDictionarySize == null)? 0 :fetchInternDictionarySize.hashCode()));
+        result = ((prime*result)+((fetchInternLowCardinalityStrings == null)? 0 :fetchInternLowCardinalityStrings.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
+        result = ((prime*result)+((inListArrayBinding == null)? 0 :inListArrayBinding.hashCode()));
         result = ((prime*result)+((delimiter == null)? 0 :delimiter.hashCode()));
         result = ((prime*result)+((emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly == null)? 0 :emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly.hashCode()));
         result = ((prime*result)+((executeUpdateWithoutWhere == null)? 0 :executeUpdateWithoutWhere.hashCode()));
@@ -3814,6 +4251,9 @@ public class Settings
         result = ((prime*result)+((interpreterNameLookupCaseSensitivity == null)? 0 :interpreterNameLookupCaseSensitivity.hashCode()));
         result = ((prime*result)+((interpreterLocale == null)? 0 :interpreterLocale.hashCode()));
         result = ((prime*result)+((interpreterDelayForeignKeyDeclarations == null)? 0 :interpreterDelayForeignKeyDeclarations.hashCode()));
+        result = ((prime*result)+((diagnosticsAsynchronous == null)? 0 :diagnosticsAsynchronous.hashCode()));
+        result = ((prime*result)+((diagnosticsSamplingInterval == null)? 0 :diagnosticsSamplingInterval.hashCode()));
+        result = ((prime*result)+((diagnosticsQueueSize == null)? 0 :diagnosticsQueueSize.hashCode()));
         result = ((prime*result)+((migrationAllowsUndo == null)? 0 :migrationAllowsUndo.hashCode()));
         result = ((prime*result)+((migrationRevertUntracked == null)? 0 :migrationRevertUntracked.hashCode()));
         result = ((prime*result)+((migrationAutoValidation == null)? 0 :migrationAutoValidation.hashCode()));
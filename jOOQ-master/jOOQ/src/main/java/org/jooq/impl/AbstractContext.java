@@ -44,7 +44,6 @@ import static java.lang.Boolean.TRUE;
 // ...
 // ...
 // ...
-import static org.jooq.conf.InvocationOrder.REVERSE;
 import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.impl.Tools.EMPTY_CLAUSE;
 import static org.jooq.impl.Tools.EMPTY_QUERYPART;
@@ -76,11 +75,8 @@ import org.jooq.Table;
 import org.jooq.VisitContext;
 import org.jooq.VisitListener;
 import org.jooq.VisitListenerProvider;
-import org.jooq.conf.ParamCastMode;
 import org.jooq.conf.ParamType;
 import org.jooq.conf.Settings;
-import org.jooq.conf.SettingsTools;
-import org.jooq.conf.StatementType;
 
 /**
  * @author Lukas Eder
@@ -115,6 +111,9 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     private final DefaultVisitContext              visitContext;
     private final Deque<QueryPart>                 visitParts;
 
+    // Settings resolved once per Configuration
+    final CompiledSettings                         compiledSettings;
+
     // [#2694] Unified RenderContext and BindContext traversal
     final ParamType                                forcedParamType;
     final boolean                                  castModeOverride;
@@ -127,6 +126,7 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     AbstractContext(Configuration configuration, PreparedStatement stmt) {
         super(configuration);
         this.stmt = stmt;
+        this.compiledSettings = CompiledSettings.of(configuration);
 
         VisitListenerProvider[] providers = configuration.visitListenerProviders();
 
@@ -156,10 +156,10 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
             this.visitParts = new ArrayDeque<>();
             this.visitClauses = new ArrayDeque<>();
 
-            this.visitListenersStart = configuration.settings().getVisitListenerStartInvocationOrder() != REVERSE
+            this.visitListenersStart = !compiledSettings.visitListenerStartReverse
                 ? visitListeners
                 : Tools.reverse(visitListeners.clone());
-            this.visitListenersEnd = configuration.settings().getVisitListenerEndInvocationOrder() != REVERSE
+            this.visitListenersEnd = !compiledSettings.visitListenerEndReverse
                 ? visitListeners
                 : Tools.reverse(visitListeners.clone());
         }
@@ -171,21 +171,9 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
             this.visitListenersEnd = null;
         }
 
-        this.forcedParamType = SettingsTools.getStatementType(settings()) == StatementType.STATIC_STATEMENT
-            ? ParamType.INLINED
-            : SettingsTools.getParamType(settings()) == ParamType.FORCE_INDEXED
-            ? ParamType.INDEXED
-            : null;
-
-        ParamCastMode m = settings().getParamCastMode();
-        this.castModeOverride =
-              m != ParamCastMode.DEFAULT && m != null;
-        this.castMode =
-              m == ParamCastMode.ALWAYS
-            ? CastMode.ALWAYS
-            : m == ParamCastMode.NEVER
-            ? CastMode.NEVER
-            : CastMode.DEFAULT;
+        this.forcedParamType = compiledSettings.forcedParamType;
+        this.castModeOverride = compiledSettings.castModeOverride;
+        this.castMode = compiledSettings.castMode;
         this.scopeStack = new ScopeStack<QueryPart, ScopeStackElement>(new ScopeStack.Constructor<ScopeStackElement>() {
             @Override
             public ScopeStackElement create(int scopeLevel) {
@@ -477,7 +477,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    private final String formatCSV0(Object value, CSVFormat format) {
+    static final String formatCSV0(Object value, CSVFormat format) {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         // [#4746] Escape null and empty strings
@@ -522,89 +522,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             String separator;
             int recordLevel = format.header() ? 2 : 1;
 
-            if (format.header()) {
-                if (format.format())
-                    writer.append('{').append(format.newline())
-                          .append(format.indentString(1)).append("\"fields\": [");
-                else
-                    writer.append("{\"fields\":[");
-
-                separator = "";
-
-                for (Field<?> field : fields.fields) {
-                    writer.append(separator);
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
-
-                    writer.append('{');
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
-
-                    if (field instanceof TableField) {
-                        Table<?> table = ((TableField<?, ?>) field).getTable();
-
-                        if (table != null) {
-                            Schema schema = table.getSchema();
-
-                            if (schema != null) {
-                                writer.append("\"schema\":");
-
-                                if (format.format())
-                                    writer.append(' ');
-
-                                JSONValue.writeJSONString(schema.getName(), writer);
-                                writer.append(',');
-
-                                if (format.format())
-                                    writer.append(format.newline()).append(format.indentString(3));
-                            }
-
-                            writer.append("\"table\":");
-
-                            if (format.format())
-                                writer.append(' ');
-
-                            JSONValue.writeJSONString(table.getName(), writer);
-                            writer.append(',');
-
-                            if (format.format())
-                                writer.append(format.newline()).append(format.indentString(3));
-                        }
-                    }
-
-                    writer.append("\"name\":");
-
-                    if (format.format())
-                        writer.append(' ');
-
-                    JSONValue.writeJSONString(field.getName(), writer);
-                    writer.append(',');
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
-
-                    writer.append("\"type\":");
-
-                    if (format.format())
-                        writer.append(' ');
-
-                    JSONValue.writeJSONString(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())), writer);
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
-
-                    writer.append('}');
-                    separator = ",";
-                }
-
-                if (format.format())
-                    writer.append(format.newline()).append(format.indentString(1)).append("],")
-                          .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
-                else
-                    writer.append("],\"records\":");
-            }
+            formatJSONHeader0(writer, format);
 
             writer.append('[');
             separator = "";
@@ -657,6 +575,96 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         }
     }
 
+    /**
+     * Write the <code>"fields"</code> header of the JSON format, if required,
+     * including the opening of the <code>"records"</code> element.
+     */
+    final void formatJSONHeader0(Writer writer, JSONFormat format) throws java.io.IOException {
+        if (format.header()) {
+            String separator = "";
+
+            if (format.format())
+                writer.append('{').append(format.newline())
+                      .append(format.indentString(1)).append("\"fields\": [");
+            else
+                writer.append("{\"fields\":[");
+
+            for (Field<?> field : fields.fields) {
+                writer.append(separator);
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(2));
+
+                writer.append('{');
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(3));
+
+                if (field instanceof TableField) {
+                    Table<?> table = ((TableField<?, ?>) field).getTable();
+
+                    if (table != null) {
+                        Schema schema = table.getSchema();
+
+                        if (schema != null) {
+                            writer.append("\"schema\":");
+
+                            if (format.format())
+                                writer.append(' ');
+
+                            JSONValue.writeJSONString(schema.getName(), writer);
+                            writer.append(',');
+
+                            if (format.format())
+                                writer.append(format.newline()).append(format.indentString(3));
+                        }
+
+                        writer.append("\"table\":");
+
+                        if (format.format())
+                            writer.append(' ');
+
+                        JSONValue.writeJSONString(table.getName(), writer);
+                        writer.append(',');
+
+                        if (format.format())
+                            writer.append(format.newline()).append(format.indentString(3));
+                    }
+                }
+
+                writer.append("\"name\":");
+
+                if (format.format())
+                    writer.append(' ');
+
+                JSONValue.writeJSONString(field.getName(), writer);
+                writer.append(',');
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(3));
+
+                writer.append("\"type\":");
+
+                if (format.format())
+                    writer.append(' ');
+
+                JSONValue.writeJSONString(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())), writer);
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(2));
+
+                writer.append('}');
+                separator = ",";
+            }
+
+            if (format.format())
+                writer.append(format.newline()).append(format.indentString(1)).append("],")
+                      .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
+            else
+                writer.append("],\"records\":");
+        }
+    }
+
     private static final void formatJSON0(Object value, Writer writer, JSONFormat format) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
@@ -1268,7 +1276,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
      * @param visual Whether the formatted output is to be consumed visually
      *            (HTML, TEXT) or by a machine (CSV, JSON, XML)
      */
-    private static final String format0(Object value, boolean changed, boolean visual) {
+    static final String format0(Object value, boolean changed, boolean visual) {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         String formatted = changed && visual ? "*" : "";
@@ -119,6 +119,7 @@ import org.jooq.Name;
 import org.jooq.Param;
 // ...
 import org.jooq.QualifiedAsterisk;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
@@ -158,7 +159,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
 
 
 
-    private final WithImpl                       with;
+    final WithImpl                               with;
     private final Table<R>                       table;
     final SelectFieldList<SelectFieldOrAsterisk> returning;
     final List<Field<?>>                         returningResolvedAsterisks;
@@ -249,6 +250,40 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
         return table;
     }
 
+    /**
+     * Split an <code>UPDATE</code> or <code>DELETE</code> statement by the
+     * largest top level <code>IN</code> predicate of its <code>WHERE</code>
+     * clause, if it exceeds <code>maxBindValues</code>.
+     *
+     * @param assigned The fields that are assigned by an <code>UPDATE</code>
+     *            statement. Predicates on these fields cannot be split, as
+     *            later statements might match the rows updated by earlier
+     *            ones.
+     * @param copy Create a copy of this statement with a new
+     *            <code>WHERE</code> clause.
+     */
+    final List<Query> split(Condition where, int maxBindValues, Collection<? extends Field<?>> assigned, F1<Condition, Query> copy) {
+        if (!returning.isEmpty())
+            return null;
+
+        // Avoid rendering a probe for statements that are likely small enough
+        InCondition<?> in = InCondition.splittable(configuration(), where);
+        if (in == null || in.values.length <= maxBindValues / 2 || assigned.contains(in.field))
+            return null;
+
+        // The bind values outside of the IN predicate
+        Query probe = copy.apply(in.split(where, 1).get(0));
+        int reserve = configuration().dsl().extractBindValues(probe).size() - 1;
+        if (reserve + in.values.length <= maxBindValues || reserve >= maxBindValues)
+            return null;
+
+        List<Query> result = new ArrayList<>();
+        for (Condition c : in.split(where, maxBindValues - reserve))
+            result.add(copy.apply(c));
+
+        return result;
+    }
+
     final Table<?> table(Context<?> ctx) {
 
 
@@ -1209,13 +1244,11 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
                 // Only the IDENTITY value was requested. No need for an
                 // additional query
                 if (returningResolvedAsterisks.size() == 1 && new Fields<>(returningResolvedAsterisks).field(field) != null) {
+                    F0<AbstractRecord> factory = Tools.recordFactory(AbstractRecord.class, returningResolvedAsterisks.toArray(EMPTY_FIELD));
+
                     for (final Object id : ids) {
                         ((Result) getResult()).add(
-                        Tools.newRecord(
-                                true,
-                                AbstractRecord.class,
-                                returningResolvedAsterisks.toArray(EMPTY_FIELD),
-                                originalConfiguration)
+                        Tools.newRecord(true, factory, originalConfiguration)
                              .operate(new RecordOperation<AbstractRecord, RuntimeException>() {
 
                                 @Override
@@ -38,6 +38,7 @@
 
 package org.jooq.impl;
 
+import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.jooq.Constants.FULL_VERSION;
 import static org.jooq.ExecuteType.DDL;
@@ -47,7 +48,6 @@ import static org.jooq.ExecuteType.DDL;
 // ...
 import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.conf.ParamType.INLINED;
-import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
 import static org.jooq.impl.DSL.using;
@@ -75,7 +75,6 @@ import org.jooq.RenderContext;
 import org.jooq.Select;
 import org.jooq.conf.ParamType;
 import org.jooq.conf.QueryPoolable;
-import org.jooq.conf.SettingsTools;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DetachedException;
@@ -263,6 +262,17 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         return keepStatement;
     }
 
+    /**
+     * Copy the execution attributes of this query, such as its timeout, onto
+     * another query, e.g. when a query is derived from this one.
+     * <p>
+     * JDBC resources, such as kept statements, are not copied.
+     */
+    void copyExecutionAttributes(AbstractQuery target) {
+        target.timeout = timeout;
+        target.poolable = poolable;
+    }
+
     @Override
     public final void close() {
         if (statement != null) {
@@ -292,6 +302,17 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
     public final int execute() {
         if (isExecutable()) {
 
+            // Statements exceeding the bind value limit are executed in parts
+            List<? extends Query> split = split();
+            if (split != null) {
+                int result = 0;
+
+                for (Query query : split)
+                    result += query.execute();
+
+                return result;
+            }
+
             // Get the attached configuration of this query
             Configuration c = configuration();
 
@@ -342,11 +363,12 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
                 }
 
                 // [#1856] [#4753] Set the query timeout onto the Statement
-                int t = SettingsTools.getQueryTimeout(timeout, ctx.settings());
+                CompiledSettings settings = CompiledSettings.of(ctx.configuration());
+                int t = settings.queryTimeout(timeout);
                 if (t != 0)
                     ctx.statement().setQueryTimeout(t);
 
-                QueryPoolable p = SettingsTools.getQueryPoolable(poolable, ctx.settings());
+                QueryPoolable p = settings.queryPoolable(poolable);
                 if (p == QueryPoolable.TRUE)
                     ctx.statement().setPoolable(true);
                 else if (p == QueryPoolable.FALSE)
@@ -357,7 +379,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
                     // [#1145] Bind variables only for true prepared statements
                     // [#2414] Even if parameters are inlined here, child
                     //         QueryParts may override this behaviour!
-                    executePreparedStatements(c.settings()) &&
+                    CompiledSettings.of(c).executePreparedStatements() &&
 
                     // [#1520] Renderers may enforce static statements, too
                     !TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
@@ -473,7 +495,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         catch (SQLException e) {
             consumeExceptions(ctx.configuration(), stmt, e);
 
-            if (ctx.settings().getThrowExceptions() != THROW_NONE)
+            if (CompiledSettings.of(ctx.configuration()).throwExceptions != THROW_NONE)
                 throw e;
             else
                 return stmt.getUpdateCount();
@@ -506,6 +528,46 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         }
     }
 
+    private final Rendered renderInlined() {
+        DefaultRenderContext render = new DefaultRenderContext(configuration, this);
+
+        try {
+            return new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+        }
+        finally {
+            render.release();
+        }
+    }
+
+    /**
+     * Split this query into several queries if it exceeds the bind value
+     * limit, or return <code>null</code> if the query can be executed as it
+     * is.
+     */
+    private final List<? extends Query> split() {
+        if (configuration == null || keepStatement() || FALSE.equals(configuration.settings().isSplitLargeStatements()))
+            return null;
+
+        CompiledSettings settings = CompiledSettings.of(configuration);
+        if (!settings.executePreparedStatements())
+            return null;
+
+        int max = DefaultRenderContext.maxBindValues(settings, configuration.family());
+        return max > 0 ? split(max) : null;
+    }
+
+    /**
+     * Subclasses may override this to split a query whose bind values exceed
+     * <code>maxBindValues</code> into several queries, whose update counts
+     * are summed up.
+     * <p>
+     * Queries that are not split, but still exceed the limit are executed as
+     * static statements with inlined bind values.
+     */
+    List<? extends Query> split(int maxBindValues) {
+        return null;
+    }
+
     private final Rendered getSQL0(ExecuteContext ctx) {
         Rendered result;
 
@@ -513,24 +575,25 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         // [#6474] [#6929] Can this be communicated in a leaner way?
         if (ctx.type() == DDL) {
             ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-            DefaultRenderContext render = new DefaultRenderContext(configuration);
-            result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+            result = renderInlined();
         }
-        else if (executePreparedStatements(configuration().settings())) {
+        else if (CompiledSettings.of(configuration()).executePreparedStatements()) {
+            DefaultRenderContext render = new DefaultRenderContext(configuration, this);
+
             try {
-                DefaultRenderContext render = new DefaultRenderContext(configuration);
                 render.data(DATA_COUNT_BIND_VALUES, true);
                 result = new Rendered(render.visit(this).render(), render.bindValues(), render.peekSkipUpdateCounts());
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-                DefaultRenderContext render = new DefaultRenderContext(configuration);
-                result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+                result = renderInlined();
+            }
+            finally {
+                render.release();
             }
         }
         else {
-            DefaultRenderContext render = new DefaultRenderContext(configuration);
-            result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+            result = renderInlined();
         }
 
 
@@ -415,12 +415,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         }
     }
 
-    final void intern0(int fieldIndex) {
+    final void intern0(int fieldIndex, StringDictionary dictionary) {
         safeIndex(fieldIndex);
 
         if (field(fieldIndex).getType() == String.class) {
-            values[fieldIndex] = intern((String) values[fieldIndex]);
-            originals[fieldIndex] = intern((String) originals[fieldIndex]);
+            values[fieldIndex] = dictionary.canonical((String) values[fieldIndex]);
+            originals[fieldIndex] = values[fieldIndex] == originals[fieldIndex]
+                ? values[fieldIndex]
+                : dictionary.canonical((String) originals[fieldIndex]);
         }
     }
 
@@ -431,10 +433,6 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         throw new IllegalArgumentException("No field at index " + index + " in Record type " + fieldsRow());
     }
 
-    final String intern(String string) {
-        return string == null ? null : string.intern();
-    }
-
     /**
      * Subclasses may override this
      */
@@ -53,6 +53,7 @@ import static org.jooq.impl.Tools.consumeResultSets;
 import static org.jooq.impl.Tools.executeStatementAndGetFirstResultSet;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_LOCK_ROWS_FOR_UPDATE;
 
+import java.io.OutputStream;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -75,6 +76,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import org.jooq.CSVFormat;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
@@ -82,6 +84,7 @@ import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -113,7 +116,6 @@ import org.jooq.ResultQuery;
 import org.jooq.Results;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
-import org.jooq.conf.SettingsTools;
 import org.jooq.tools.Convert;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.MockResultSet;
@@ -277,7 +279,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         Tools.setFetchSize(ctx, fetchSize);
 
         // [#1854] [#4753] Set the max number of rows for this result query
-        int m = SettingsTools.getMaxRows(maxRows, ctx.settings());
+        int m = CompiledSettings.of(ctx.configuration()).maxRows(maxRows);
         if (m != 0) {
             ctx.statement().setMaxRows(m);
         }
@@ -288,7 +290,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         listener.executeStart(ctx);
 
         // [#4511] [#4753] PostgreSQL doesn't like fetchSize with autoCommit == true
-        int f = SettingsTools.getFetchSize(fetchSize, ctx.settings());
+        int f = CompiledSettings.of(ctx.configuration()).fetchSize(fetchSize);
         if (REPORT_FETCH_SIZE_WITH_AUTOCOMMIT.contains(ctx.dialect()) && f != 0 && ctx.connection().getAutoCommit())
             log.info("Fetch Size", "A fetch size of " + f + " was set on a auto-commit PostgreSQL connection, which is not recommended. See http://jdbc.postgresql.org/documentation/head/query.html#query-with-cursor");
 
@@ -318,7 +320,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
             }
 
             Field<?>[] fields = getFields(ctx.resultSet().getMetaData());
-            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
+            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), CompiledSettings.of(ctx.configuration()).maxRows(maxRows), autoclosing);
 
             if (!lazy) {
                 result = cursor.fetch();
@@ -349,6 +351,27 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return coerceFields;
     }
 
+    @Override
+    final void copyExecutionAttributes(AbstractQuery target) {
+        super.copyExecutionAttributes(target);
+
+        if (target instanceof AbstractResultQuery) {
+            AbstractResultQuery<?> t = (AbstractResultQuery<?>) target;
+
+            t.maxRows = maxRows;
+            t.fetchSize = fetchSize;
+            t.resultSetConcurrency = resultSetConcurrency;
+            t.resultSetType = resultSetType;
+            t.resultSetHoldability = resultSetHoldability;
+            t.coerceTable = coerceTable;
+            t.coerceFields = coerceFields;
+            t.intern.internIndexes = intern.internIndexes;
+            t.intern.internFields = intern.internFields;
+            t.intern.internNameStrings = intern.internNameStrings;
+            t.intern.internNames = intern.internNames;
+        }
+    }
+
     @Override
     public final Result<R> fetch() {
         execute();
@@ -464,6 +487,25 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         }
     }
 
+    @Override
+    public final void exportCSV(OutputStream stream, CSVFormat format) {
+        export(Export.csv(stream, format));
+    }
+
+    @Override
+    public final void exportJSON(OutputStream stream, JSONFormat format) {
+        export(Export.json(stream, format));
+    }
+
+    private final void export(Export export) {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+
+            // [#6413] Exceptions may have been suppressed by Settings.throwExceptions
+            if (c != null)
+                export.export(c);
+        }
+    }
+
 
 
     @Override
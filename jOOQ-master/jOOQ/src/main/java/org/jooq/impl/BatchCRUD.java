@@ -37,19 +37,31 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
 
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.RecordContext;
+import org.jooq.RecordListener;
+import org.jooq.RecordListenerProvider;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
@@ -63,16 +75,39 @@ final class BatchCRUD extends AbstractBatch {
     /**
      * Generated UID
      */
-    private static final long      serialVersionUID = -2935544935267715011L;
+    private static final long            serialVersionUID               = -2935544935267715011L;
 
-    private final TableRecord<?>[] records;
-    private final Action           action;
+    /**
+     * The maximum number of bind values per multi-row <code>INSERT</code>
+     * statement, staying below SQL Server's limit of 2100.
+     */
+    private static final int             MAX_BIND_VALUES                = 2000;
+
+    /**
+     * Dialects whose native <code>RETURNING</code> clause returns one row per
+     * inserted row of a multi-row <code>INSERT</code> statement, in insertion
+     * order. Other dialects emulate <code>RETURNING</code> through
+     * {@link Statement#getGeneratedKeys()} and possibly a second
+     * <code>SELECT</code>, whose rows cannot be matched with the records
+     * reliably.
+     */
+    private static final Set<SQLDialect> SUPPORT_MULTI_ROW_RETURNING    = SQLDialect.supportedBy(POSTGRES);
+
+    private final TableRecord<?>[]       records;
+    private final Action                 action;
+    private final boolean                returning;
 
     BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records) {
+        this(configuration, action, records,
+            action == Action.INSERT && TRUE.equals(configuration.settings().isReturnIdentityOnBatchInsert()));
+    }
+
+    BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records, boolean returning) {
         super(configuration);
 
         this.action = action;
         this.records = records;
+        this.returning = returning && action == Action.INSERT;
     }
 
     @Override
@@ -83,9 +118,16 @@ final class BatchCRUD extends AbstractBatch {
     @Override
     public final int[] execute() throws DataAccessException {
 
+        // Fetch generated values with multi-row INSERT .. RETURNING statements
+        if (returning)
+            if (SUPPORT_MULTI_ROW_RETURNING.contains(configuration.dialect()))
+                return executeReturning();
+            else
+                return executeSingle();
+
         // [#1180] Run batch queries with BatchMultiple, if no bind variables
         // should be used...
-        if (executeStaticStatements(configuration.settings()))
+        else if (executeStaticStatements(configuration.settings()))
             return executeStatic();
         else
             return executePrepared();
@@ -158,6 +200,143 @@ final class BatchCRUD extends AbstractBatch {
         return array;
     }
 
+    /**
+     * Insert each record individually, fetching its generated values.
+     */
+    private final int[] executeSingle() {
+        int[] result = new int[records.length];
+
+        for (int i = 0; i < records.length; i++) {
+            Configuration previous = records[i].configuration();
+
+            try {
+                records[i].attach(configuration);
+                result[i] = records[i].insert();
+            }
+            finally {
+                records[i].attach(previous);
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final int[] executeReturning() {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        Map<String, List<InsertQueryImpl<?>>> queries = new LinkedHashMap<>();
+        List<List<Runnable>> insertEnd = new ArrayList<>();
+        List<Runnable> pending = new ArrayList<>();
+        QueryCollector collector = new QueryCollector();
+
+        // [#2770] RecordListener.insertEnd() events are deferred until the
+        //         returned values have been set to the records
+        RecordListenerProvider[] providers = configuration.recordListenerProviders().clone();
+        for (int i = 0; i < providers.length; i++) {
+            RecordListenerProvider provider = providers[i];
+            providers[i] = () -> new DeferredInsertEnd(provider.provide(), pending);
+        }
+
+        Configuration local = configuration.derive(Tools.combine(
+            configuration.executeListenerProviders(),
+            new DefaultExecuteListenerProvider(collector)
+        )).derive(providers);
+
+        // The RETURNING clause is added to the multi-row statements, below
+        local.data(DATA_OMIT_RETURNING_CLAUSE, true);
+        local.settings().setExecuteLogging(false);
+
+        for (int i = 0; i < records.length; i++) {
+            Configuration previous = records[i].configuration();
+            boolean executable = false;
+
+            try {
+                records[i].attach(local);
+                executeAction(i);
+            }
+            catch (QueryCollectorSignal e) {
+                Query query = e.getQuery();
+                String sql = e.getSQL();
+
+                // Aggregate records with identical SQL, i.e. identical columns
+                if (executable = query.isExecutable()) {
+                    List<Integer> group = groups.get(sql);
+
+                    if (group == null) {
+                        groups.put(sql, group = new ArrayList<>());
+                        queries.put(sql, new ArrayList<>());
+                    }
+
+                    group.add(i);
+                    queries.get(sql).add((InsertQueryImpl<?>) query);
+                }
+            }
+            finally {
+                records[i].attach(previous);
+                insertEnd.add(new ArrayList<>(pending));
+                pending.clear();
+
+                if (!executable)
+                    fire(insertEnd.get(i));
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        for (Entry<String, List<Integer>> entry : groups.entrySet()) {
+            List<Integer> group = entry.getValue();
+            List<InsertQueryImpl<?>> list = queries.get(entry.getKey());
+            int chunk = Math.max(1, MAX_BIND_VALUES / Math.max(1, list.get(0).getInsertMaps().fields().size()));
+
+            for (int from = 0; from < group.size(); from += chunk) {
+                int to = Math.min(from + chunk, group.size());
+
+                try {
+                    TableRecordImpl first = (TableRecordImpl) records[group.get(from)];
+                    InsertQueryImpl insert = (InsertQueryImpl) dsl.insertQuery(first.getTable());
+
+                    for (int i = from; i < to; i++) {
+                        insert.newRecord();
+                        insert.addValues(list.get(i).getInsertMaps().lastMap());
+                    }
+
+                    Collection<Field<?>> key = first.setReturningIfNeeded(insert);
+                    int count = insert.execute();
+
+                    if (key != null && !key.isEmpty()) {
+                        Result<Record> returned = insert.getReturnedRecords();
+
+                        // Returned values can only be matched with records if
+                        // there is one returned record per inserted record
+                        if (returned.size() != to - from)
+                            throw new DataAccessException("Expected " + (to - from) + " returned records from batch insert, but got " + returned.size() + ". Returned values cannot be matched with the inserted records.");
+
+                        for (int i = from; i < to; i++)
+                            ((TableRecordImpl<?>) records[group.get(i)]).setReturnedValues(returned.get(i - from), key);
+                    }
+
+                    for (int i = from; i < to; i++)
+                        result.add(count == to - from ? 1 : Statement.SUCCESS_NO_INFO);
+                }
+                finally {
+                    for (int i = from; i < to; i++)
+                        fire(insertEnd.get(group.get(i)));
+                }
+            }
+        }
+
+        int[] array = new int[result.size()];
+        for (int i = 0; i < result.size(); i++)
+            array[i] = result.get(i);
+
+        updateChangedFlag();
+        return array;
+    }
+
+    private static final void fire(List<Runnable> events) {
+        for (Runnable event : events)
+            event.run();
+    }
+
     private final int[] executeStatic() {
         List<Query> queries = new ArrayList<>();
         QueryCollector collector = new QueryCollector();
@@ -248,6 +427,88 @@ final class BatchCRUD extends AbstractBatch {
         DELETE
     }
 
+    /**
+     * A {@link RecordListener} that defers <code>insertEnd</code> events.
+     * <p>
+     * The events are collected in a list, to be fired once the values
+     * returned by the batch statement have been set to the records.
+     */
+    private static class DeferredInsertEnd implements RecordListener {
+
+        private final RecordListener delegate;
+        private final List<Runnable> pending;
+
+        DeferredInsertEnd(RecordListener delegate, List<Runnable> pending) {
+            this.delegate = delegate;
+            this.pending = pending;
+        }
+
+        @Override
+        public void storeStart(RecordContext ctx) {
+            delegate.storeStart(ctx);
+        }
+
+        @Override
+        public void storeEnd(RecordContext ctx) {
+            delegate.storeEnd(ctx);
+        }
+
+        @Override
+        public void insertStart(RecordContext ctx) {
+            delegate.insertStart(ctx);
+        }
+
+        @Override
+        public void insertEnd(RecordContext ctx) {
+            pending.add(() -> delegate.insertEnd(ctx));
+        }
+
+        @Override
+        public void updateStart(RecordContext ctx) {
+            delegate.updateStart(ctx);
+        }
+
+        @Override
+        public void updateEnd(RecordContext ctx) {
+            delegate.updateEnd(ctx);
+        }
+
+        @Override
+        public void deleteStart(RecordContext ctx) {
+            delegate.deleteStart(ctx);
+        }
+
+        @Override
+        public void deleteEnd(RecordContext ctx) {
+            delegate.deleteEnd(ctx);
+        }
+
+        @Override
+        public void loadStart(RecordContext ctx) {
+            delegate.loadStart(ctx);
+        }
+
+        @Override
+        public void loadEnd(RecordContext ctx) {
+            delegate.loadEnd(ctx);
+        }
+
+        @Override
+        public void refreshStart(RecordContext ctx) {
+            delegate.refreshStart(ctx);
+        }
+
+        @Override
+        public void refreshEnd(RecordContext ctx) {
+            delegate.refreshEnd(ctx);
+        }
+
+        @Override
+        public void exception(RecordContext ctx) {
+            delegate.exception(ctx);
+        }
+    }
+
     /**
      * Collect queries
      * <p>
@@ -98,11 +98,11 @@ final class BetweenCondition<T> extends AbstractCondition implements BetweenAndS
     private static final Clause[]            CLAUSES_NOT_BETWEEN_SYMMETRIC = { CONDITION, CONDITION_NOT_BETWEEN_SYMMETRIC };
     private static final Set<SQLDialect>     NO_SUPPORT_SYMMETRIC          = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, H2, MARIADB, MYSQL, SQLITE);
 
-    private final boolean                    symmetric;
-    private final boolean                    not;
-    private final Field<T>                   field;
-    private final Field<T>                   minValue;
-    private Field<T>                         maxValue;
+    final boolean                            symmetric;
+    final boolean                            not;
+    final Field<T>                           field;
+    final Field<T>                           minValue;
+    Field<T>                                 maxValue;
 
     BetweenCondition(Field<T> field, Field<T> minValue, boolean not, boolean symmetric) {
         this.field = field;
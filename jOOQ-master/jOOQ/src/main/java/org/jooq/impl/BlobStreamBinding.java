@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.executeStaticStatements;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.BlobStream;
+import org.jooq.Converter;
+import org.jooq.exception.DataTypeException;
+
+/**
+ * A binding that binds {@link BlobStream} values as binary streams, and that
+ * fetches them as {@link Blob} references, without materialising the content
+ * in memory.
+ * <p>
+ * Use this binding with a {@link SQLDataType#BLOB} data type, e.g.
+ * <code><pre>
+ * DataType&lt;BlobStream&gt; type = SQLDataType.BLOB.asConvertedDataType(new BlobStreamBinding());
+ * </pre></code>
+ * <p>
+ * Fetched values reference a {@link Blob} which is valid only as long as the
+ * JDBC driver permits, usually within the fetching transaction. Clients should
+ * {@link BlobStream#close()} such values when they are done with them. In
+ * {@link org.jooq.SQLDialect#POSTGRES}, where binary data is stored as
+ * <code>bytea</code>, values are fetched as byte arrays.
+ * <p>
+ * When bind values are inlined, e.g. for logging purposes, values whose
+ * content is not {@link BlobStream#isMaterialised()} are rendered as
+ * <code>NULL</code>, unless static statements are executed.
+ * <p>
+ * The streams that are opened to bind values are closed after the statement
+ * has been executed.
+ *
+ * @author Lukas Eder
+ */
+public class BlobStreamBinding implements Binding<byte[], BlobStream> {
+
+    /**
+     * Generated UID
+     */
+    private static final long                          serialVersionUID = -3464722096466612580L;
+    private static final Converter<byte[], BlobStream> CONVERTER        = Converter.ofNullable(
+        byte[].class,
+        BlobStream.class,
+        BlobStream::valueOf,
+        BlobStream::bytes
+    );
+
+    @Override
+    public final Converter<byte[], BlobStream> converter() {
+        return CONVERTER;
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<BlobStream> ctx) throws SQLException {
+        BlobStream value = ctx.value();
+
+        if (ctx.render().paramType() == INLINED && value != null) {
+
+            // Content that is not in memory yet is only read when static
+            // statements are executed, not when inlining bind values e.g. for
+            // logging purposes, where a NULL placeholder is rendered instead
+            if (value.isMaterialised())
+                ctx.render().visit(DSL.inline(value.bytes(), SQLDataType.BLOB));
+            else if (!executeStaticStatements(ctx.settings()))
+                ctx.render().visit(DSL.inline((byte[]) null, SQLDataType.BLOB));
+            else if (value.isRepeatable())
+                ctx.render().visit(DSL.inline(value.bytes(), SQLDataType.BLOB));
+            else
+                throw new DataTypeException("Cannot inline single-use BlobStream: " + value);
+        }
+
+        // Visiting a nested Param here would replace this value in the list of
+        // collected bind values
+        else
+            ctx.render().sql(ctx.variable());
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<BlobStream> ctx) throws SQLException {
+        ctx.statement().registerOutParameter(ctx.index(), Types.BLOB);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<BlobStream> ctx) throws SQLException {
+        BlobStream value = ctx.value();
+
+        if (value == null)
+            ctx.statement().setNull(ctx.index(), Types.BLOB);
+        else if (value.length() >= 0L)
+            ctx.statement().setBinaryStream(ctx.index(), ctx.autoClose(value.inputStream()), value.length());
+        else
+            ctx.statement().setBinaryStream(ctx.index(), ctx.autoClose(value.inputStream()));
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<BlobStream> ctx) throws SQLException {
+        BlobStream value = ctx.value();
+        ctx.output().writeBinaryStream(value == null ? null : ctx.autoClose(value.inputStream()));
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<BlobStream> ctx) throws SQLException {
+        if (ctx.family() == POSTGRES)
+            ctx.value(BlobStream.valueOf(ctx.resultSet().getBytes(ctx.index())));
+        else
+            ctx.value(BlobStream.valueOf(ctx.resultSet().getBlob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<BlobStream> ctx) throws SQLException {
+        if (ctx.family() == POSTGRES)
+            ctx.value(BlobStream.valueOf(ctx.statement().getBytes(ctx.index())));
+        else
+            ctx.value(BlobStream.valueOf(ctx.statement().getBlob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<BlobStream> ctx) throws SQLException {
+        if (ctx.family() == POSTGRES)
+            ctx.value(BlobStream.valueOf(ctx.input().readBytes()));
+        else
+            ctx.value(BlobStream.valueOf(ctx.input().readBlob()));
+    }
+}
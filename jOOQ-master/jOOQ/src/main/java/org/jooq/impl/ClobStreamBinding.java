@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.executeStaticStatements;
+
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.ClobStream;
+import org.jooq.Converter;
+import org.jooq.exception.DataTypeException;
+
+/**
+ * A binding that binds {@link ClobStream} values as character streams, and that
+ * fetches them as {@link Clob} references, without materialising the content
+ * in memory.
+ * <p>
+ * Use this binding with a {@link SQLDataType#CLOB} data type, e.g.
+ * <code><pre>
+ * DataType&lt;ClobStream&gt; type = SQLDataType.CLOB.asConvertedDataType(new ClobStreamBinding());
+ * </pre></code>
+ * <p>
+ * Fetched values reference a {@link Clob} which is valid only as long as the
+ * JDBC driver permits, usually within the fetching transaction. Clients should
+ * {@link ClobStream#close()} such values when they are done with them. In
+ * {@link org.jooq.SQLDialect#POSTGRES}, where character data is stored as
+ * <code>text</code>, values are fetched as strings.
+ * <p>
+ * When bind values are inlined, e.g. for logging purposes, values whose
+ * content is not {@link ClobStream#isMaterialised()} are rendered as
+ * <code>NULL</code>, unless static statements are executed.
+ * <p>
+ * The streams that are opened to bind values are closed after the statement
+ * has been executed.
+ *
+ * @author Lukas Eder
+ */
+public class ClobStreamBinding implements Binding<String, ClobStream> {
+
+    /**
+     * Generated UID
+     */
+    private static final long                          serialVersionUID = 5129431887035209715L;
+    private static final Converter<String, ClobStream> CONVERTER        = Converter.ofNullable(
+        String.class,
+        ClobStream.class,
+        ClobStream::valueOf,
+        ClobStream::string
+    );
+
+    @Override
+    public final Converter<String, ClobStream> converter() {
+        return CONVERTER;
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<ClobStream> ctx) throws SQLException {
+        ClobStream value = ctx.value();
+
+        if (ctx.render().paramType() == INLINED && value != null) {
+
+            // Content that is not in memory yet is only read when static
+            // statements are executed, not when inlining bind values e.g. for
+            // logging purposes, where a NULL placeholder is rendered instead
+            if (value.isMaterialised())
+                ctx.render().visit(DSL.inline(value.string(), SQLDataType.CLOB));
+            else if (!executeStaticStatements(ctx.settings()))
+                ctx.render().visit(DSL.inline((String) null, SQLDataType.CLOB));
+            else if (value.isRepeatable())
+                ctx.render().visit(DSL.inline(value.string(), SQLDataType.CLOB));
+            else
+                throw new DataTypeException("Cannot inline single-use ClobStream: " + value);
+        }
+
+        // Visiting a nested Param here would replace this value in the list of
+        // collected bind values
+        else
+            ctx.render().sql(ctx.variable());
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<ClobStream> ctx) throws SQLException {
+        ctx.statement().registerOutParameter(ctx.index(), Types.CLOB);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<ClobStream> ctx) throws SQLException {
+        ClobStream value = ctx.value();
+
+        if (value == null)
+            ctx.statement().setNull(ctx.index(), Types.CLOB);
+        else if (value.length() >= 0L)
+            ctx.statement().setCharacterStream(ctx.index(), ctx.autoClose(value.reader()), value.length());
+        else
+            ctx.statement().setCharacterStream(ctx.index(), ctx.autoClose(value.reader()));
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<ClobStream> ctx) throws SQLException {
+        ClobStream value = ctx.value();
+        ctx.output().writeCharacterStream(value == null ? null : ctx.autoClose(value.reader()));
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<ClobStream> ctx) throws SQLException {
+        if (ctx.family() == POSTGRES)
+            ctx.value(ClobStream.valueOf(ctx.resultSet().getString(ctx.index())));
+        else
+            ctx.value(ClobStream.valueOf(ctx.resultSet().getClob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<ClobStream> ctx) throws SQLException {
+        if (ctx.family() == POSTGRES)
+            ctx.value(ClobStream.valueOf(ctx.statement().getString(ctx.index())));
+        else
+            ctx.value(ClobStream.valueOf(ctx.statement().getClob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<ClobStream> ctx) throws SQLException {
+        if (ctx.family() == POSTGRES)
+            ctx.value(ClobStream.valueOf(ctx.input().readString()));
+        else
+            ctx.value(ClobStream.valueOf(ctx.input().readClob()));
+    }
+}
@@ -106,7 +106,7 @@ final class CompareCondition extends AbstractCondition implements LikeEscapeStep
     final Field<?>                       field1;
     final Field<?>                       field2;
     final Comparator                     comparator;
-    private Character                    escape;
+    Character                            escape;
 
     CompareCondition(Field<?> field1, Field<?> field2, Comparator comparator) {
         this.field1 = field1;
@@ -0,0 +1,262 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.InvocationOrder.REVERSE;
+import static org.jooq.conf.ThrowExceptions.THROW_ALL;
+
+import java.util.Locale;
+
+import org.jooq.Configuration;
+import org.jooq.RenderContext.CastMode;
+import org.jooq.conf.ParamCastMode;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.QueryPoolable;
+import org.jooq.conf.RenderFormatting;
+import org.jooq.conf.RenderKeywordCase;
+import org.jooq.conf.RenderNameCase;
+import org.jooq.conf.RenderQuotedNames;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.conf.StatementType;
+import org.jooq.conf.ThrowExceptions;
+
+/**
+ * An immutable snapshot of those {@link Settings} values that are read on
+ * every query rendering and execution.
+ * <p>
+ * {@link Settings} is a mutable JAXB bean, whose values need to be resolved
+ * against their defaults each time they're read. A {@link DefaultConfiguration}
+ * compiles its settings into this snapshot when they are set through
+ * {@link Configuration#set(Settings)} or {@link Configuration#derive(Settings)}.
+ * <p>
+ * As the {@link Configuration#settings()} object may still be modified in
+ * place afterwards, the snapshot also remembers the raw values it was compiled
+ * from. Checking whether they're still current is a matter of a few reference
+ * comparisons, and doesn't allocate.
+ *
+ * @author Lukas Eder
+ */
+final class CompiledSettings {
+
+    /**
+     * The raw settings values that a snapshot is compiled from.
+     */
+    @SuppressWarnings("deprecation")
+    private static final RawSetting[]        RAW = {
+        Settings::getRenderKeywordCase,
+        Settings::getRenderKeywordStyle,
+        Settings::getRenderNameCase,
+        Settings::getRenderNameStyle,
+        Settings::getRenderQuotedNames,
+        Settings::isRenderFormatted,
+        s -> s.getRenderFormatting() == null ? null : s.getRenderFormatting().getNewline(),
+        s -> s.getRenderFormatting() == null ? null : s.getRenderFormatting().getIndentation(),
+        s -> s.getRenderFormatting() == null ? null : s.getRenderFormatting().getPrintMargin(),
+        Settings::getRenderLocale,
+        Settings::getLocale,
+        Settings::getInlineThreshold,
+        Settings::getStatementType,
+        Settings::getParamType,
+        Settings::getParamCastMode,
+        Settings::getVisitListenerStartInvocationOrder,
+        Settings::getVisitListenerEndInvocationOrder,
+        Settings::getQueryTimeout,
+        Settings::getQueryPoolable,
+        Settings::getMaxRows,
+        Settings::getFetchSize,
+        Settings::getFetchServerOutputSize,
+        Settings::isExecuteLogging,
+        Settings::getExecuteListenerStartInvocationOrder,
+        Settings::getExecuteListenerEndInvocationOrder,
+        Settings::getThrowExceptions
+    };
+
+    /**
+     * The most recently compiled snapshot for configurations that don't keep
+     * their own.
+     */
+    private static volatile CompiledSettings last;
+
+    private final Object[]  raw;
+
+    // Rendering
+    final RenderKeywordCase renderKeywordCase;
+    final RenderNameCase    renderNameCase;
+    final RenderQuotedNames renderQuotedNames;
+    final boolean           renderFormatted;
+    final String            renderNewline;
+    final String            renderIndentation;
+    final int               renderPrintMargin;
+    private final Locale    renderLocale;
+    final int               inlineThreshold;
+    final ParamType         forcedParamType;
+    final boolean           castModeOverride;
+    final CastMode          castMode;
+    final boolean           visitListenerStartReverse;
+    final boolean           visitListenerEndReverse;
+
+    // Execution
+    final StatementType     statementType;
+    final ParamType         paramType;
+    final int               queryTimeout;
+    final QueryPoolable     queryPoolable;
+    final int               maxRows;
+    final int               fetchSize;
+    final int               fetchServerOutputSize;
+    final boolean           executeLogging;
+    final boolean           executeListenerStartReverse;
+    final boolean           executeListenerEndReverse;
+    final ThrowExceptions   throwExceptions;
+
+    CompiledSettings(Settings settings) {
+        this.raw = new Object[RAW.length];
+
+        for (int i = 0; i < RAW.length; i++)
+            raw[i] = RAW[i].get(settings);
+
+        this.renderKeywordCase = SettingsTools.getRenderKeywordCase(settings);
+        this.renderNameCase = SettingsTools.getRenderNameCase(settings);
+        this.renderQuotedNames = SettingsTools.getRenderQuotedNames(settings);
+        this.renderFormatted = TRUE.equals(settings.isRenderFormatted());
+
+        RenderFormatting formatting = settings.getRenderFormatting();
+        if (formatting == null)
+            formatting = new RenderFormatting();
+
+        this.renderNewline = formatting.getNewline() == null ? "\n" : formatting.getNewline();
+        this.renderIndentation = formatting.getIndentation() == null ? "  " : formatting.getIndentation();
+        this.renderPrintMargin = formatting.getPrintMargin() == null ? 80 : formatting.getPrintMargin();
+        this.renderLocale = settings.getRenderLocale() != null ? settings.getRenderLocale() : settings.getLocale();
+        this.inlineThreshold = settings.getInlineThreshold() == null ? 0 : settings.getInlineThreshold();
+
+        this.statementType = SettingsTools.getStatementType(settings);
+        this.paramType = SettingsTools.getParamType(settings);
+        this.forcedParamType = statementType == StatementType.STATIC_STATEMENT
+            ? ParamType.INLINED
+            : paramType == ParamType.FORCE_INDEXED
+            ? ParamType.INDEXED
+            : null;
+
+        ParamCastMode m = settings.getParamCastMode();
+        this.castModeOverride =
+              m != ParamCastMode.DEFAULT && m != null;
+        this.castMode =
+              m == ParamCastMode.ALWAYS
+            ? CastMode.ALWAYS
+            : m == ParamCastMode.NEVER
+            ? CastMode.NEVER
+            : CastMode.DEFAULT;
+
+        this.visitListenerStartReverse = settings.getVisitListenerStartInvocationOrder() == REVERSE;
+        this.visitListenerEndReverse = settings.getVisitListenerEndInvocationOrder() == REVERSE;
+
+        this.queryTimeout = SettingsTools.getQueryTimeout(0, settings);
+        this.queryPoolable = SettingsTools.getQueryPoolable(null, settings);
+        this.maxRows = SettingsTools.getMaxRows(0, settings);
+        this.fetchSize = SettingsTools.getFetchSize(0, settings);
+        this.fetchServerOutputSize = SettingsTools.getFetchServerOutputSize(0, settings);
+        this.executeLogging = !FALSE.equals(settings.isExecuteLogging());
+        this.executeListenerStartReverse = settings.getExecuteListenerStartInvocationOrder() == REVERSE;
+        this.executeListenerEndReverse = settings.getExecuteListenerEndInvocationOrder() == REVERSE;
+        this.throwExceptions = settings.getThrowExceptions() != null ? settings.getThrowExceptions() : THROW_ALL;
+    }
+
+    /**
+     * Get the compiled settings of a configuration.
+     * <p>
+     * Only {@link DefaultConfiguration} keeps a compiled snapshot of its
+     * settings. Other configurations reuse the most recently compiled
+     * snapshot, if their settings have the same raw values.
+     */
+    static final CompiledSettings of(Configuration configuration) {
+        if (configuration instanceof DefaultConfiguration)
+            return ((DefaultConfiguration) configuration).compiledSettings();
+
+        Settings settings = Tools.settings(configuration);
+        CompiledSettings result = last;
+
+        if (result == null || !result.compiledFrom(settings))
+            last = result = new CompiledSettings(settings);
+
+        return result;
+    }
+
+    /**
+     * Whether this snapshot is compiled from the current values of some
+     * {@link Settings}.
+     */
+    final boolean compiledFrom(Settings settings) {
+        for (int i = 0; i < RAW.length; i++)
+            if (raw[i] != RAW[i].get(settings))
+                return false;
+
+        return true;
+    }
+
+    final Locale renderLocale() {
+        return renderLocale != null ? renderLocale : Locale.getDefault();
+    }
+
+    final boolean executePreparedStatements() {
+        return statementType == StatementType.PREPARED_STATEMENT;
+    }
+
+    final int queryTimeout(int timeout) {
+        return timeout != 0 ? timeout : queryTimeout;
+    }
+
+    final QueryPoolable queryPoolable(QueryPoolable poolable) {
+        return poolable != null && poolable != QueryPoolable.DEFAULT ? poolable : queryPoolable;
+    }
+
+    final int maxRows(int rows) {
+        return rows != 0 ? rows : maxRows;
+    }
+
+    final int fetchSize(int size) {
+        return size != 0 ? size : fetchSize;
+    }
+
+    @FunctionalInterface
+    private interface RawSetting {
+        Object get(Settings settings);
+    }
+}
@@ -57,7 +57,7 @@ final class Concat extends AbstractField<String> {
      */
     private static final long       serialVersionUID = -7273879239726265322L;
 
-    private final        Field<?>[] arguments;
+    final                Field<?>[] arguments;
 
     Concat(Field<?>... arguments) {
         super(N_CONCAT, SQLDataType.VARCHAR);
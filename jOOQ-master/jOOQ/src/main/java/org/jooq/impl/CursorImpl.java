@@ -76,7 +76,9 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.Binding;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -88,6 +90,7 @@ import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.Table;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.IOException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -101,7 +104,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
-    private final boolean[]                                intern;
+    private final StringDictionary[]                       intern;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
@@ -145,14 +148,33 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         this.lockRowsForUpdate = TRUE.equals(ctx.data(DATA_LOCK_ROWS_FOR_UPDATE));
         this.autoclosing = autoclosing;
 
+        this.intern = dictionaries(ctx.configuration(), fields, internIndexes);
+    }
+
+    /**
+     * Create one {@link StringDictionary} per interned field, or
+     * <code>null</code> if no field is interned.
+     */
+    private static final StringDictionary[] dictionaries(Configuration configuration, Field<?>[] fields, int[] internIndexes) {
+        StringDictionary[] result = null;
+
         if (internIndexes != null) {
-            this.intern = new boolean[fields.length];
+            result = new StringDictionary[fields.length];
 
             for (int i : internIndexes)
-                intern[i] = true;
+                result[i] = StringDictionary.of(configuration, fields[i], false);
         }
-        else
-            this.intern = null;
+
+        if (TRUE.equals(configuration.settings().isFetchInternLowCardinalityStrings())) {
+            if (result == null)
+                result = new StringDictionary[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                if (result[i] == null)
+                    result[i] = StringDictionary.of(configuration, fields[i], true);
+        }
+
+        return result;
     }
 
 
@@ -407,6 +429,59 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         return fetch().into(table);
     }
 
+    /**
+     * Export all remaining rows without creating any records.
+     * <p>
+     * As no records are created, this does not produce any
+     * {@link ExecuteListener#recordStart(ExecuteContext)} or
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events.
+     */
+    final void export(Export export) {
+        if (iterator == null)
+            listener.fetchStart(ctx);
+
+        try {
+            export.header(this);
+
+            while (!isClosed && (maxRows <= 0 || rows < maxRows) && rs.next()) {
+
+                // [#1296] Force a row-lock by updating the row if the
+                // FOR UPDATE clause is emulated
+                if (lockRowsForUpdate) {
+                    rs.updateObject(1, rs.getObject(1));
+                    rs.updateRow();
+                }
+
+                export.row(rs, rsContext);
+                rows++;
+            }
+
+            export.footer();
+            export.flush();
+        }
+
+        // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+        catch (ControlFlowSignal e) {
+            throw e;
+        }
+        catch (RuntimeException e) {
+            ctx.exception(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while exporting", e);
+        }
+        finally {
+            close();
+        }
+    }
+
     @Override
     public final void close() {
         JDBCUtils.safeClose(rs);
@@ -1570,6 +1645,13 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
          */
         private Boolean hasNext;
 
+        /**
+         * The plan for reading records, shared by all rows of this cursor
+         */
+        @SuppressWarnings("unchecked")
+        private final CursorRecordInitialiser initialiser = new CursorRecordInitialiser(
+            (F0<? extends AbstractRecord>) factory, fields.fields, 0, intern);
+
         @Override
         public final boolean hasNext() {
             if (hasNext == null) {
@@ -1610,8 +1692,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
                         rs.updateRow();
                     }
 
-                    record = Tools.newRecord(true, (F0<AbstractRecord>) factory, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                  .operate(new CursorRecordInitialiser(fields.fields, 0));
+                    record = initialiser.newRecord();
 
                     rows++;
                 }
@@ -1647,14 +1728,68 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * A plan for reading records of one row type from the
+         * {@link ResultSet}.
+         * <p>
+         * The record factory, the {@link Binding}s and the JDBC indexes of all
+         * fields, including those of nested records, are resolved once per
+         * fetch, such that initialising a record per row does not need any
+         * further lookups.
+         */
         private class CursorRecordInitialiser implements RecordOperation<AbstractRecord, SQLException> {
 
-            private final Field<?>[] initialiserFields;
-            private int              offset;
+            private final F0<? extends AbstractRecord>  initialiserFactory;
+            private final Field<?>[]                    initialiserFields;
+            private final Binding<?, Object>[]          bindings;
+            private final int[]                         indexes;
+            private final CursorRecordInitialiser[]     nested;
+            private final StringDictionary[]            dictionaries;
 
-            CursorRecordInitialiser(Field<?>[] fields, int offset) {
+            @SuppressWarnings("unchecked")
+            CursorRecordInitialiser(F0<? extends AbstractRecord> factory, Field<?>[] fields, int offset, StringDictionary[] dictionaries) {
+                this.initialiserFactory = factory;
                 this.initialiserFields = fields;
-                this.offset = offset;
+                this.bindings = (Binding<?, Object>[]) new Binding<?, ?>[fields.length];
+                this.indexes = new int[fields.length];
+                this.dictionaries = dictionaries;
+
+                CursorRecordInitialiser[] n = null;
+                for (int i = 0; i < fields.length; i++) {
+                    Field<?> field = fields[i];
+                    Field<?>[] nestedFields = null;
+                    Class<? extends AbstractRecord> recordType = null;
+
+                    if (field instanceof RowField) {
+                        nestedFields = ((RowField<?, ?>) field).emulatedFields();
+                        // TODO: [#4695] Calculate the correct Record[B] type
+                        recordType = RecordImplN.class;
+                    }
+                    else if (field instanceof EmbeddableTableField) {
+                        nestedFields = embeddedFields(field);
+                        recordType = (Class<AbstractRecord>) ((EmbeddableTableField<?, ?>) field).recordType;
+                    }
+
+                    indexes[i] = offset + i + 1;
+
+                    if (nestedFields != null) {
+                        if (n == null)
+                            n = (CursorRecordInitialiser[]) new CursorImpl<?>.CursorIterator.CursorRecordInitialiser[fields.length];
+
+                        n[i] = new CursorRecordInitialiser(recordFactory(recordType, nestedFields), nestedFields, offset + i, null);
+                        offset += nestedFields.length - 1;
+                    }
+                    else {
+                        bindings[i] = (Binding<?, Object>) field.getBinding();
+                    }
+                }
+
+                this.nested = n;
+            }
+
+            final AbstractRecord newRecord() throws SQLException {
+                return Tools.newRecord(true, initialiserFactory, ((DefaultExecuteContext) ctx).originalConfiguration())
+                            .operate(this);
             }
 
             @Override
@@ -1682,12 +1817,12 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
 
                 for (int i = 0; i < initialiserFields.length; i++)
-                    setValue(record, initialiserFields[i], i);
+                    setValue(record, i);
 
-                if (intern != null)
-                    for (int i = 0; i < intern.length; i++)
-                        if (intern[i])
-                            record.intern0(i);
+                if (dictionaries != null)
+                    for (int i = 0; i < dictionaries.length; i++)
+                        if (dictionaries[i] != null)
+                            record.intern0(i, dictionaries[i]);
 
                 ctx.record(record);
                 listener.recordEnd(ctx);
@@ -1695,36 +1830,18 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
                 return record;
             }
 
-            /**
-             * Utility method to prevent unnecessary unchecked conversions
-             */
             @SuppressWarnings("unchecked")
-            private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
+            private final void setValue(AbstractRecord record, int index) throws SQLException {
                 try {
-                    T value;
-                    Field<?>[] nested = null;
-                    Class<? extends AbstractRecord> recordType = null;
-
-                    if (field instanceof RowField) {
-                        nested = ((RowField<?, ?>) field).emulatedFields();
-                        // TODO: [#4695] Calculate the correct Record[B] type
-                        recordType = RecordImplN.class;
-                    }
-                    else if (field instanceof EmbeddableTableField) {
-                        nested = embeddedFields(field);
-                        recordType = (Class<AbstractRecord>) ((EmbeddableTableField<?, ?>) field).recordType;
-                    }
-
-                    if (nested != null) {
-                        value = (T) Tools.newRecord(true, recordType, nested, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                         .operate(new CursorRecordInitialiser(nested, offset + index));
+                    Object value;
 
-                        offset += nested.length - 1;
+                    if (nested != null && nested[index] != null) {
+                        value = nested[index].newRecord();
                     }
                     else {
-                        rsContext.index(offset + index + 1);
-                        field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
-                        value = (T) rsContext.value();
+                        rsContext.index(indexes[index]);
+                        bindings[index].get((BindingGetResultSetContext<Object>) rsContext);
+                        value = rsContext.value();
                     }
 
                     record.values[index] = value;
@@ -1733,7 +1850,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
                 // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
                 catch (Exception e) {
-                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
+                    throw new SQLException("Error while reading field: " + initialiserFields[index] + ", at JDBC index: " + indexes[index], e);
                 }
             }
         }
@@ -0,0 +1,418 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_DAO;
+import static org.jooq.impl.Tools.DataKey.DATA_DAO_CACHE_WRITTEN_TABLES;
+import static org.jooq.impl.Tools.DataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION;
+import static org.jooq.impl.Tools.getMappedTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.TransactionProvider;
+import org.jooq.UniqueKey;
+import org.jooq.conf.Settings;
+
+/**
+ * A bounded, per-table read-through cache of records, looked up by primary
+ * key values.
+ * <p>
+ * Caches are stored in a {@link Configuration}'s caches, which are shared by
+ * all configurations derived from it. Within those, there is a separate cache
+ * per {@link Configuration#connectionProvider()} and mapped table name, such
+ * that e.g. tenants with different schema mappings do not see each other's
+ * records. Only records that were found are cached. Writes invalidate the
+ * affected keys and increment a generation counter, such that a concurrent
+ * read that started before the write cannot put a stale record back into the
+ * cache.
+ * <p>
+ * Within transactions managed by jOOQ, records are neither read from nor put
+ * into the cache, as they may not have been committed yet. Writes within a
+ * transaction invalidate the affected keys immediately, and all cached records
+ * of the written tables once the transaction is committed or rolled back.
+ *
+ * @author Lukas Eder
+ */
+final class DAOCache {
+
+    /**
+     * The maximum number of caches per table, i.e. of distinct connection
+     * providers and mapped table names.
+     */
+    private static final int              MAX_SCOPES = 16;
+
+    private final int                     maxSize;
+    private final long                    timeToLive;
+    private final Map<Object, CacheEntry> entries;
+    private long                          generation;
+    private long                          hits;
+    private long                          misses;
+    private long                          evictions;
+    private long                          invalidations;
+
+    private DAOCache(int maxSize, long timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<Object, CacheEntry>(16, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = -2472313738575009566L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest) {
+                if (size() > DAOCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Whether caching is enabled for a table.
+     */
+    static final boolean enabled(Configuration configuration, Table<?> table) {
+        Integer size = configuration.settings().getDaoCacheSize();
+        return size != null && size > 0 && table.getPrimaryKey() != null;
+    }
+
+    /**
+     * Get the cache for a table, or <code>null</code> if caching is disabled,
+     * the table has no primary key, or a transaction is in progress.
+     */
+    static final DAOCache cache(Configuration configuration, Table<?> table) {
+        if (!enabled(configuration, table) || transaction(configuration) != null)
+            return null;
+
+        Settings settings = configuration.settings();
+        Map<Object, DAOCache> scopes = scopes(configuration, table, true);
+        Object scope = Arrays.asList(configuration.connectionProvider(), getMappedTable(configuration, table).getQualifiedName());
+
+        synchronized (scopes) {
+            DAOCache result = scopes.get(scope);
+
+            if (result == null) {
+                Integer ttl = settings.getDaoCacheTimeToLive();
+                scopes.put(scope, result = new DAOCache(settings.getDaoCacheSize(), ttl == null || ttl <= 0 ? 0L : ttl * 1000000L));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Invalidate the cached record for a written record, if any.
+     */
+    static final void invalidate(Configuration configuration, TableRecord<?> record) {
+        if (configuration == null)
+            return;
+
+        UniqueKey<?> key = record.getTable().getPrimaryKey();
+        if (key == null)
+            invalidate(configuration, record.getTable(), null);
+        else
+            invalidate(configuration, record.getTable(), keys(key.getFieldsArray(), record));
+    }
+
+    /**
+     * Invalidate the cached records of a table for some keys, or all cached
+     * records if <code>keys</code> is <code>null</code>, in all caches of the
+     * table.
+     */
+    static final void invalidate(Configuration configuration, Table<?> table, Collection<?> keys) {
+        Map<Object, DAOCache> scopes = scopes(configuration, table, false);
+
+        if (scopes != null) {
+            List<DAOCache> caches;
+
+            synchronized (scopes) {
+                caches = new ArrayList<>(scopes.values());
+            }
+
+            for (DAOCache cache : caches)
+                if (keys == null)
+                    cache.invalidateAll();
+                else
+                    cache.invalidate(keys);
+        }
+
+        // Concurrent reads may cache the records again before the write is
+        // committed, so they are invalidated again when the transaction ends
+        Configuration transaction = transaction(configuration);
+        if (transaction != null) {
+            Set<Table<?>> written = written(transaction);
+
+            if (written != null)
+                written.add(table);
+        }
+    }
+
+    /**
+     * Start tracking the tables written to within a transaction.
+     */
+    static final void transactionBegin(Configuration transaction) {
+        Integer size = transaction.settings().getDaoCacheSize();
+
+        // Nested transactions share the tables of their outer transaction
+        if (size != null && size > 0 && written(transaction) == null)
+            transaction.data(DATA_DAO_CACHE_WRITTEN_TABLES, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Invalidate the cached records of all tables written to within a
+     * transaction, after it has been committed or rolled back.
+     */
+    static final void transactionEnd(Configuration transaction) {
+        Set<Table<?>> written = written(transaction);
+
+        if (written != null)
+            for (Table<?> table : written)
+                invalidate(transaction, table, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Set<Table<?>> written(Configuration transaction) {
+        return (Set<Table<?>>) transaction.data(DATA_DAO_CACHE_WRITTEN_TABLES);
+    }
+
+    /**
+     * The configuration of the transaction in progress, or <code>null</code>
+     * if no transaction managed by jOOQ is in progress.
+     */
+    private static final Configuration transaction(Configuration configuration) {
+        TransactionProvider tp = configuration.transactionProvider();
+
+        if (tp instanceof ThreadLocalTransactionProvider) {
+            ThreadLocalTransactionProvider t = (ThreadLocalTransactionProvider) tp;
+            return t.localTxConnection.get() != null ? t.configuration(null) : null;
+        }
+
+        return configuration.data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION) != null ? configuration : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Map<Object, DAOCache> scopes(Configuration configuration, Table<?> table, boolean create) {
+        Map<Object, Object> caches = caches(configuration, create);
+        if (caches == null)
+            return null;
+
+        Map<Object, DAOCache> result = (Map<Object, DAOCache>) caches.get(table);
+        if (result == null && create) {
+            Map<Object, DAOCache> created = new LinkedHashMap<Object, DAOCache>(4, 0.75f, true) {
+
+                /**
+                 * Generated UID
+                 */
+                private static final long serialVersionUID = 4630186211536155386L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, DAOCache> eldest) {
+                    return size() > MAX_SCOPES;
+                }
+            };
+
+            result = (Map<Object, DAOCache>) ((ConcurrentHashMap<Object, Object>) caches).putIfAbsent(table, created);
+            if (result == null)
+                result = created;
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Map<Object, Object> caches(Configuration configuration, boolean create) {
+        if (configuration instanceof DefaultConfiguration)
+            return ((DefaultConfiguration) configuration).cache(DATA_CACHE_DAO);
+
+        Map<Object, Object> result = (Map<Object, Object>) configuration.data(DATA_CACHE_DAO);
+        if (result == null && create) {
+            synchronized (DATA_CACHE_DAO) {
+                result = (Map<Object, Object>) configuration.data(DATA_CACHE_DAO);
+
+                if (result == null) {
+                    result = new ConcurrentHashMap<>();
+                    configuration.data(DATA_CACHE_DAO, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Turn a DAO's <code>T</code> id value into a cache key.
+     */
+    static final Object key(Field<?>[] pk, Object id) {
+        if (pk.length == 1)
+            return pk[0].getDataType().convert(id);
+
+        // [#2573] Composite key T types are of type Record[N]
+        Object[] values = ((Record) id).intoArray();
+        for (int i = 0; i < pk.length && i < values.length; i++)
+            values[i] = pk[i].getDataType().convert(values[i]);
+
+        return Arrays.asList(values);
+    }
+
+    /**
+     * Get a cache key from a record's current or original primary key values.
+     */
+    private static final Object key(Field<?>[] pk, Record record, boolean original) {
+        if (pk.length == 1)
+            return original ? record.original(pk[0]) : record.get(pk[0]);
+
+        Object[] values = new Object[pk.length];
+        for (int i = 0; i < pk.length; i++)
+            values[i] = original ? record.original(pk[i]) : record.get(pk[i]);
+
+        return Arrays.asList(values);
+    }
+
+    /**
+     * The cache keys of a record's current and original primary key values.
+     */
+    static final List<Object> keys(Field<?>[] pk, Record record) {
+        List<Object> keys = new ArrayList<>(2);
+        keys.add(key(pk, record, false));
+        keys.add(key(pk, record, true));
+        return keys;
+    }
+
+    /**
+     * The current generation, to be passed to {@link #put(Object, Record, long)}
+     * after loading a record.
+     */
+    final synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Look up a record, or <code>null</code> if it is not cached.
+     */
+    final synchronized Record get(Object key) {
+        CacheEntry entry = entries.get(key);
+
+        if (entry != null && timeToLive > 0L && System.nanoTime() - entry.created > timeToLive) {
+            entries.remove(key);
+            evictions++;
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return entry.record;
+    }
+
+    /**
+     * Cache a loaded record, unless the cache has been written to since
+     * <code>loadedGeneration</code>.
+     */
+    final synchronized void put(Object key, Record record, long loadedGeneration) {
+        if (record != null && generation == loadedGeneration)
+            entries.put(key, new CacheEntry(record));
+    }
+
+    final synchronized void invalidate(Object key) {
+        generation++;
+
+        if (entries.remove(key) != null)
+            invalidations++;
+    }
+
+    final synchronized void invalidate(Collection<?> keys) {
+        generation++;
+
+        for (Object key : keys)
+            if (entries.remove(key) != null)
+                invalidations++;
+    }
+
+    final synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    final synchronized DAOCacheStatistics statistics() {
+
+        // Evict expired records, such that the reported size only counts live ones
+        if (timeToLive > 0L) {
+            long now = System.nanoTime();
+
+            for (Iterator<CacheEntry> it = entries.values().iterator(); it.hasNext();) {
+                if (now - it.next().created > timeToLive) {
+                    it.remove();
+                    evictions++;
+                }
+            }
+        }
+
+        return new DAOCacheStatistics(hits, misses, evictions, invalidations, entries.size(), maxSize);
+    }
+
+    private static final class CacheEntry {
+        final Record record;
+        final long   created;
+
+        CacheEntry(Record record) {
+            this.record = record;
+            this.created = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import org.jooq.Configuration;
+import org.jooq.Record;
+import org.jooq.RecordContext;
+import org.jooq.RecordListener;
+import org.jooq.TableRecord;
+import org.jooq.conf.Settings;
+
+/**
+ * A {@link RecordListener} that invalidates {@link DAOImpl} record caches
+ * when records are stored, updated, or deleted.
+ * <p>
+ * DAOs invalidate their caches on their own writes. This listener is
+ * registered automatically with any {@link Configuration} whose
+ * {@link Settings#getDaoCacheSize()} is positive, such that records written to
+ * through {@link TableRecord} or {@link org.jooq.UpdatableRecord} API outside
+ * of DAOs are invalidated as well. It need not be registered explicitly.
+ * Writes through plain SQL or DSL statements are not seen by this listener.
+ * Such records are refreshed only after
+ * {@link Settings#getDaoCacheTimeToLive()}.
+ *
+ * @author Lukas Eder
+ */
+public class DAOCacheListener extends DefaultRecordListener {
+
+    @Override
+    public void storeStart(RecordContext ctx) {
+        invalidate(ctx);
+    }
+
+    @Override
+    public void storeEnd(RecordContext ctx) {
+        invalidate(ctx);
+    }
+
+    @Override
+    public void updateStart(RecordContext ctx) {
+        invalidate(ctx);
+    }
+
+    @Override
+    public void updateEnd(RecordContext ctx) {
+        invalidate(ctx);
+    }
+
+    @Override
+    public void deleteStart(RecordContext ctx) {
+        invalidate(ctx);
+    }
+
+    @Override
+    public void deleteEnd(RecordContext ctx) {
+        invalidate(ctx);
+    }
+
+    /**
+     * Both the start and the end events invalidate the cache, as the start
+     * events still see the original primary key values of an updated record.
+     */
+    private static final void invalidate(RecordContext ctx) {
+        for (Record record : ctx.batchRecords())
+            if (record instanceof TableRecord)
+                DAOCache.invalidate(ctx.configuration(), (TableRecord<?>) record);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot of the hit and eviction counters of a {@link DAOImpl}'s record
+ * cache.
+ *
+ * @author Lukas Eder
+ * @see DAOImpl#cacheStatistics()
+ */
+public final class DAOCacheStatistics implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 4581529062474326401L;
+
+    private final long        hits;
+    private final long        misses;
+    private final long        evictions;
+    private final long        invalidations;
+    private final int         size;
+    private final int         maxSize;
+
+    DAOCacheStatistics(long hits, long misses, long evictions, long invalidations, int size, int maxSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * The number of lookups that were served from the cache.
+     */
+    public final long hits() {
+        return hits;
+    }
+
+    /**
+     * The number of lookups that had to query the database.
+     */
+    public final long misses() {
+        return misses;
+    }
+
+    /**
+     * The ratio of hits to all lookups, or <code>0.0</code> if there were no
+     * lookups yet.
+     */
+    public final double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0L ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * The number of records that were removed because the cache was full or
+     * because they expired.
+     */
+    public final long evictions() {
+        return evictions;
+    }
+
+    /**
+     * The number of records that were removed because they were written to.
+     */
+    public final long invalidations() {
+        return invalidations;
+    }
+
+    /**
+     * The number of records currently in the cache.
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * The maximum number of records in the cache.
+     */
+    public final int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return "DAOCacheStatistics [hits=" + hits
+            + ", misses=" + misses
+            + ", hitRatio=" + hitRatio()
+            + ", evictions=" + evictions
+            + ", invalidations=" + invalidations
+            + ", size=" + size + "/" + maxSize + "]";
+    }
+}
@@ -44,11 +44,13 @@ import static java.util.Collections.singletonList;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.Tools.EMPTY_RECORD;
+import static org.jooq.impl.Tools.EMPTY_TABLE_RECORD;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +69,7 @@ import org.jooq.TableField;
 import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
 import org.jooq.conf.Settings;
+import org.jooq.impl.BatchCRUD.Action;
 
 /**
  * A common base implementation for generated {@link DAO}.
@@ -167,10 +170,16 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         // Execute a batch INSERT
         if (objects.size() > 1)
 
-            // [#2536] [#3327] We cannot batch INSERT RETURNING calls yet
-            if (!FALSE.equals(settings().isReturnRecordToPojo()))
-                for (R record : records(objects, false))
-                    record.insert();
+            // [#2536] [#3327] Batch INSERT .. RETURNING calls and copy the
+            //                  returned values back to the POJOs
+            if (!FALSE.equals(settings().isReturnRecordToPojo())) {
+                List<R> records = records(objects, false);
+                new BatchCRUD(configuration(), Action.INSERT, records.toArray(EMPTY_TABLE_RECORD), true).execute();
+
+                Iterator<P> it = objects.iterator();
+                for (R record : records)
+                    record.into(it.next());
+            }
             else
                 ctx().batchInsert(records(objects, false)).execute();
 
@@ -193,20 +202,24 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     @Override
     public /* non-final */ void update(Collection<P> objects) {
 
+        List<R> records = records(objects, true);
+
         // Execute a batch UPDATE
         if (objects.size() > 1)
 
             // [#2536] [#3327] We cannot batch UPDATE RETURNING calls yet
             if (!FALSE.equals(settings().isReturnRecordToPojo()) &&
                  TRUE.equals(settings().isReturnAllOnUpdatableRecord()))
-                for (R record : records(objects, true))
+                for (R record : records)
                     record.update();
             else
-                ctx().batchUpdate(records(objects, true)).execute();
+                ctx().batchUpdate(records).execute();
 
         // Execute a regular UPDATE
         else if (objects.size() == 1)
-            records(objects, true).get(0).update();
+            records.get(0).update();
+
+        invalidate(records);
     }
 
     @Override
@@ -223,20 +236,24 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     @Override
     public /* non-final */ void delete(Collection<P> objects) {
 
+        List<R> records = records(objects, true);
+
         // Execute a batch DELETE
         if (objects.size() > 1)
 
             // [#2536] [#3327] We cannot batch DELETE RETURNING calls yet
             if (!FALSE.equals(settings().isReturnRecordToPojo()) &&
                  TRUE.equals(settings().isReturnAllOnUpdatableRecord()))
-                for (R record : records(objects, true))
+                for (R record : records)
                     record.delete();
             else
-                ctx().batchDelete(records(objects, true)).execute();
+                ctx().batchDelete(records).execute();
 
         // Execute a regular DELETE
         else if (objects.size() == 1)
-            records(objects, true).get(0).delete();
+            records.get(0).delete();
+
+        invalidate(records);
     }
 
     @SuppressWarnings("unchecked")
@@ -249,8 +266,18 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     public /* non-final */ void deleteById(Collection<T> ids) {
         Field<?>[] pk = pk();
 
-        if (pk != null)
+        if (pk != null) {
             ctx().delete(table).where(equal(pk, ids)).execute();
+
+            if (DAOCache.enabled(configuration(), table)) {
+                List<Object> keys = new ArrayList<>(ids.size());
+
+                for (T id : ids)
+                    keys.add(DAOCache.key(pk, id));
+
+                DAOCache.invalidate(configuration(), table, keys);
+            }
+        }
     }
 
     @Override
@@ -262,7 +289,9 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     public /* non-final */ boolean existsById(T id) {
         Field<?>[] pk = pk();
 
-        if (pk != null)
+        if (pk != null && DAOCache.cache(configuration(), table) != null)
+            return cached(pk, id) != null;
+        else if (pk != null)
             return ctx()
                      .selectCount()
                      .from(table)
@@ -291,7 +320,11 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     public /* non-final */ P findById(T id) {
         Field<?>[] pk = pk();
 
-        if (pk != null)
+        if (pk != null && DAOCache.cache(configuration(), table) != null) {
+            R record = cached(pk, id);
+            return record == null ? null : mapper().map(record);
+        }
+        else if (pk != null)
             return ctx().selectFrom(table)
                         .where(equal(pk, id))
                         .fetchOne(mapper());
@@ -325,6 +358,14 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
 
     @Override
     public /* non-final */ <Z> P fetchOne(Field<Z> field, Z value) {
+        Field<?>[] pk = pk();
+
+        // Lookups by a single-column primary key can be served by the cache
+        if (pk != null && pk.length == 1 && pk[0].equals(field) && DAOCache.cache(configuration(), table) != null) {
+            R record = cached(pk, value);
+            return record == null ? null : mapper().map(record);
+        }
+
         return ctx()
             .selectFrom(table)
             .where(field.equal(value))
@@ -348,6 +389,22 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         return type;
     }
 
+    /**
+     * Get statistics about this DAO's table's record cache, or
+     * <code>null</code> if {@link Settings#getDaoCacheSize()} does not enable
+     * caching.
+     * <p>
+     * The cache is shared by all DAOs of the same table whose
+     * {@link Configuration} was derived from the same
+     * {@link DefaultConfiguration}, and which use the same
+     * {@link Configuration#connectionProvider()} and schema mapping. Within
+     * transactions, the cache is not used, and this returns <code>null</code>.
+     */
+    public /* non-final */ DAOCacheStatistics cacheStatistics() {
+        DAOCache cache = DAOCache.cache(configuration(), table);
+        return cache == null ? null : cache.statistics();
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Template methods for generated subclasses
     // ------------------------------------------------------------------------
@@ -400,6 +457,33 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         }
     }
 
+    /**
+     * Look up a record by its primary key in the cache, or fetch and cache it.
+     */
+    @SuppressWarnings("unchecked")
+    private /* non-final */ R cached(Field<?>[] pk, Object id) {
+        DAOCache cache = DAOCache.cache(configuration(), table);
+        Object key = DAOCache.key(pk, id);
+        R record = (R) cache.get(key);
+
+        if (record == null) {
+            long generation = cache.generation();
+            record = ctx().selectFrom(table)
+                          .where(equal(pk, (T) id))
+                          .fetchOne();
+
+            cache.put(key, record, generation);
+        }
+
+        return record;
+    }
+
+    private /* non-final */ void invalidate(List<R> records) {
+        if (DAOCache.enabled(configuration(), table))
+            for (R record : records)
+                DAOCache.invalidate(configuration(), record);
+    }
+
     private /* non-final */ Field<?>[] pk() {
         UniqueKey<?> key = table.getPrimaryKey();
         return key == null ? null : key.getFieldsArray();
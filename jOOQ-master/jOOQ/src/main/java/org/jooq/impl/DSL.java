@@ -18507,6 +18507,36 @@ public class DSL {
         return new JSONObjectAgg<JSONB>(JSONB, entry);
     }
 
+    /**
+     * A nested collection of records, fetched with a correlated JSON
+     * aggregation.
+     * <p>
+     * This allows for fetching a to-many relationship along with its parent
+     * records in a single query, without duplicating the parent rows:
+     * <p>
+     * <code><pre>
+     * Result&lt;Record2&lt;String, Result&lt;Record1&lt;String&gt;&gt;&gt;&gt; result =
+     * create.select(
+     *            AUTHOR.LAST_NAME,
+     *            nested(select(BOOK.TITLE).from(BOOK).where(BOOK.AUTHOR_ID.eq(AUTHOR.ID))))
+     *       .from(AUTHOR)
+     *       .fetch();
+     * </pre></code>
+     * <p>
+     * The nested <code>SELECT</code> is wrapped in a derived table, whose rows
+     * are aggregated to a JSON array of JSON arrays. The JSON document is
+     * decoded into a {@link Result} of the nested <code>SELECT</code>'s record
+     * type when it is fetched. Nested collections may be nested themselves.
+     * <p>
+     * Not all dialects maintain the <code>ORDER BY</code> clause of a derived
+     * table in the aggregation, so the order of nested records is not
+     * guaranteed.
+     */
+    @Support({ H2, MARIADB, MYSQL, POSTGRES })
+    public static <R extends Record> Field<Result<R>> nested(Select<R> select) {
+        return new Nested<>(select);
+    }
+
     // -------------------------------------------------------------------------
     // XXX Aggregate functions
     // -------------------------------------------------------------------------
@@ -48,6 +48,7 @@ import java.sql.Connection;
 import java.time.Clock;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
@@ -134,8 +135,16 @@ public class DefaultConfiguration implements Configuration {
     //         should not be serialized anyway).
     private transient ConcurrentHashMap<Object, Object> data;
 
-    // Derived objects
+    // Settings compiled into an immutable snapshot for hot execution paths
+    private transient CompiledSettings                  compiledSettings;
+
+    // Configuration-independent caches, shared by derived configurations
+    private transient ConcurrentHashMap<Object, Object> caches;
+
+    // Derived objects, possibly shared with the configuration whose settings
+    // the mapping reads
     private org.jooq.SchemaMapping                      mapping;
+    private DefaultConfiguration                        mappingOwner;
 
     // -------------------------------------------------------------------------
     // XXX: Constructors
@@ -186,6 +195,7 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
+            null,
             null
         );
     }
@@ -222,7 +232,8 @@ public class DefaultConfiguration implements Configuration {
 
             configuration.dialect,
             configuration.settings,
-            configuration.data
+            configuration.data,
+            configuration
         );
     }
 
@@ -233,6 +244,11 @@ public class DefaultConfiguration implements Configuration {
      * configuration properties in the future, without breaking client code.
      * Consider creating a configuration by chaining calls to various
      * <code>derive()</code> methods.
+     * <p>
+     * A configuration derived from a <code>parent</code> shares its parent's
+     * compiled settings and schema mapping until its own settings are changed
+     * or replaced, as well as all configuration-independent caches, such as
+     * the reflection cache.
      */
     DefaultConfiguration(
         ConnectionProvider connectionProvider,
@@ -257,7 +273,8 @@ public class DefaultConfiguration implements Configuration {
 
         SQLDialect dialect,
         Settings settings,
-        Map<Object, Object> data)
+        Map<Object, Object> data,
+        DefaultConfiguration parent)
     {
         set(connectionProvider);
         setInterpreterConnectionProvider(interpreterConnectionProvider);
@@ -280,11 +297,28 @@ public class DefaultConfiguration implements Configuration {
         set(clock);
 
         set(dialect);
-        set(settings);
 
-        this.data = data != null
+        // The Settings are always copied, as they may be modified in place,
+        // but the parent's compiled settings and schema mapping are shared
+        // until they no longer apply to the copy
+        if (parent != null) {
+            this.settings = settings != null
+                ? SettingsTools.clone(settings)
+                : SettingsTools.defaultSettings();
+            this.compiledSettings = parent.compiledSettings;
+            this.mapping = parent.mapping;
+            this.mappingOwner = parent.mappingOwner;
+        }
+        else
+            set(settings);
+
+        // Avoid allocating the backing table if not necessary
+        this.data = data != null && !data.isEmpty()
             ? new ConcurrentHashMap<>(data)
             : new ConcurrentHashMap<>();
+        this.caches = parent != null
+            ? parent.caches
+            : new ConcurrentHashMap<>();
     }
 
     // -------------------------------------------------------------------------
@@ -340,7 +374,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -369,7 +404,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -398,7 +434,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -432,7 +469,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -461,7 +499,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -495,7 +534,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -529,7 +569,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -563,7 +604,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -597,7 +639,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -631,7 +674,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -665,7 +709,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -699,7 +744,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -733,7 +779,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -767,7 +814,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -796,7 +844,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -824,7 +873,8 @@ public class DefaultConfiguration implements Configuration {
             newClock,
             dialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -854,7 +904,8 @@ public class DefaultConfiguration implements Configuration {
 
             newDialect,
             settings,
-            data
+            data,
+            this
         );
     }
 
@@ -883,7 +934,8 @@ public class DefaultConfiguration implements Configuration {
 
             dialect,
             newSettings,
-            data
+            data,
+            this
         );
     }
 
@@ -1109,7 +1161,9 @@ public class DefaultConfiguration implements Configuration {
             ? SettingsTools.clone(newSettings)
             : SettingsTools.defaultSettings();
 
-        this.mapping = new org.jooq.SchemaMapping(this);
+        this.compiledSettings = new CompiledSettings(settings);
+        this.mapping = new org.jooq.SchemaMapping(this, mapping);
+        this.mappingOwner = this;
         return this;
     }
 
@@ -1474,6 +1528,37 @@ public class DefaultConfiguration implements Configuration {
         return settings;
     }
 
+    /**
+     * Get a cache that does not depend on any of this configuration's
+     * properties, and that is shared with all configurations derived from
+     * this one.
+     */
+    @SuppressWarnings("unchecked")
+    final Map<Object, Object> cache(Object type) {
+        Map<Object, Object> cache = (Map<Object, Object>) caches.get(type);
+
+        if (cache == null) {
+            Map<Object, Object> created = new ConcurrentHashMap<>();
+            cache = (Map<Object, Object>) caches.putIfAbsent(type, created);
+
+            if (cache == null)
+                cache = created;
+        }
+
+        return cache;
+    }
+
+    final CompiledSettings compiledSettings() {
+        CompiledSettings result = compiledSettings;
+
+        // The snapshot is not serialised, and the settings may have been
+        // modified in place since it was compiled
+        if (result == null || !result.compiledFrom(settings))
+            compiledSettings = result = new CompiledSettings(settings);
+
+        return result;
+    }
+
     @Override
     public final ConcurrentHashMap<Object, Object> data() {
         return data;
@@ -1492,7 +1577,23 @@ public class DefaultConfiguration implements Configuration {
     @Override
     @Deprecated
     public final org.jooq.SchemaMapping schemaMapping() {
-        return mapping;
+        org.jooq.SchemaMapping result = mapping;
+        DefaultConfiguration owner = mappingOwner;
+
+        // A shared mapping reads its owner's settings, which may have diverged
+        // from this configuration's settings since it was shared
+        if (owner != this && (owner == null || !sameMapping(owner.settings, settings))) {
+            mapping = result = new org.jooq.SchemaMapping(this, result);
+            mappingOwner = this;
+        }
+
+        return result;
+    }
+
+    private static final boolean sameMapping(Settings s1, Settings s2) {
+        return s1.getRenderMapping() == s2.getRenderMapping()
+            && Objects.equals(s1.isRenderSchema(), s2.isRenderSchema())
+            && Objects.equals(s1.isRenderCatalog(), s2.isRenderCatalog());
     }
 
     @Override
@@ -1599,6 +1700,7 @@ public class DefaultConfiguration implements Configuration {
         unwrapperProvider = (UnwrapperProvider) ois.readObject();
         converterProvider = (ConverterProvider) ois.readObject();
         data = new ConcurrentHashMap<>();
+        caches = new ConcurrentHashMap<>();
 
         Object key;
         Object value;
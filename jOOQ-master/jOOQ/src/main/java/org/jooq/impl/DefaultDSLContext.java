@@ -279,6 +279,7 @@ import org.jooq.WithAsStep7;
 import org.jooq.WithAsStep8;
 import org.jooq.WithAsStep9;
 import org.jooq.WithStep;
+import org.jooq.conf.ParamType;
 import org.jooq.conf.Settings;
 import org.jooq.exception.ConfigurationException;
 import org.jooq.exception.DataAccessException;
@@ -552,6 +553,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
             TransactionListeners listeners = new TransactionListeners(ctx.configuration());
             boolean committed = false;
 
+            DAOCache.transactionBegin(ctx.configuration());
             try {
                 try {
                     listeners.beginStart(ctx);
@@ -609,6 +611,9 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
                         , cause
                     );
             }
+            finally {
+                DAOCache.transactionEnd(ctx.configuration());
+            }
 
             return result;
 
@@ -736,22 +741,36 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public String render(QueryPart part) {
-        return renderContext().visit(part).render();
+        return render0(part, null);
     }
 
     @Override
     public String renderNamedParams(QueryPart part) {
-        return renderContext().paramType(NAMED).visit(part).render();
+        return render0(part, NAMED);
     }
 
     @Override
     public String renderNamedOrInlinedParams(QueryPart part) {
-        return renderContext().paramType(NAMED_OR_INLINED).visit(part).render();
+        return render0(part, NAMED_OR_INLINED);
     }
 
     @Override
     public String renderInlined(QueryPart part) {
-        return renderContext().paramType(INLINED).visit(part).render();
+        return render0(part, INLINED);
+    }
+
+    private final String render0(QueryPart part, ParamType paramType) {
+        DefaultRenderContext ctx = new DefaultRenderContext(configuration(), part);
+
+        try {
+            if (paramType != null)
+                ctx.paramType(paramType);
+
+            return ctx.visit(part).render();
+        }
+        finally {
+            ctx.release();
+        }
     }
 
     @Override
@@ -42,7 +42,6 @@ import static org.jooq.SQLDialect.SQLITE;
 import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.ParamType.NAMED;
-import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Identifiers.QUOTES;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER_ESCAPED;
@@ -53,6 +52,8 @@ import static org.jooq.impl.ScopeMarkers.BEFORE_FIRST_TOP_LEVEL_CTE;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.DataKey.DATA_TOP_LEVEL_CTE;
 
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,14 +74,12 @@ import org.jooq.QueryPartInternal;
 import org.jooq.RenderContext;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
-import org.jooq.conf.RenderFormatting;
 import org.jooq.conf.RenderKeywordCase;
 import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.RenderQuotedNames;
-import org.jooq.conf.Settings;
-import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
 import org.jooq.impl.Tools.DataKey;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
@@ -96,8 +95,19 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     private static final Pattern          NEWLINE            = Pattern.compile("[\\n\\r]");
     private static final Set<String>      SQLITE_KEYWORDS;
 
+    // Pooled render buffers of top level render contexts
+    private static final int                        BUFFER_MAX_CAPACITY = 16384;
+    private static final ThreadLocal<StringBuilder> BUFFER              = new ThreadLocal<>();
+    private static final ClassValue<SizeHint>       SIZE_HINTS          = new ClassValue<SizeHint>() {
+        @Override
+        protected SizeHint computeValue(Class<?> type) {
+            return new SizeHint();
+        }
+    };
+
     final StringBuilder                   sql;
     private final QueryPartList<Param<?>> bindValues;
+    private SizeHint                      sizeHint;
     private int                           params;
     private int                           alias;
     private int                           indent;
@@ -119,25 +129,52 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     int                                   cachedPrintMargin;
 
     DefaultRenderContext(Configuration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * Create a render context for a top level {@link QueryPart}.
+     * <p>
+     * If <code>root</code> is not <code>null</code>, the SQL buffer is borrowed
+     * from a thread-confined pool, and the buffers are pre-sized from the
+     * previous rendering of the same type of query part. Such a context must be
+     * {@link #release() released} once the SQL has been rendered.
+     */
+    DefaultRenderContext(Configuration configuration, QueryPart root) {
         super(configuration, null);
 
-        Settings settings = configuration.settings();
+        if (root == null) {
+            this.sql = new StringBuilder();
+            this.bindValues = new QueryPartList<>();
+        }
+        else {
+            SizeHint hint = SIZE_HINTS.get(root.getClass());
+            StringBuilder buffer = BUFFER.get();
+
+            if (buffer == null) {
+                buffer = new StringBuilder(Math.max(16, hint.sql));
+            }
 
-        this.sql = new StringBuilder();
-        this.bindValues = new QueryPartList<>();
-        this.cachedRenderKeywordCase = SettingsTools.getRenderKeywordCase(settings);
-        this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
-        this.cachedRenderNameCase = SettingsTools.getRenderNameCase(settings);
-        this.cachedRenderQuotedNames = SettingsTools.getRenderQuotedNames(settings);
+            // Nested top level render contexts of the same thread will
+            // allocate a new buffer until this one is released
+            else {
+                BUFFER.set(null);
+                buffer.ensureCapacity(hint.sql);
+            }
 
-        RenderFormatting formatting = settings.getRenderFormatting();
-        if (formatting == null)
-            formatting = new RenderFormatting();
+            this.sql = buffer;
+            this.bindValues = new QueryPartList<>(hint.bindValues);
+            this.sizeHint = hint;
+        }
 
-        this.cachedNewline = formatting.getNewline() == null ? "\n" : formatting.getNewline();
-        this.cachedIndentation = formatting.getIndentation() == null ? "  " : formatting.getIndentation();
+        this.cachedRenderKeywordCase = compiledSettings.renderKeywordCase;
+        this.cachedRenderFormatted = compiledSettings.renderFormatted;
+        this.cachedRenderNameCase = compiledSettings.renderNameCase;
+        this.cachedRenderQuotedNames = compiledSettings.renderQuotedNames;
+        this.cachedNewline = compiledSettings.renderNewline;
+        this.cachedIndentation = compiledSettings.renderIndentation;
         this.cachedIndentWidth = cachedIndentation.length();
-        this.cachedPrintMargin = formatting.getPrintMargin() == null ? 80 : formatting.getPrintMargin();
+        this.cachedPrintMargin = compiledSettings.renderPrintMargin;
     }
 
     DefaultRenderContext(RenderContext context) {
@@ -337,6 +374,56 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         return new DefaultRenderContext(this).visit(part).render();
     }
 
+    @Override
+    public final void render(Appendable appendable) {
+        try {
+            int length = sql.length();
+
+            // Avoid the intermediary String allocated by Writer.append(CharSequence)
+            // and CharBuffer.append(CharSequence)
+            if (appendable instanceof Writer || appendable instanceof CharBuffer) {
+                char[] chunk = new char[Math.min(length, 1024)];
+
+                for (int i = 0; i < length; i += chunk.length) {
+                    int end = Math.min(length, i + chunk.length);
+                    sql.getChars(i, end, chunk, 0);
+
+                    if (appendable instanceof Writer)
+                        ((Writer) appendable).write(chunk, 0, end - i);
+                    else
+                        ((CharBuffer) appendable).put(chunk, 0, end - i);
+                }
+            }
+            else {
+                appendable.append(sql);
+            }
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while rendering SQL", e);
+        }
+    }
+
+    /**
+     * Return the buffers of a context created with
+     * {@link #DefaultRenderContext(Configuration, QueryPart)} to the pool, and
+     * remember their sizes for the next rendering of the same query part type.
+     * <p>
+     * The rendered SQL can no longer be accessed after this call, although the
+     * {@link #bindValues()} can.
+     */
+    final void release() {
+        if (sizeHint != null) {
+            sizeHint.sql = sql.length();
+            sizeHint.bindValues = bindValues.size();
+            sizeHint = null;
+
+            if (sql.capacity() <= BUFFER_MAX_CAPACITY) {
+                sql.setLength(0);
+                BUFFER.set(sql);
+            }
+        }
+    }
+
     @Override
     public final RenderContext keyword(String keyword) {
         return visit(DSL.keyword(keyword));
@@ -539,7 +626,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         ||
 
             // [#2367] ... yet, do quote when an identifier is a SQLite keyword
-            (family == SQLITE && SQLITE_KEYWORDS.contains(literal.toUpperCase(renderLocale(configuration().settings()))))
+            (family == SQLITE && SQLITE_KEYWORDS.contains(literal.toUpperCase(compiledSettings.renderLocale())))
 
         ||
 
@@ -548,10 +635,10 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
         if (RenderNameCase.LOWER == cachedRenderNameCase ||
             RenderNameCase.LOWER_IF_UNQUOTED == cachedRenderNameCase && !quote())
-            literal = literal.toLowerCase(renderLocale(configuration().settings()));
+            literal = literal.toLowerCase(compiledSettings.renderLocale());
         else if (RenderNameCase.UPPER == cachedRenderNameCase ||
                  RenderNameCase.UPPER_IF_UNQUOTED == cachedRenderNameCase && !quote())
-            literal = literal.toUpperCase(renderLocale(configuration().settings()));
+            literal = literal.toUpperCase(compiledSettings.renderLocale());
 
         if (needsQuote) {
             char[][][] quotes = QUOTES.get(family);
@@ -603,14 +690,21 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             if (!param.isInline()) {
                 bindValues.add(param);
 
-                Integer threshold = settings().getInlineThreshold();
-                if (threshold != null && threshold > 0) {
-                    checkForceInline(threshold);
-                }
-                else {
-                    switch (family()) {
+                checkForceInline(maxBindValues(compiledSettings, family()));
+            }
+        }
+    }
 
+    /**
+     * The maximum number of bind values per statement, or <code>0</code> if
+     * there is no limit.
+     */
+    static final int maxBindValues(CompiledSettings settings, SQLDialect family) {
+        int threshold = settings.inlineThreshold;
+        if (threshold > 0)
+            return threshold;
 
+        switch (family) {
 
 
 
@@ -637,25 +731,22 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
 
 
-                        // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
-                        case POSTGRES:
-                            checkForceInline(32767);
-                            break;
 
-                        case SQLITE:
-                            checkForceInline(999);
-                            break;
 
-                        default:
-                            break;
-                    }
-                }
-            }
+            // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
+            case POSTGRES:
+                return 32767;
+
+            case SQLITE:
+                return 999;
+
+            default:
+                return 0;
         }
     }
 
     private final void checkForceInline(int max) throws ForceInlineSignal {
-        if (bindValues.size() > max)
+        if (max > 0 && bindValues.size() > max)
             if (TRUE.equals(data(DATA_COUNT_BIND_VALUES)))
                 throw new ForceInlineSignal();
     }
@@ -941,4 +1032,12 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
                 log.debug("Re-render query", "Forcing bind variable inlining as " + configuration().dialect() + " does not support " + params + " bind variables (or more) in a single query");
         }
     }
+
+    /**
+     * The sizes of the most recent rendering of a given query part type.
+     */
+    static final class SizeHint {
+        int sql;
+        int bindValues;
+    }
 }
@@ -80,6 +80,8 @@ import static org.jooq.impl.Keywords.K_WHERE;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.jooq.Clause;
@@ -92,6 +94,7 @@ import org.jooq.Operator;
 import org.jooq.OrderField;
 import org.jooq.Param;
 // ...
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
@@ -195,6 +198,22 @@ final class DeleteQueryImpl<R extends Record> extends AbstractDMLQuery<R> implem
         limit = numberOfRows;
     }
 
+    @Override
+    final List<? extends Query> split(int maxBindValues) {
+        if (!orderBy.isEmpty() || limit != null)
+            return null;
+
+        return split(getWhere(), maxBindValues, Collections.<Field<?>>emptyList(), this::copy);
+    }
+
+    private final DeleteQueryImpl<R> copy(Condition where) {
+        DeleteQueryImpl<R> result = new DeleteQueryImpl<>(configuration(), with, table());
+
+        result.using.addAll(using);
+        result.addConditions(where);
+        return result;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     final void accept0(Context<?> ctx) {
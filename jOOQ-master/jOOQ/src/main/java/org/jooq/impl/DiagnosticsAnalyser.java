@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A background thread analysing the statements of
+ * {@link DiagnosticsConnection} instances, if
+ * {@link Settings#isDiagnosticsAsynchronous()} is set.
+ * <p>
+ * Statements of all connections are handed over through a single bounded,
+ * lock-free queue. When the queue is full, further statements are not
+ * analysed, rather than blocking the threads preparing them.
+ *
+ * @author Lukas Eder
+ */
+final class DiagnosticsAnalyser implements Runnable {
+
+    private static final JooqLogger          log     = JooqLogger.getLogger(DiagnosticsAnalyser.class);
+    private static final Queue<Statement>    QUEUE   = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger       SIZE    = new AtomicInteger();
+    private static volatile Thread           thread;
+    private static volatile boolean          waiting;
+
+    private DiagnosticsAnalyser() {}
+
+    /**
+     * Queue a statement for analysis, unless {@link DiagnosticsConnection#queueSize}
+     * statements of any connection are already queued.
+     */
+    static final void submit(DiagnosticsConnection connection, String sql) {
+        if (SIZE.incrementAndGet() > connection.queueSize) {
+            SIZE.decrementAndGet();
+            return;
+        }
+
+        QUEUE.offer(new Statement(connection, sql));
+
+        Thread t = thread;
+        if (t == null)
+            t = start();
+
+        if (waiting)
+            LockSupport.unpark(t);
+    }
+
+    private static final synchronized Thread start() {
+        if (thread == null) {
+            Thread t = new Thread(new DiagnosticsAnalyser(), "jOOQ-diagnostics-analyser");
+            t.setDaemon(true);
+            t.start();
+            thread = t;
+        }
+
+        return thread;
+    }
+
+    @Override
+    public final void run() {
+        for (;;) {
+            Statement statement = QUEUE.poll();
+
+            if (statement == null) {
+                waiting = true;
+
+                // Re-check after publishing the waiting flag, as a statement
+                // may have been queued in the meantime
+                if (QUEUE.isEmpty())
+                    LockSupport.park(this);
+
+                waiting = false;
+                continue;
+            }
+
+            SIZE.decrementAndGet();
+
+            try {
+                statement.connection.analyse(statement.sql);
+            }
+
+            // Listener exceptions cannot be propagated to the calling thread
+            catch (Throwable e) {
+                log.warn("Diagnostics", "Error while analysing statement: " + statement.sql, e);
+            }
+        }
+    }
+
+    private static final class Statement {
+        final DiagnosticsConnection connection;
+        final String                sql;
+
+        Statement(DiagnosticsConnection connection, String sql) {
+            this.connection = connection;
+            this.sql = sql;
+        }
+    }
+}
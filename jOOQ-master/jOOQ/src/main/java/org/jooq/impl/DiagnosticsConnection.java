@@ -37,6 +37,8 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static java.util.Arrays.asList;
 import static org.jooq.conf.ParamType.FORCE_INDEXED;
 
 import java.sql.CallableStatement;
@@ -44,18 +46,19 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.jooq.Configuration;
 import org.jooq.Parser;
-import org.jooq.Queries;
 import org.jooq.RenderContext;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -65,34 +68,86 @@ import org.jooq.tools.jdbc.DefaultConnection;
 final class DiagnosticsConnection extends DefaultConnection {
 
     // TODO: Make these configurable
-    static final int                      LRU_SIZE_GLOBAL = 50000;
-    static final int                      LRU_SIZE_LOCAL  = 500;
-    static final int                      DUP_SIZE        = 500;
-    static final Map<String, Set<String>> DUPLICATE_SQL   = Collections.synchronizedMap(new LRU<>(LRU_SIZE_GLOBAL));
-
-    final Map<String, List<String>>       repeatedSQL     = new LRU<>(LRU_SIZE_LOCAL);
-    final Configuration                   configuration;
-    final RenderContext                   normalisingRenderer;
-    final Parser                          parser;
-    final DiagnosticsListeners            listeners;
+    static final int                              LRU_SIZE_GLOBAL = 50000;
+    static final int                              LRU_SIZE_LOCAL  = 500;
+    static final int                              DUP_SIZE        = 500;
+    static final int                              NORMALISED_SIZE = 16;
+
+    /**
+     * The global duplicate statements, striped by the hash code of the
+     * normalised SQL to reduce contention between threads.
+     */
+    static final int                              DUP_STRIPES     = 16;
+    static final LRU<Set<String>>[]               DUPLICATE_SQL   = duplicateSQL();
+
+    /**
+     * The normalised SQL strings by their SQL strings, per dialect and
+     * {@link Settings}, both of which affect parsing and normalising.
+     */
+    static final Map<Object, Map<String, String>> NORMALISED_SQL  = new ConcurrentHashMap<>();
+
+    final Map<String, List<String>>               repeatedSQL     = new LRU<>(LRU_SIZE_LOCAL);
+    final Configuration                           configuration;
+    final RenderContext                           normalisingRenderer;
+    final Map<String, String>                     normalisedSQL;
+    final Parser                                  parser;
+    final DiagnosticsListeners                    listeners;
+    final boolean                                 asynchronous;
+    final int                                     samplingInterval;
+    final int                                     queueSize;
 
     @SuppressWarnings("deprecation")
     DiagnosticsConnection(Configuration configuration) {
         super(configuration.connectionProvider().acquire());
 
-        this.configuration = configuration;
-        this.normalisingRenderer = configuration.derive(
-            SettingsTools.clone(configuration.settings())
+        Settings normalisingSettings = SettingsTools.clone(configuration.settings())
 
             // Forcing all inline parameters to be indexed helps find opportunities to use bind variables
             .withParamType(FORCE_INDEXED)
 
             // Padding IN lists shows duplicates that arise from arbitrary-length dynamic IN lists
             .withInListPadding(true)
-            .withInListPadBase(16)
-        ).dsl().renderContext();
+            .withInListPadBase(16);
+
+        this.configuration = configuration;
+        this.normalisingRenderer = configuration.derive(normalisingSettings).dsl().renderContext();
+        this.normalisedSQL = normalisedSQL(asList(configuration.dialect(), normalisingSettings));
         this.parser = configuration.dsl().parser();
         this.listeners = DiagnosticsListeners.get(configuration);
+
+        Settings settings = configuration.settings();
+        this.asynchronous = TRUE.equals(settings.isDiagnosticsAsynchronous());
+        this.samplingInterval = settings.getDiagnosticsSamplingInterval() != null ? settings.getDiagnosticsSamplingInterval() : 1;
+        this.queueSize = settings.getDiagnosticsQueueSize() != null ? settings.getDiagnosticsQueueSize() : 10000;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final LRU<Set<String>>[] duplicateSQL() {
+        LRU<Set<String>>[] result = (LRU<Set<String>>[]) new LRU<?>[DUP_STRIPES];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = new LRU<>(LRU_SIZE_GLOBAL / DUP_STRIPES);
+
+        return result;
+    }
+
+    /**
+     * The normalised SQL strings shared by all connections with the same
+     * dialect and settings.
+     * <p>
+     * The key's {@link Settings} must not be modified afterwards.
+     */
+    private static final Map<String, String> normalisedSQL(Object key) {
+        Map<String, String> result = NORMALISED_SQL.get(key);
+
+        if (result == null) {
+            if (NORMALISED_SQL.size() >= NORMALISED_SIZE)
+                NORMALISED_SQL.clear();
+
+            result = NORMALISED_SQL.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+
+        return result;
     }
 
     @Override
@@ -157,36 +212,69 @@ final class DiagnosticsConnection extends DefaultConnection {
 
     @Override
     public final void close() throws SQLException {
-        repeatedSQL.clear();
+        synchronized (repeatedSQL) {
+            repeatedSQL.clear();
+        }
+
         configuration.connectionProvider().release(getDelegate());
     }
 
     final String parse(String sql) {
-        Queries queries;
-        String normalised;
-
-        try {
-            queries = parser.parse(sql);
-            normalised = normalisingRenderer.render(queries);
-        }
-        catch (ParserException ignore) {
-            normalised = sql;
+        if (samplingInterval <= 1 || ThreadLocalRandom.current().nextInt(samplingInterval) == 0) {
+            if (asynchronous)
+                DiagnosticsAnalyser.submit(this, sql);
+            else
+                analyse(sql);
         }
 
+        return sql;
+    }
+
+    /**
+     * Analyse a statement and notify the listeners about any findings.
+     * <p>
+     * This is called either by the thread preparing the statement, or by the
+     * {@link DiagnosticsAnalyser} thread.
+     */
+    final void analyse(String sql) {
+        String normalised = normalise(sql);
+        LRU<Set<String>> stripe = DUPLICATE_SQL[(normalised.hashCode() & 0x7FFFFFFF) % DUP_STRIPES];
+
         Set<String> duplicates;
-        synchronized (DUPLICATE_SQL) {
-            duplicates = duplicates(DUPLICATE_SQL, sql, normalised);
+        synchronized (stripe) {
+            duplicates = duplicates(stripe, sql, normalised);
         }
 
         if (duplicates != null)
             listeners.duplicateStatements(new DefaultDiagnosticsContext(sql, normalised, duplicates, null));
 
-        List<String> repetitions = repetitions(repeatedSQL, sql, normalised);
+        List<String> repetitions;
+        synchronized (repeatedSQL) {
+            repetitions = repetitions(repeatedSQL, sql, normalised);
+        }
 
         if (repetitions != null)
             listeners.repeatedStatements(new DefaultDiagnosticsContext(sql, normalised, null, repetitions));
+    }
 
-        return sql;
+    private final String normalise(String sql) {
+        String normalised = normalisedSQL.get(sql);
+
+        if (normalised == null) {
+            try {
+                normalised = normalisingRenderer.render(parser.parse(sql));
+            }
+            catch (ParserException ignore) {
+                normalised = sql;
+            }
+
+            if (normalisedSQL.size() >= LRU_SIZE_GLOBAL)
+                normalisedSQL.clear();
+
+            normalisedSQL.put(sql, normalised);
+        }
+
+        return normalised;
     }
 
     private Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
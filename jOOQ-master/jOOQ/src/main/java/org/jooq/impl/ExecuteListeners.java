@@ -37,18 +37,12 @@
  */
 package org.jooq.impl;
 
-import static java.lang.Boolean.FALSE;
-import static org.jooq.conf.InvocationOrder.REVERSE;
-import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
-
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
-import org.jooq.conf.SettingsTools;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.LoggerListener;
 
@@ -103,46 +97,51 @@ final class ExecuteListeners implements ExecuteListener {
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
     private static final ExecuteListener[][] listeners(ExecuteContext ctx) {
-        List<ExecuteListener> list = null;
-
-        // jOOQ-internal listeners are added first, so their results are available to user-defined listeners
-        // -------------------------------------------------------------------------------------------------
+        CompiledSettings settings = CompiledSettings.of(ctx.configuration());
+        ExecuteListenerProvider[] providers = ctx.configuration().executeListenerProviders();
 
         // [#6580] Fetching server output may require some pre / post actions around the actual statement
-        if (SettingsTools.getFetchServerOutputSize(0, ctx.settings()) > 0)
-            (list = init(list)).add(new FetchServerOutputListener());
+        boolean fetchServerOutput = settings.fetchServerOutputSize > 0;
 
         // [#6051] The previously used StopWatchListener is no longer included by default
-        if (!FALSE.equals(ctx.settings().isExecuteLogging())) {
+        // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
+        //         we do not DEBUG log anyway.
+        boolean logging = settings.executeLogging && LOGGER_LISTENER_LOGGER.isDebugEnabled();
+
+        int size = providers.length + (fetchServerOutput ? 1 : 0) + (logging ? 1 : 0);
+        if (size == 0)
+            return null;
 
-            // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
-            //         we do not DEBUG log anyway.
-            if (LOGGER_LISTENER_LOGGER.isDebugEnabled())
-                (list = init(list)).add(new LoggerListener());
-        }
+        // jOOQ-internal listeners are added first, so their results are available to user-defined listeners
+        // -------------------------------------------------------------------------------------------------
+        ExecuteListener[] def = new ExecuteListener[size];
+        int i = 0;
+
+        if (fetchServerOutput)
+            def[i++] = new FetchServerOutputListener();
 
-        for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders())
+        if (logging)
+            def[i++] = new LoggerListener();
+
+        for (ExecuteListenerProvider provider : providers)
 
             // Could be null after deserialisation
             if (provider != null)
-                (list = init(list)).add(provider.provide());
+                def[i++] = provider.provide();
 
-        if (list == null)
+        if (i == 0)
             return null;
+        else if (i < size)
+            def = Arrays.copyOf(def, i);
 
-        ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
         ExecuteListener[] rev = null;
 
         return new ExecuteListener[][] {
-            ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
-            ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
+            !settings.executeListenerStartReverse ? def : (                     rev = Tools.reverse(def.clone())),
+            !settings.executeListenerEndReverse   ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
         };
     }
 
-    private static final List<ExecuteListener> init(List<ExecuteListener> result) {
-        return result == null ? new ArrayList<>() : result;
-    }
-
     private ExecuteListeners(ExecuteListener[][] listeners) {
         this.listeners = listeners;
     }
@@ -0,0 +1,706 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.impl.AbstractCursor.formatCSV0;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.CSVFormat;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Formattable;
+import org.jooq.JSONFormat;
+import org.jooq.impl.DefaultBinding.AbstractBinding;
+import org.jooq.impl.DefaultBinding.DefaultByteBinding;
+import org.jooq.impl.DefaultBinding.DefaultIntegerBinding;
+import org.jooq.impl.DefaultBinding.DefaultLongBinding;
+import org.jooq.impl.DefaultBinding.DefaultShortBinding;
+import org.jooq.impl.DefaultBinding.DefaultStringBinding;
+import org.jooq.tools.json.JSONValue;
+
+/**
+ * An export of a {@link Cursor}'s rows to an {@link OutputStream}, which
+ * bypasses {@link org.jooq.Record} creation.
+ * <p>
+ * Values are read from the {@link ResultSet} and encoded as UTF-8 into a
+ * reusable byte buffer. Integer and string columns without any custom
+ * {@link Binding} or {@link org.jooq.Converter} are read using the primitive
+ * JDBC getters, all other columns are read through their {@link Binding}, and
+ * formatted like {@link Formattable#formatCSV(java.io.Writer, CSVFormat)} and
+ * {@link Formattable#formatJSON(java.io.Writer, JSONFormat)} would.
+ *
+ * @author Lukas Eder
+ */
+abstract class Export {
+
+    private static final int   BUFFER_SIZE = 8192;
+    private static final int   OBJECT      = 0;
+    private static final int   INT         = 1;
+    private static final int   LONG        = 2;
+    private static final int   STRING      = 3;
+
+    private final OutputStream out;
+    private final byte[]       buffer;
+    private int                position;
+    Field<?>[]                 fields;
+    int[]                      kinds;
+
+    Export(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.fields = EMPTY_FIELD;
+        this.kinds = new int[0];
+    }
+
+    static final Export csv(OutputStream out, CSVFormat format) {
+        return new CSV(out, format == null ? new CSVFormat() : format);
+    }
+
+    static final Export json(OutputStream out, JSONFormat format) {
+        return new JSON(out, format == null ? JSONFormat.DEFAULT_FOR_RESULTS : format);
+    }
+
+    /**
+     * Export all remaining rows of a cursor.
+     * <p>
+     * Nested records (e.g. from embeddables) cannot be read without creating
+     * records, in case of which this falls back to the {@link Formattable} API.
+     */
+    final void export(Cursor<?> cursor) {
+        Field<?>[] f = cursor.fields();
+
+        if (cursor instanceof CursorImpl && supported(f)) {
+            fields = f;
+            kinds = new int[f.length];
+
+            for (int i = 0; i < f.length; i++)
+                kinds[i] = kind(f[i]);
+
+            ((CursorImpl<?>) cursor).export(this);
+        }
+        else {
+            format(cursor, new OutputStreamWriter(out, UTF_8));
+        }
+    }
+
+    private static final boolean supported(Field<?>[] f) {
+        for (Field<?> field : f)
+            if (field instanceof RowField || field instanceof EmbeddableTableField)
+                return false;
+
+        return true;
+    }
+
+    private static final int kind(Field<?> field) {
+        Binding<?, ?> binding = field.getBinding();
+
+        if (binding instanceof DefaultBinding && binding.converter() instanceof IdentityConverter) {
+            AbstractBinding<?, ?> delegate = ((DefaultBinding<?, ?>) binding).delegate;
+
+            if (delegate instanceof DefaultIntegerBinding
+                || delegate instanceof DefaultShortBinding
+                || delegate instanceof DefaultByteBinding)
+                return INT;
+            else if (delegate instanceof DefaultLongBinding)
+                return LONG;
+            else if (delegate instanceof DefaultStringBinding)
+                return STRING;
+        }
+
+        return OBJECT;
+    }
+
+    abstract void format(Cursor<?> cursor, OutputStreamWriter writer);
+
+    abstract void header(AbstractCursor<?> cursor) throws IOException;
+
+    abstract void row(ResultSet rs, DefaultBindingGetResultSetContext<?> ctx) throws SQLException, IOException;
+
+    abstract void footer() throws IOException;
+
+    // -------------------------------------------------------------------------
+    // XXX: Reading values
+    // -------------------------------------------------------------------------
+
+    /**
+     * Read a value through its {@link Binding}.
+     */
+    @SuppressWarnings("unchecked")
+    final <T> Object value(int index, DefaultBindingGetResultSetContext<?> ctx) throws SQLException {
+        Field<T> field = (Field<T>) fields[index];
+
+        ctx.index(index + 1);
+        field.getBinding().get((BindingGetResultSetContext<T>) ctx);
+        return ctx.value();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Encoding bytes
+    // -------------------------------------------------------------------------
+
+    final void flush() throws IOException {
+        flush0();
+        out.flush();
+    }
+
+    private final void flush0() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private final void ensure(int length) throws IOException {
+        if (position + length > buffer.length)
+            flush0();
+    }
+
+    final void write(char c) throws IOException {
+        if (c < 0x80) {
+            ensure(1);
+            buffer[position++] = (byte) c;
+        }
+        else
+            write(String.valueOf(c));
+    }
+
+    final void write(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length) {
+            flush0();
+            out.write(bytes);
+        }
+        else {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+    }
+
+    final void write(String string) throws IOException {
+        for (int i = 0; i < string.length(); i++)
+            i = write(string, i);
+    }
+
+    /**
+     * Write the character at <code>i</code> and return the index of the last
+     * character written, which differs from <code>i</code> for surrogate
+     * pairs.
+     */
+    final int write(String string, int i) throws IOException {
+        char c = string.charAt(i);
+        ensure(4);
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        }
+        else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        else if (Character.isHighSurrogate(c) && i + 1 < string.length() && Character.isLowSurrogate(string.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, string.charAt(++i));
+
+            buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+
+        // Unpaired surrogates are replaced, as by the JDK's UTF-8 encoder
+        else if (Character.isSurrogate(c)) {
+            buffer[position++] = (byte) '?';
+        }
+        else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+
+        return i;
+    }
+
+    final void write(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+
+        ensure(20);
+
+        if (value < 0) {
+            buffer[position++] = (byte) '-';
+            value = -value;
+        }
+
+        int start = position;
+
+        do {
+            buffer[position++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        while (value != 0);
+
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte b = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = b;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: CSV
+    // -------------------------------------------------------------------------
+
+    private static final class CSV extends Export {
+
+        private final CSVFormat format;
+        private final String    delimiter;
+        private final String    newline;
+        private final char      quote;
+
+        CSV(OutputStream out, CSVFormat format) {
+            super(out);
+
+            this.format = format;
+            this.delimiter = format.delimiter();
+            this.newline = format.newline();
+
+            // Other quote strings are rare enough to be formatted as in formatCSV()
+            this.quote = format.quoteString().length() == 1 && format.quoteString().charAt(0) != '\\'
+                ? format.quoteString().charAt(0)
+                : 0;
+        }
+
+        @Override
+        final void format(Cursor<?> cursor, OutputStreamWriter writer) {
+            cursor.formatCSV(writer, format);
+        }
+
+        @Override
+        final void header(AbstractCursor<?> cursor) throws IOException {
+            if (format.header()) {
+                for (int i = 0; i < fields.length; i++) {
+                    if (i > 0)
+                        write(delimiter);
+
+                    write(formatCSV0(fields[i].getName(), format));
+                }
+
+                write(newline);
+            }
+        }
+
+        @Override
+        final void row(ResultSet rs, DefaultBindingGetResultSetContext<?> ctx) throws SQLException, IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0)
+                    write(delimiter);
+
+                switch (kinds[i]) {
+                    case INT: {
+                        int value = rs.getInt(i + 1);
+
+                        if (rs.wasNull())
+                            write(format.nullString());
+                        else
+                            number(value);
+
+                        break;
+                    }
+
+                    case LONG: {
+                        long value = rs.getLong(i + 1);
+
+                        if (rs.wasNull())
+                            write(format.nullString());
+                        else
+                            number(value);
+
+                        break;
+                    }
+
+                    case STRING:
+                        string(rs.getString(i + 1));
+                        break;
+
+                    default:
+                        write(formatCSV0(value(i, ctx), format));
+                        break;
+                }
+            }
+
+            write(newline);
+        }
+
+        @Override
+        final void footer() {}
+
+        private final void number(long value) throws IOException {
+            if (format.quote() == CSVFormat.Quote.ALWAYS) {
+                if (quote == 0) {
+                    write(formatCSV0(value, format));
+                }
+                else {
+                    write(quote);
+                    write(value);
+                    write(quote);
+                }
+            }
+            else
+                write(value);
+        }
+
+        private final void string(String value) throws IOException {
+            if (value == null || value.isEmpty() || quote == 0) {
+                write(formatCSV0(value, format));
+                return;
+            }
+
+            switch (format.quote()) {
+                case NEVER:
+                    write(value);
+                    return;
+
+                case SPECIAL_CHARACTERS:
+                    if (!special(value)) {
+                        write(value);
+                        return;
+                    }
+
+                    break;
+
+                case ALWAYS:
+                default:
+                    break;
+            }
+
+            write(quote);
+
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+
+                if (c == '\\' || c == quote)
+                    write(c);
+
+                i = write(value, i);
+            }
+
+            write(quote);
+        }
+
+        private static final boolean special(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                switch (value.charAt(i)) {
+                    case ',':
+                    case ';':
+                    case '\t':
+                    case '"':
+                    case '\n':
+                    case '\r':
+                    case '\'':
+                    case '\\':
+                        return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: JSON
+    // -------------------------------------------------------------------------
+
+    private static final class JSON extends Export {
+
+        private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+        private final JSONFormat format;
+        private final boolean    pretty;
+        private final boolean    object;
+        private final String     newline;
+        private final String     indent;
+        private final String     indentValue;
+        private byte[][]         names;
+        private boolean          first;
+
+        JSON(OutputStream out, JSONFormat format) {
+            super(out);
+
+            int recordLevel = format.header() ? 2 : 1;
+
+            this.format = format;
+            this.pretty = format.format();
+            this.newline = format.newline();
+            this.indent = format.indentString(recordLevel);
+            this.indentValue = format.indentString(recordLevel + 1);
+            this.first = true;
+
+            switch (format.recordFormat()) {
+                case ARRAY:
+                    this.object = false;
+                    break;
+                case OBJECT:
+                    this.object = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Format not supported: " + format);
+            }
+        }
+
+        @Override
+        final void format(Cursor<?> cursor, OutputStreamWriter writer) {
+            cursor.formatJSON(writer, format);
+        }
+
+        @Override
+        final void header(AbstractCursor<?> cursor) throws IOException {
+            StringWriter writer = new StringWriter();
+            cursor.formatJSONHeader0(writer, format);
+            write(writer.toString());
+            write('[');
+
+            if (object) {
+                names = new byte[fields.length][];
+
+                for (int i = 0; i < fields.length; i++)
+                    names[i] = (JSONValue.toJSONString(fields[i].getName()) + (pretty ? ": " : ":")).getBytes(UTF_8);
+            }
+        }
+
+        @Override
+        final void row(ResultSet rs, DefaultBindingGetResultSetContext<?> ctx) throws SQLException, IOException {
+            if (!first)
+                write(',');
+
+            first = false;
+
+            if (pretty) {
+                write(newline);
+                write(indent);
+            }
+
+            write(object ? '{' : '[');
+
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0)
+                    write(',');
+
+                if (pretty) {
+                    write(newline);
+                    write(indentValue);
+                }
+
+                if (object)
+                    write(names[i]);
+
+                switch (kinds[i]) {
+                    case INT: {
+                        int value = rs.getInt(i + 1);
+
+                        if (rs.wasNull())
+                            write("null");
+                        else
+                            write(value);
+
+                        break;
+                    }
+
+                    case LONG: {
+                        long value = rs.getLong(i + 1);
+
+                        if (rs.wasNull())
+                            write("null");
+                        else
+                            write(value);
+
+                        break;
+                    }
+
+                    case STRING:
+                        string(rs.getString(i + 1));
+                        break;
+
+                    default:
+                        value(value(i, ctx));
+                        break;
+                }
+            }
+
+            if (pretty) {
+                write(newline);
+                write(indent);
+            }
+
+            write(object ? '}' : ']');
+        }
+
+        @Override
+        final void footer() throws IOException {
+            if (pretty) {
+                write(newline);
+
+                if (format.header())
+                    write(format.indentString(1));
+            }
+
+            write(']');
+
+            if (format.header()) {
+                write(newline);
+                write('}');
+            }
+        }
+
+        private final void value(Object value) throws IOException {
+            if (value instanceof byte[]) {
+                string(DatatypeConverter.printBase64Binary((byte[]) value));
+            }
+            else if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                write('[');
+
+                for (int i = 0; i < array.length; i++) {
+                    if (i > 0)
+                        write(',');
+
+                    value(array[i]);
+                }
+
+                write(']');
+            }
+            else if (value instanceof Formattable) {
+                StringWriter writer = new StringWriter();
+                ((Formattable) value).formatJSON(writer, format);
+                write(writer.toString());
+            }
+            else if (value == null || value instanceof String) {
+                string((String) value);
+            }
+            else if (value instanceof Number || value instanceof Boolean || value instanceof java.util.Map || value instanceof java.util.List) {
+                write(JSONValue.toJSONString(value));
+            }
+            else {
+                string(value.toString());
+            }
+        }
+
+        /**
+         * Write a JSON string, escaped like {@link JSONValue#escape(String)}.
+         */
+        private final void string(String value) throws IOException {
+            if (value == null) {
+                write("null");
+                return;
+            }
+
+            write('"');
+
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+
+                switch (c) {
+                    case '"':
+                        write('\\');
+                        write('"');
+                        break;
+
+                    case '\\':
+                        write('\\');
+                        write('\\');
+                        break;
+
+                    case '\b':
+                        write('\\');
+                        write('b');
+                        break;
+
+                    case '\f':
+                        write('\\');
+                        write('f');
+                        break;
+
+                    case '\n':
+                        write('\\');
+                        write('n');
+                        break;
+
+                    case '\r':
+                        write('\\');
+                        write('r');
+                        break;
+
+                    case '\t':
+                        write('\\');
+                        write('t');
+                        break;
+
+                    case '/':
+                        write('\\');
+                        write('/');
+                        break;
+
+                    default:
+                        if ((c >= '\u0000' && c <= '\u001F') || (c >= '\u007F' && c <= '\u009F') || (c >= '\u2000' && c <= '\u20FF')) {
+                            write('\\');
+                            write('u');
+
+                            for (int shift = 12; shift >= 0; shift -= 4)
+                                write(HEX[(c >> shift) & 0xF]);
+                        }
+                        else
+                            i = write(value, i);
+                }
+            }
+
+            write('"');
+        }
+    }
+}
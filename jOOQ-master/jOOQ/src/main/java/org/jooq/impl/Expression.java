@@ -120,10 +120,10 @@ final class Expression<T> extends AbstractField<T> {
     private static final Set<SQLDialect>  EMULATE_SHR_SHL     = SQLDialect.supportedBy(HSQLDB);
     private static final Set<SQLDialect>  HASH_OP_FOR_BIT_XOR = SQLDialect.supportedBy(POSTGRES);
 
-    private final Field<T>                lhs;
-    private final QueryPartList<Field<?>> rhs;
+    final Field<T>                        lhs;
+    final QueryPartList<Field<?>>         rhs;
     private final Field<?>[]              arguments;
-    private final ExpressionOperator      operator;
+    final ExpressionOperator              operator;
 
     Expression(ExpressionOperator operator, Field<T> lhs, Field<?>... rhs) {
         super(DSL.name(operator.toSQL()), lhs.getDataType());
@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Arrays;
+
+import org.jooq.Record;
+
+/**
+ * A composite key view on a set of field indexes of a {@link Record}.
+ * <p>
+ * This is used for grouping records by composite keys, without allocating a
+ * key record per row. The hash code and equality are computed in place from
+ * the record's values, in the same way as {@link AbstractStore#hashCode()} and
+ * {@link AbstractStore#equals(Object)}, such that a key record is needed only
+ * per group.
+ *
+ * @author Lukas Eder
+ */
+final class GroupKey {
+
+    private final int[] indexes;
+    private Record      record;
+    private int         hash;
+
+    GroupKey(int[] indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * Let this key view the values of a record.
+     */
+    final GroupKey of(Record r) {
+        int h = 1;
+
+        for (int index : indexes) {
+            Object obj = r.get(index);
+
+            // [#985] [#2045] Don't use obj.hashCode() on arrays
+            h = 31 * h + (obj == null || obj.getClass().isArray() ? 0 : obj.hashCode());
+        }
+
+        this.record = r;
+        this.hash = h;
+        return this;
+    }
+
+    /**
+     * A new key viewing the same record as this one.
+     */
+    final GroupKey copy() {
+        GroupKey result = new GroupKey(indexes);
+        result.record = record;
+        result.hash = hash;
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof GroupKey))
+            return false;
+
+        GroupKey that = (GroupKey) obj;
+        if (hash != that.hash || indexes.length != that.indexes.length)
+            return false;
+
+        for (int i = 0; i < indexes.length; i++)
+            if (!equal(record.get(indexes[i]), that.record.get(that.indexes[i])))
+                return false;
+
+        return true;
+    }
+
+    private static final boolean equal(Object thisValue, Object thatValue) {
+        if (thisValue == null || thatValue == null)
+            return thisValue == thatValue;
+
+        // [#985] Compare arrays too.
+        else if (thisValue.getClass().isArray() && thatValue.getClass().isArray()) {
+            if (thisValue.getClass() == byte[].class && thatValue.getClass() == byte[].class)
+                return Arrays.equals((byte[]) thisValue, (byte[]) thatValue);
+            else if (!thisValue.getClass().getComponentType().isPrimitive() &&
+                     !thatValue.getClass().getComponentType().isPrimitive())
+                return Arrays.equals((Object[]) thisValue, (Object[]) thatValue);
+            else
+                return false;
+        }
+
+        return thisValue.equals(thatValue);
+    }
+}
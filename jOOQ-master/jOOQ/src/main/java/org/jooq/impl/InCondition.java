@@ -49,6 +49,7 @@ import static org.jooq.Clause.CONDITION;
 import static org.jooq.Clause.CONDITION_IN;
 import static org.jooq.Clause.CONDITION_NOT_IN;
 import static org.jooq.Comparator.IN;
+import static org.jooq.Operator.AND;
 // ...
 // ...
 // ...
@@ -58,6 +59,7 @@ import static org.jooq.SQLDialect.CUBRID;
 import static org.jooq.SQLDialect.DERBY;
 import static org.jooq.SQLDialect.FIREBIRD;
 // ...
+import static org.jooq.SQLDialect.H2;
 import static org.jooq.SQLDialect.HSQLDB;
 // ...
 // ...
@@ -73,26 +75,42 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 // ...
 import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.impl.DSL.all;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.Keywords.K_AND;
 import static org.jooq.impl.Keywords.K_OR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.isEmbeddable;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
+import java.lang.reflect.Array;
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jooq.Clause;
 import org.jooq.Comparator;
+import org.jooq.Condition;
+import org.jooq.Configuration;
 import org.jooq.Context;
+import org.jooq.DataType;
 import org.jooq.Field;
+import org.jooq.Param;
 import org.jooq.RowN;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.impl.DefaultBinding.AbstractBinding;
 
 /**
  * @author Lukas Eder
@@ -105,10 +123,11 @@ final class InCondition<T> extends AbstractCondition {
     private static final Clause[]        CLAUSES_IN_NOT         = { CONDITION, CONDITION_NOT_IN };
     private static final Set<SQLDialect> REQUIRES_IN_LIMIT      = SQLDialect.supportedBy(FIREBIRD);
     private static final Set<SQLDialect> NO_SUPPORT_EMPTY_LISTS = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, HSQLDB, MARIADB, MYSQL, POSTGRES);
+    private static final Set<SQLDialect> SUPPORT_ARRAY_BINDING  = SQLDialect.supportedBy(H2, HSQLDB, POSTGRES);
 
-    private final Field<T>               field;
-    private final Field<?>[]             values;
-    private final Comparator             comparator;
+    final Field<T>                       field;
+    final Field<?>[]                     values;
+    final Comparator                     comparator;
 
     InCondition(Field<T> field, Field<?>[] values, Comparator comparator) {
         this.field = field;
@@ -141,6 +160,7 @@ final class InCondition<T> extends AbstractCondition {
         return result;
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     private final void accept0(Context<?> ctx) {
         List<Field<?>> list = Arrays.asList(values);
 
@@ -150,6 +170,35 @@ final class InCondition<T> extends AbstractCondition {
             else
                 ctx.visit(trueCondition());
         }
+        else if (arrayBinding(ctx)) {
+            Field<T[]> array = array();
+
+            switch (ctx.family()) {
+
+                // PostgreSQL supports quantified comparison predicates with
+                // arrays natively: x = any(?::int[])
+                case POSTGRES: {
+                    if (comparator == IN)
+                        ctx.visit(field.eq(any(array)));
+                    else
+                        ctx.visit(field.ne(all(array)));
+
+                    break;
+                }
+
+                // H2 and HSQLDB can unnest the array in a subselect
+                default: {
+                    Select unnest = select().from(table(array));
+
+                    if (comparator == IN)
+                        ctx.visit(field.in(unnest));
+                    else
+                        ctx.visit(field.notIn(unnest));
+
+                    break;
+                }
+            }
+        }
         else if (list.size() > IN_LIMIT) {
             // [#798] Oracle and some other dialects can only hold 1000 values
             // in an IN (...) clause
@@ -203,6 +252,120 @@ final class InCondition<T> extends AbstractCondition {
         }
     }
 
+    /**
+     * Whether the values can be bound as a single array bind value.
+     */
+    private final boolean arrayBinding(Context<?> ctx) {
+        if (!arrayBinding(ctx.configuration()))
+            return false;
+
+        for (Field<?> value : values)
+            if (((Val<?>) value).isInline(ctx))
+                return false;
+
+        return true;
+    }
+
+    private final boolean arrayBinding(Configuration configuration) {
+        if (values.length == 0
+                || !TRUE.equals(configuration.settings().isInListArrayBinding())
+                || !SUPPORT_ARRAY_BINDING.contains(configuration.family()))
+            return false;
+
+        // Only built-in bindings without user converters are supported for
+        // array element types. Arrays are not supported either.
+        DataType<T> type = field.getDataType();
+        if (!(type.getBinding() instanceof AbstractBinding)
+                || !(type.getConverter() instanceof IdentityConverter)
+                || type.isArray()
+                || type.getType() == Object.class)
+            return false;
+
+        for (Field<?> value : values)
+            if (!(value instanceof Val) || ((Val<?>) value).isInline())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Find the top level <code>IN</code> predicate with the most values in a
+     * <code>WHERE</code> clause, which can be split into several predicates,
+     * or <code>null</code> if there is no such predicate.
+     * <p>
+     * Only predicates whose values are all bind values qualify. Predicates
+     * that are bound as a single array are not split.
+     */
+    static final InCondition<?> splittable(Configuration configuration, Condition where) {
+        InCondition<?> result = null;
+
+        if (where instanceof CombinedCondition && ((CombinedCondition) where).operator == AND) {
+            for (Condition c : ((CombinedCondition) where).conditions)
+                if (c instanceof InCondition && ((InCondition<?>) c).splittable(configuration))
+                    if (result == null || result.values.length < ((InCondition<?>) c).values.length)
+                        result = (InCondition<?>) c;
+        }
+        else if (where instanceof InCondition && ((InCondition<?>) where).splittable(configuration)) {
+            result = (InCondition<?>) where;
+        }
+
+        return result;
+    }
+
+    private final boolean splittable(Configuration configuration) {
+        if (comparator != IN || isEmbeddable(field) || arrayBinding(configuration))
+            return false;
+
+        for (Field<?> value : values)
+            if (!(value instanceof Param) || ((Param<?>) value).isInline())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Split a <code>WHERE</code> clause containing this predicate into
+     * several ones, each of which contains at most <code>size</code> of this
+     * predicate's values.
+     * <p>
+     * Duplicate values are removed, such that no row is matched by more than
+     * one of the resulting predicates.
+     */
+    final List<Condition> split(Condition where, int size) {
+        Map<Object, Field<?>> distinct = new LinkedHashMap<>();
+        for (Field<?> value : values)
+            distinct.putIfAbsent(((Param<?>) value).getValue(), value);
+
+        Field<?>[] v = distinct.values().toArray(EMPTY_FIELD);
+        List<Condition> result = new ArrayList<>();
+
+        for (int from = 0; from < v.length; from += size) {
+            InCondition<T> in = new InCondition<>(field, Arrays.copyOfRange(v, from, min(from + size, v.length)), IN);
+
+            if (where == this) {
+                result.add(in);
+            }
+            else {
+                List<Condition> conditions = new ArrayList<>(((CombinedCondition) where).conditions);
+                conditions.set(conditions.indexOf(this), in);
+                result.add(DSL.and(conditions));
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Field<T[]> array() {
+        DataType<T> type = field.getDataType();
+        T[] array = (T[]) Array.newInstance(type.getType(), values.length);
+
+        for (int i = 0; i < values.length; i++)
+            array[i] = type.convert(((Val<?>) values[i]).getValue());
+
+        return val(array, type.getArrayDataType());
+    }
+
     static <T> List<T> padded(Context<?> ctx, List<T> list) {
         return ctx.paramType() == INDEXED && TRUE.equals(ctx.settings().isInListPadding())
             ? new PaddedList<>(list, REQUIRES_IN_LIMIT.contains(ctx.family())
@@ -0,0 +1,1684 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.impl.AbstractAggregateFunction.ASTERISK;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jooq.Asterisk;
+import org.jooq.Condition;
+import org.jooq.DDLQuery;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.GroupField;
+import org.jooq.JoinType;
+import org.jooq.Operator;
+import org.jooq.Param;
+import org.jooq.QualifiedAsterisk;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.Source;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.Convert;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * A {@link MockDataProvider} that executes statements against an in-memory
+ * database.
+ * <p>
+ * The database's tables are created from DDL scripts, which are interpreted
+ * the same way as by {@link DSLContext#meta(Source...)}. Every statement that
+ * is executed through a {@link MockConnection} using this provider is parsed
+ * with {@link DSLContext#parser()} and evaluated against the in-memory rows.
+ * The supported statements are:
+ * <ul>
+ * <li><code>SELECT</code> statements with inner and outer joins,
+ * <code>WHERE</code>, <code>GROUP BY</code>, <code>HAVING</code>,
+ * <code>DISTINCT</code>, <code>ORDER BY</code>, <code>OFFSET</code> and
+ * <code>LIMIT</code> clauses, and the <code>COUNT</code>, <code>SUM</code>,
+ * <code>AVG</code>, <code>MIN</code> and <code>MAX</code> aggregate
+ * functions.</li>
+ * <li><code>INSERT</code>, <code>UPDATE</code>, <code>DELETE</code> and
+ * <code>TRUNCATE</code> statements, including <code>RETURNING</code> clauses
+ * and generated keys.</li>
+ * <li>Further DDL statements, which are applied to the in-memory schema,
+ * retaining existing rows where possible.</li>
+ * </ul>
+ * <p>
+ * Primary keys and unique keys are enforced through hash indexes, which also
+ * serve lookups of single rows by primary key. Identity columns,
+ * <code>DEFAULT</code> values and <code>NOT NULL</code> constraints are applied
+ * when rows are inserted. Other constructs, such as subqueries, set operations
+ * or window functions, are rejected with a
+ * {@link SQLFeatureNotSupportedException}. There is no transaction support:
+ * every statement is committed immediately, or not at all.
+ * <p>
+ * Example: <code><pre>
+ * MockDataProvider provider = new InMemoryDataProvider(SQLDialect.H2,
+ *     "create table book (id int primary key, title varchar(50) not null)");
+ * DSLContext ctx = DSL.using(new MockConnection(provider), SQLDialect.H2);
+ *
+ * ctx.insertInto(BOOK).values(1, "1984").execute();
+ * ctx.selectFrom(BOOK).where(BOOK.ID.eq(1)).fetchOne();
+ * </pre></code>
+ *
+ * @author Lukas Eder
+ */
+public final class InMemoryDataProvider implements MockDataProvider {
+
+    private final DSLContext               dsl;
+    private final List<Query>              ddl;
+    private final Map<String, MemoryTable> tables;
+
+    /**
+     * Create a new in-memory database from DDL scripts.
+     */
+    public InMemoryDataProvider(SQLDialect dialect, String... ddl) {
+        this(DSL.using(dialect), sources(ddl));
+    }
+
+    /**
+     * Create a new in-memory database from DDL scripts.
+     */
+    public InMemoryDataProvider(SQLDialect dialect, Source... ddl) {
+        this(DSL.using(dialect), ddl);
+    }
+
+    /**
+     * Create a new in-memory database from DDL scripts, which are parsed and
+     * interpreted using the argument {@link DSLContext}.
+     */
+    public InMemoryDataProvider(DSLContext dsl, Source... ddl) {
+        this.dsl = dsl;
+        this.ddl = new ArrayList<>();
+        this.tables = new LinkedHashMap<>();
+
+        for (Source source : ddl)
+            this.ddl.addAll(Arrays.asList(dsl.parser().parse(source.readString()).queries()));
+
+        sync();
+    }
+
+    private static final Source[] sources(String... ddl) {
+        Source[] result = new Source[ddl.length];
+
+        for (int i = 0; i < ddl.length; i++)
+            result[i] = Source.of(ddl[i]);
+
+        return result;
+    }
+
+    /**
+     * The tables of this database, as interpreted from the DDL.
+     */
+    public final synchronized List<Table<?>> getTables() {
+        List<Table<?>> result = new ArrayList<>(tables.size());
+
+        for (MemoryTable table : tables.values())
+            result.add(table.table);
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // The MockDataProvider API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final synchronized MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+        List<MockResult> result = new ArrayList<>();
+
+        if (ctx.batchSingle())
+            for (Object[] bindings : ctx.batchBindings())
+                result.add(execute(ctx, ctx.sql(), bindings).get(0));
+        else if (ctx.batchMultiple())
+            for (String sql : ctx.batchSQL())
+                result.add(execute(ctx, sql, new Object[0]).get(0));
+        else
+            result.addAll(execute(ctx, ctx.sql(), ctx.bindings()));
+
+        return result.toArray(new MockResult[0]);
+    }
+
+    private final List<MockResult> execute(MockExecuteContext ctx, String sql, Object[] bindings) throws SQLException {
+        try {
+            List<MockResult> result = new ArrayList<>();
+
+            for (Query query : dsl.parser().parse(sql, bindings).queries())
+                result.add(execute(ctx, query));
+
+            if (result.isEmpty())
+                result.add(new MockResult(0));
+
+            return result;
+        }
+        catch (DataAccessException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    private final MockResult execute(MockExecuteContext ctx, Query query) throws SQLException {
+        if (query instanceof AbstractDelegatingQuery)
+            query = ((AbstractDelegatingQuery<?>) query).getDelegate();
+
+        if (query instanceof SelectQueryImpl) {
+            Result<Record> result = select((SelectQueryImpl<?>) query);
+            return new MockResult(result.size(), result);
+        }
+        else if (query instanceof InsertQueryImpl)
+            return insert(ctx, (InsertQueryImpl<?>) query);
+        else if (query instanceof UpdateQueryImpl)
+            return update(ctx, (UpdateQueryImpl<?>) query);
+        else if (query instanceof DeleteQueryImpl)
+            return delete(ctx, (DeleteQueryImpl<?>) query);
+        else if (query instanceof TruncateImpl)
+            return truncate((TruncateImpl<?>) query);
+        else if (query instanceof DDLQuery)
+            return ddl(query);
+        else
+            throw unsupported(query);
+    }
+
+    // -------------------------------------------------------------------------
+    // DDL
+    // -------------------------------------------------------------------------
+
+    private final MockResult ddl(Query query) throws SQLException {
+        ddl.add(query);
+
+        try {
+            sync();
+        }
+        catch (DataAccessException e) {
+            ddl.remove(ddl.size() - 1);
+            sync();
+            throw e;
+        }
+
+        return new MockResult(0);
+    }
+
+    /**
+     * Re-interpret the DDL and migrate the existing rows to the resulting
+     * tables.
+     */
+    private final void sync() {
+        Map<String, MemoryTable> previous = new HashMap<>(tables);
+        Map<String, MemoryTable> next = new LinkedHashMap<>();
+
+        for (Table<?> table : dsl.meta(ddl.toArray(new Query[0])).getTables()) {
+            String key = key(table.getName());
+            MemoryTable old = previous.get(key);
+            next.put(key, old == null ? new MemoryTable(table) : old.migrate(table));
+        }
+
+        tables.clear();
+        tables.putAll(next);
+    }
+
+    private final MemoryTable table(Table<?> table) throws SQLException {
+        MemoryTable result = tables.get(key(table.getName()));
+
+        if (result == null)
+            throw new SQLException("Table does not exist: " + table, "42P01");
+
+        return result;
+    }
+
+    private final MockResult truncate(TruncateImpl<?> truncate) throws SQLException {
+        table(truncate.table).truncate();
+        return new MockResult(0);
+    }
+
+    // -------------------------------------------------------------------------
+    // DML
+    // -------------------------------------------------------------------------
+
+    private final MockResult insert(MockExecuteContext ctx, InsertQueryImpl<?> insert) throws SQLException {
+        if (insert.onDuplicateKeyUpdate)
+            throw unsupported(insert);
+
+        Scope scope = new Scope();
+        MemoryTable table = scope.declare(insert.table(), table(insert.table()));
+        FieldMapsForInsert maps = insert.getInsertMaps();
+        int[] columns = new int[maps.values.size()];
+        List<Object[]> values = new ArrayList<>();
+
+        // Without a column list, values are assigned to columns by position
+        int c = 0;
+        for (Field<?> field : maps.values.keySet()) {
+            columns[c] = field instanceof AbstractStoreQuery.UnknownField && c < table.fields.length
+                ? c
+                : table.indexOfOrFail(field);
+
+            c++;
+        }
+
+        if (insert.getSelect() != null) {
+            for (Record record : select(query(insert.getSelect())))
+                values.add(record.intoArray());
+        }
+        else if (maps.values.isEmpty()) {
+            values.add(new Object[0]);
+        }
+        else {
+            for (int r = 0; r < maps.rows; r++) {
+                Object[] row = new Object[columns.length];
+
+                c = 0;
+                for (List<Field<?>> list : maps.values.values()) {
+                    Field<?> field = list.get(r);
+                    row[c++] = isDefault(field) ? DEFAULT : eval(scope, field);
+                }
+
+                values.add(row);
+            }
+        }
+
+        List<Object[]> inserted = new ArrayList<>(values.size());
+        try {
+            for (Object[] value : values) {
+                Object[] row = table.newRow(this, columns, value);
+
+                if (insert.onDuplicateKeyIgnore && table.conflicts(row))
+                    continue;
+
+                table.insert(row);
+                inserted.add(row);
+            }
+        }
+        catch (SQLException e) {
+            table.delete(inserted);
+            throw e;
+        }
+
+        return new MockResult(inserted.size(), returning(ctx, scope, insert.returning, inserted));
+    }
+
+    private final MockResult update(MockExecuteContext ctx, UpdateQueryImpl<?> update) throws SQLException {
+        Scope scope = new Scope();
+        MemoryTable table = scope.declare(update.table(), table(update.table()));
+        Map<Field<?>, Field<?>> values = update.getValues();
+        int[] columns = new int[values.size()];
+        Field<?>[] expressions = new Field<?>[values.size()];
+
+        int c = 0;
+        for (Map.Entry<Field<?>, Field<?>> entry : values.entrySet()) {
+            columns[c] = table.indexOfOrFail(entry.getKey());
+            expressions[c++] = entry.getValue();
+        }
+
+        List<Object[]> rows = rows(scope, 0, update.getWhere());
+        List<Object[]> updated = new ArrayList<>(rows.size());
+
+        for (Object[] row : rows) {
+            scope.row = new Object[][] { row };
+            Object[] copy = row.clone();
+
+            for (int i = 0; i < columns.length; i++)
+                copy[columns[i]] = isDefault(expressions[i])
+                    ? table.defaultValue(this, columns[i])
+                    : table.convert(columns[i], eval(scope, expressions[i]));
+
+            table.checkNotNull(copy);
+            updated.add(copy);
+        }
+
+        table.update(rows, updated);
+        return new MockResult(rows.size(), returning(ctx, scope, update.returning, rows));
+    }
+
+    private final MockResult delete(MockExecuteContext ctx, DeleteQueryImpl<?> delete) throws SQLException {
+        Scope scope = new Scope();
+        MemoryTable table = scope.declare(delete.table(), table(delete.table()));
+        List<Object[]> rows = rows(scope, 0, delete.getWhere());
+
+        table.delete(rows);
+        return new MockResult(rows.size(), returning(ctx, scope, delete.returning, rows));
+    }
+
+    /**
+     * The rows of a single table that satisfy a predicate.
+     */
+    private final List<Object[]> rows(Scope scope, int source, Condition where) throws SQLException {
+        List<Object[]> result = new ArrayList<>();
+
+        for (Object[] row : candidates(scope, source, where)) {
+            scope.row = new Object[][] { row };
+
+            if (TRUE.equals(condition(scope, where)))
+                result.add(row);
+        }
+
+        return result;
+    }
+
+    /**
+     * The rows produced by a DML statement's <code>RETURNING</code> clause, or
+     * by the JDBC generated keys that were requested.
+     */
+    private final Result<Record> returning(
+        MockExecuteContext ctx,
+        Scope scope,
+        List<? extends SelectFieldOrAsterisk> returning,
+        List<Object[]> rows
+    ) throws SQLException {
+        MemoryTable table = scope.sources.get(0).table;
+        List<Field<?>> fields = new ArrayList<>();
+
+        if (!returning.isEmpty())
+            fields.addAll(fields(scope, returning));
+        else if (ctx.columnNames() != null)
+            for (String name : ctx.columnNames())
+                fields.add(scope.column(0, table.indexOfOrFail(DSL.field(DSL.name(name)))));
+        else if (ctx.columnIndexes() != null)
+            for (int index : ctx.columnIndexes())
+                fields.add(scope.column(0, index - 1));
+        else if (ctx.autoGeneratedKeys() == Statement.RETURN_GENERATED_KEYS)
+            for (int index : table.generatedKeys())
+                fields.add(scope.column(0, index));
+        else
+            return null;
+
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            scope.row = new Object[][] { row };
+            values.add(project(scope, fields));
+        }
+
+        return result(fields, values);
+    }
+
+    // -------------------------------------------------------------------------
+    // SELECT
+    // -------------------------------------------------------------------------
+
+    private static final SelectQueryImpl<?> query(Select<?> select) throws SQLException {
+        Query query = select;
+
+        if (query instanceof AbstractDelegatingQuery)
+            query = ((AbstractDelegatingQuery<?>) query).getDelegate();
+
+        if (query instanceof SelectQueryImpl)
+            return (SelectQueryImpl<?>) query;
+        else
+            throw unsupported(select);
+    }
+
+    private final Result<Record> select(SelectQueryImpl<?> select) throws SQLException {
+        Limit limit = select.getLimit();
+
+        if (select.hasUnion() || limit.withTies() || limit.percent())
+            throw unsupported(select);
+
+        Scope scope = new Scope();
+        List<Table<?>> from = select.getFrom();
+        Condition where = select.getWhere().getWhere();
+
+        for (Table<?> table : from)
+            declare(scope, table);
+
+        // FROM and WHERE
+        // ---------------------------------------------------------------------
+        List<Object[][]> rows = Collections.singletonList(new Object[scope.sources.size()][]);
+        for (Table<?> table : from)
+            rows = join(scope, rows, relation(scope, table, from.size() == 1 ? where : null), JoinType.CROSS_JOIN, null);
+
+        List<Object[][]> filtered = new ArrayList<>();
+        for (Object[][] row : rows) {
+            scope.row = row;
+
+            if (TRUE.equals(condition(scope, where)))
+                filtered.add(row);
+        }
+
+        // GROUP BY and HAVING
+        // ---------------------------------------------------------------------
+        List<Field<?>> fields = fields(scope, select.getSelectAsSpecified());
+        List<SortField<?>> orderBy = new ArrayList<>(select.getOrderBy());
+        List<GroupField> groupBy = select.getGroupBy();
+        Condition having = select.getHaving().getWhere();
+        List<List<Object[][]>> groups = null;
+
+        boolean grouped = groupBy != null || select.getHaving().hasWhere();
+        if (groupBy == null)
+            groupBy = Collections.emptyList();
+
+        for (Field<?> field : fields)
+            grouped |= aggregated(field);
+        for (SortField<?> field : orderBy)
+            grouped |= aggregated(((SortFieldImpl<?>) field).getField());
+
+        if (grouped) {
+            Map<List<Object>, List<Object[][]>> map = new LinkedHashMap<>();
+
+            for (Object[][] row : filtered) {
+                scope.row = row;
+                List<Object> key = new ArrayList<>(groupBy.size());
+
+                for (GroupField field : groupBy)
+                    if (field instanceof Field)
+                        key.add(eval(scope, (Field<?>) field));
+                    else
+                        throw unsupported(field);
+
+                map.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+
+            if (map.isEmpty() && groupBy.isEmpty())
+                map.put(Collections.emptyList(), Collections.emptyList());
+
+            groups = new ArrayList<>(map.values());
+        }
+
+        // SELECT and ORDER BY
+        // ---------------------------------------------------------------------
+        List<Object[]> values = new ArrayList<>();
+        List<Object[]> keys = new ArrayList<>();
+        Set<List<Object>> distinct = select.isDistinct() ? new HashSet<>() : null;
+        int size = grouped ? groups.size() : filtered.size();
+
+        for (int i = 0; i < size; i++) {
+            if (grouped) {
+                scope.group = groups.get(i);
+                scope.row = scope.group.isEmpty() ? null : scope.group.get(0);
+
+                if (!TRUE.equals(condition(scope, having)))
+                    continue;
+            }
+            else {
+                scope.row = filtered.get(i);
+            }
+
+            Object[] value = project(scope, fields);
+            if (distinct != null && !distinct.add(Arrays.asList(value)))
+                continue;
+
+            Object[] key = new Object[orderBy.size()];
+            for (int j = 0; j < key.length; j++)
+                key[j] = sortKey(scope, fields, value, (SortFieldImpl<?>) orderBy.get(j));
+
+            values.add(value);
+            keys.add(key);
+        }
+
+        scope.group = null;
+        scope.row = null;
+
+        if (!orderBy.isEmpty()) {
+            Integer[] order = new Integer[values.size()];
+            for (int i = 0; i < order.length; i++)
+                order[i] = i;
+
+            boolean nullsHigh = dsl.dialect().family() == POSTGRES;
+            Arrays.sort(order, (i1, i2) -> {
+                Object[] k1 = keys.get(i1);
+                Object[] k2 = keys.get(i2);
+
+                for (int j = 0; j < k1.length; j++) {
+                    SortFieldImpl<?> field = (SortFieldImpl<?>) orderBy.get(j);
+                    boolean desc = field.getOrder() == SortOrder.DESC;
+                    boolean nullsFirst = field.getNullsFirst() || !field.getNullsLast() && desc == nullsHigh;
+                    int c;
+
+                    if (k1[j] == null && k2[j] == null)
+                        c = 0;
+                    else if (k1[j] == null)
+                        c = nullsFirst ? -1 : 1;
+                    else if (k2[j] == null)
+                        c = nullsFirst ? 1 : -1;
+                    else
+                        c = desc ? compare(k2[j], k1[j]) : compare(k1[j], k2[j]);
+
+                    if (c != 0)
+                        return c;
+                }
+
+                return 0;
+            });
+
+            List<Object[]> sorted = new ArrayList<>(order.length);
+            for (Integer i : order)
+                sorted.add(values.get(i));
+
+            values = sorted;
+        }
+
+        // OFFSET and LIMIT
+        // ---------------------------------------------------------------------
+        if (limit.isApplicable()) {
+            long offset = number(eval(scope, limit.getLowerRownum()));
+            long rowCount = number(eval(scope, limit.getNumberOfRowsOrMax()));
+            int lower = (int) Math.min(values.size(), Math.max(0L, offset));
+            int upper = (int) Math.min(values.size(), lower + Math.max(0L, rowCount));
+
+            values = values.subList(lower, upper);
+        }
+
+        return result(fields, values);
+    }
+
+    private final void declare(Scope scope, Table<?> table) throws SQLException {
+        if (table instanceof JoinTable) {
+            declare(scope, ((JoinTable) table).lhs);
+            declare(scope, ((JoinTable) table).rhs);
+        }
+        else {
+            Alias<? extends Table<?>> alias = Tools.alias(table);
+            Table<?> wrapped = alias == null ? table : alias.wrapped;
+
+            if (!(wrapped instanceof TableImpl))
+                throw unsupported(table);
+
+            scope.declare(table, table(wrapped));
+        }
+    }
+
+    /**
+     * The rows produced by a table expression, with one table row per declared
+     * {@link Scope#sources} entry.
+     */
+    private final List<Object[][]> relation(Scope scope, Table<?> table, Condition where) throws SQLException {
+        if (table instanceof JoinTable) {
+            JoinTable join = (JoinTable) table;
+
+            if (!join.using.isEmpty())
+                throw unsupported(join);
+
+            return join(
+                scope,
+                relation(scope, join.lhs, null),
+                relation(scope, join.rhs, null),
+                join.type,
+                join.condition.getWhere()
+            );
+        }
+        else {
+            int source = scope.tables.get(table);
+            List<Object[]> rows = candidates(scope, source, where);
+            List<Object[][]> result = new ArrayList<>(rows.size());
+
+            for (Object[] row : rows) {
+                Object[][] r = new Object[scope.sources.size()][];
+                r[source] = row;
+                result.add(r);
+            }
+
+            return result;
+        }
+    }
+
+    private final List<Object[][]> join(
+        Scope scope,
+        List<Object[][]> lhs,
+        List<Object[][]> rhs,
+        JoinType type,
+        Condition on
+    ) throws SQLException {
+        boolean left;
+        boolean right;
+
+        switch (type) {
+            case JOIN:
+            case CROSS_JOIN:
+            case STRAIGHT_JOIN:
+                left = false;
+                right = false;
+                break;
+
+            case LEFT_OUTER_JOIN:
+                left = true;
+                right = false;
+                break;
+
+            case RIGHT_OUTER_JOIN:
+                left = false;
+                right = true;
+                break;
+
+            case FULL_OUTER_JOIN:
+                left = true;
+                right = true;
+                break;
+
+            default:
+                throw new SQLFeatureNotSupportedException("Join type not supported by in-memory database: " + type);
+        }
+
+        List<Object[][]> result = new ArrayList<>();
+        boolean[] matched = new boolean[rhs.size()];
+
+        for (Object[][] l : lhs) {
+            boolean match = false;
+
+            for (int i = 0; i < rhs.size(); i++) {
+                Object[][] row = l.clone();
+                Object[][] r = rhs.get(i);
+
+                for (int j = 0; j < r.length; j++)
+                    if (r[j] != null)
+                        row[j] = r[j];
+
+                scope.row = row;
+                if (TRUE.equals(condition(scope, on))) {
+                    result.add(row);
+                    match = true;
+                    matched[i] = true;
+                }
+            }
+
+            if (left && !match)
+                result.add(l);
+        }
+
+        if (right)
+            for (int i = 0; i < rhs.size(); i++)
+                if (!matched[i])
+                    result.add(rhs.get(i));
+
+        return result;
+    }
+
+    /**
+     * The rows of a table that may satisfy a predicate, looking them up by
+     * primary key if the predicate compares it to a bind value.
+     */
+    private final List<Object[]> candidates(Scope scope, int source, Condition where) throws SQLException {
+        MemoryTable table = scope.sources.get(source).table;
+
+        if (where != null && table.primaryKey != null && table.primaryKey.length == 1) {
+            Object value = lookupValue(scope, source, table.primaryKey[0], where);
+
+            if (value != NO_LOOKUP) {
+                Object[] row = table.lookup(value);
+                return row == null ? Collections.<Object[]>emptyList() : Collections.singletonList(row);
+            }
+        }
+
+        return table.rows;
+    }
+
+    private final Object lookupValue(Scope scope, int source, int column, Condition where) throws SQLException {
+        if (where instanceof ConditionProviderImpl)
+            return lookupValue(scope, source, column, ((ConditionProviderImpl) where).getWhere());
+
+        if (where instanceof CombinedCondition && ((CombinedCondition) where).operator == Operator.AND) {
+            for (Condition condition : ((CombinedCondition) where).conditions) {
+                Object value = lookupValue(scope, source, column, condition);
+
+                if (value != NO_LOOKUP)
+                    return value;
+            }
+        }
+        else if (where instanceof CompareCondition && ((CompareCondition) where).comparator == org.jooq.Comparator.EQUALS) {
+            CompareCondition compare = (CompareCondition) where;
+
+            for (int i = 0; i < 2; i++) {
+                Field<?> f1 = i == 0 ? compare.field1 : compare.field2;
+                Field<?> f2 = i == 0 ? compare.field2 : compare.field1;
+
+                if (f1 instanceof TableField && f2 instanceof Param) {
+                    int[] resolved = scope.resolve(f1);
+
+                    if (resolved[0] == source && resolved[1] == column)
+                        return scope.sources.get(source).table.convert(column, ((Param<?>) f2).getValue());
+                }
+            }
+        }
+
+        return NO_LOOKUP;
+    }
+
+    /**
+     * Expand the asterisks of a <code>SELECT</code> or <code>RETURNING</code>
+     * clause.
+     */
+    private static final List<Field<?>> fields(Scope scope, List<? extends SelectFieldOrAsterisk> select) throws SQLException {
+        List<Field<?>> result = new ArrayList<>();
+
+        for (SelectFieldOrAsterisk field : select) {
+            if (field instanceof Field) {
+                result.add((Field<?>) field);
+            }
+            else if (field instanceof Asterisk) {
+                for (int i = 0; i < scope.sources.size(); i++)
+                    for (int j = 0; j < scope.sources.get(i).table.fields.length; j++)
+                        result.add(scope.column(i, j));
+            }
+            else if (field instanceof QualifiedAsterisk) {
+                String name = key(((QualifiedAsterisk) field).qualifier().getName());
+                boolean found = false;
+
+                for (int i = 0; i < scope.sources.size(); i++) {
+                    if (scope.sources.get(i).name.equals(name)) {
+                        for (int j = 0; j < scope.sources.get(i).table.fields.length; j++)
+                            result.add(scope.column(i, j));
+
+                        found = true;
+                    }
+                }
+
+                if (!found)
+                    throw new SQLException("Table not found in FROM clause: " + field, "42P01");
+            }
+            else
+                throw unsupported(field);
+        }
+
+        return result;
+    }
+
+    private final Object[] project(Scope scope, List<Field<?>> fields) throws SQLException {
+        Object[] result = new Object[fields.size()];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = eval(scope, fields.get(i));
+
+        return result;
+    }
+
+    private final Object sortKey(Scope scope, List<Field<?>> fields, Object[] value, SortFieldImpl<?> sortField) throws SQLException {
+        Field<?> field = sortField.getField();
+
+        // ORDER BY <position>
+        if (field instanceof Param && ((Param<?>) field).isInline() && ((Param<?>) field).getValue() instanceof Number) {
+            int position = ((Number) ((Param<?>) field).getValue()).intValue();
+
+            if (position < 1 || position > value.length)
+                throw new SQLException("ORDER BY position out of range: " + position, "42P10");
+
+            return value[position - 1];
+        }
+
+        // ORDER BY <alias>
+        if (field.getQualifiedName().getName().length == 1)
+            for (int i = 0; i < fields.size(); i++)
+                if (fields.get(i) instanceof FieldAlias && key(fields.get(i).getName()).equals(key(field.getName())))
+                    return value[i];
+
+        return eval(scope, field);
+    }
+
+    private final Result<Record> result(List<Field<?>> fields, List<Object[]> values) {
+        Field<?>[] columns = new Field<?>[fields.size()];
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = DSL.field(DSL.name(fields.get(i).getName()), fields.get(i).getDataType());
+
+        Result<Record> result = dsl.newResult(columns);
+        for (Object[] value : values) {
+            Record record = dsl.newRecord(columns);
+            record.fromArray(value);
+            result.add(record);
+        }
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // Expressions
+    // -------------------------------------------------------------------------
+
+    private static final boolean aggregated(Field<?> field) {
+        if (field instanceof AbstractAggregateFunction)
+            return true;
+        else if (field instanceof FieldAlias)
+            return aggregated(((FieldAlias<?>) field).alias.wrapped);
+        else if (field instanceof Expression) {
+            if (aggregated(((Expression<?>) field).lhs))
+                return true;
+
+            for (Field<?> rhs : ((Expression<?>) field).rhs)
+                if (aggregated(rhs))
+                    return true;
+        }
+        else if (field instanceof Coalesce) {
+            for (Field<?> argument : ((Coalesce<?>) field).fields)
+                if (aggregated(argument))
+                    return true;
+        }
+        else if (field instanceof Cast)
+            return aggregated(((Cast<?>) field).field);
+        else if (field instanceof Lower)
+            return aggregated(((Lower) field).field);
+        else if (field instanceof Upper)
+            return aggregated(((Upper) field).field);
+
+        return false;
+    }
+
+    private final Object eval(Scope scope, Field<?> field) throws SQLException {
+        if (field instanceof Param)
+            return ((Param<?>) field).getValue();
+        else if (field instanceof TableField)
+            return scope.value(field);
+        else if (field instanceof FieldAlias)
+            return eval(scope, ((FieldAlias<?>) field).alias.wrapped);
+        else if (field instanceof Expression)
+            return expression(scope, (Expression<?>) field);
+        else if (field instanceof AbstractAggregateFunction)
+            return aggregate(scope, (AbstractAggregateFunction<?>) field);
+        else if (field instanceof Coalesce) {
+            for (Field<?> argument : ((Coalesce<?>) field).fields) {
+                Object value = eval(scope, argument);
+
+                if (value != null)
+                    return field.getDataType().convert(value);
+            }
+
+            return null;
+        }
+        else if (field instanceof Cast) {
+            return field.getDataType().convert(eval(scope, ((Cast<?>) field).field));
+        }
+        else if (field instanceof Concat) {
+            StringBuilder sb = new StringBuilder();
+
+            for (Field<?> argument : ((Concat) field).arguments) {
+                Object value = eval(scope, argument);
+
+                if (value == null)
+                    return null;
+
+                sb.append(Convert.convert(value, String.class));
+            }
+
+            return sb.toString();
+        }
+        else if (field instanceof Lower) {
+            Object value = eval(scope, ((Lower) field).field);
+            return value == null ? null : value.toString().toLowerCase();
+        }
+        else if (field instanceof Upper) {
+            Object value = eval(scope, ((Upper) field).field);
+            return value == null ? null : value.toString().toUpperCase();
+        }
+        else if (field instanceof ConditionAsField) {
+            return condition(scope, ((ConditionAsField) field).condition);
+        }
+        else if (field instanceof CurrentTimestamp || field instanceof CurrentDate || field instanceof CurrentTime) {
+            return field.getDataType().convert(new Timestamp(System.currentTimeMillis()));
+        }
+        else
+            throw unsupported(field);
+    }
+
+    private final Object expression(Scope scope, Expression<?> expression) throws SQLException {
+        Object result = eval(scope, expression.lhs);
+        ExpressionOperator operator = expression.operator;
+
+        for (Field<?> rhs : expression.rhs) {
+            Object value = eval(scope, rhs);
+
+            if (result == null || value == null)
+                return null;
+
+            if (operator == ExpressionOperator.CONCAT) {
+                result = Convert.convert(result, String.class) + Convert.convert(value, String.class);
+                continue;
+            }
+
+            if (!(result instanceof Number) || !(value instanceof Number))
+                throw unsupported(expression);
+
+            BigDecimal a = Convert.convert(result, BigDecimal.class);
+            BigDecimal b = Convert.convert(value, BigDecimal.class);
+
+            switch (operator) {
+                case ADD:
+                    result = a.add(b);
+                    break;
+
+                case SUBTRACT:
+                    result = a.subtract(b);
+                    break;
+
+                case MULTIPLY:
+                    result = a.multiply(b);
+                    break;
+
+                case DIVIDE:
+                case MODULO:
+                    if (b.signum() == 0)
+                        throw new SQLException("Division by zero: " + expression, "22012");
+
+                    if (operator == ExpressionOperator.MODULO)
+                        result = a.remainder(b);
+                    else if (integral(expression.lhs) && integral(rhs))
+                        result = a.divide(b, 0, RoundingMode.DOWN);
+                    else
+                        result = a.divide(b, MathContext.DECIMAL128);
+
+                    break;
+
+                default:
+                    throw unsupported(expression);
+            }
+        }
+
+        return expression.getDataType().convert(result);
+    }
+
+    private static final boolean integral(Field<?> field) {
+        Class<?> type = field.getType();
+
+        return type == Byte.class
+            || type == Short.class
+            || type == Integer.class
+            || type == Long.class
+            || type == java.math.BigInteger.class;
+    }
+
+    private final Object aggregate(Scope scope, AbstractAggregateFunction<?> function) throws SQLException {
+        if (scope.group == null)
+            throw new SQLException("Aggregate function not allowed here: " + function, "42803");
+        if (function.windowSpecification != null || function.windowDefinition != null || function.windowName != null)
+            throw unsupported(function);
+
+        String name = function.getName().toLowerCase(Locale.ROOT);
+        List<Object[][]> group = scope.group;
+        Object[][] row = scope.row;
+        List<Object> values = new ArrayList<>(group.size());
+        boolean asterisk = function.arguments.size() == 1 && function.arguments.get(0) == ASTERISK;
+
+        if (function.arguments.size() != 1)
+            throw unsupported(function);
+
+        try {
+            scope.group = null;
+
+            for (Object[][] r : group) {
+                scope.row = r;
+
+                if (function.filter != null && !TRUE.equals(condition(scope, function.filter)))
+                    continue;
+
+                Object value = asterisk ? ASTERISK : eval(scope, function.arguments.get(0));
+                if (value != null)
+                    values.add(value);
+            }
+        }
+        finally {
+            scope.group = group;
+            scope.row = row;
+        }
+
+        if (function.distinct)
+            values = new ArrayList<>(new LinkedHashSet<>(values));
+
+        switch (name) {
+            case "count":
+                return function.getDataType().convert(values.size());
+
+            case "sum":
+            case "avg": {
+                if (values.isEmpty())
+                    return null;
+
+                BigDecimal sum = BigDecimal.ZERO;
+                for (Object value : values)
+                    sum = sum.add(Convert.convert(value, BigDecimal.class));
+
+                return function.getDataType().convert("sum".equals(name)
+                    ? sum
+                    : sum.divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL128));
+            }
+
+            case "min":
+            case "max": {
+                Object result = null;
+
+                for (Object value : values)
+                    if (result == null || ("min".equals(name) ? compare(value, result) < 0 : compare(value, result) > 0))
+                        result = value;
+
+                return function.getDataType().convert(result);
+            }
+
+            default:
+                throw unsupported(function);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Conditions
+    // -------------------------------------------------------------------------
+
+    /**
+     * Evaluate a condition using three-valued logic, where <code>null</code>
+     * represents <code>UNKNOWN</code>.
+     */
+    private final Boolean condition(Scope scope, Condition condition) throws SQLException {
+        if (condition == null || condition instanceof NoCondition || condition instanceof TrueCondition)
+            return TRUE;
+        else if (condition instanceof FalseCondition)
+            return FALSE;
+        else if (condition instanceof ConditionProviderImpl)
+            return condition(scope, ((ConditionProviderImpl) condition).getWhere());
+        else if (condition instanceof CombinedCondition) {
+            boolean and = ((CombinedCondition) condition).operator == Operator.AND;
+            Boolean result = and;
+
+            for (Condition c : ((CombinedCondition) condition).conditions) {
+                Boolean value = condition(scope, c);
+
+                if (value == null)
+                    result = null;
+                else if (value != and)
+                    return value;
+            }
+
+            return result;
+        }
+        else if (condition instanceof NotCondition) {
+            Boolean value = condition(scope, ((NotCondition) condition).condition);
+            return value == null ? null : !value;
+        }
+        else if (condition instanceof CompareCondition) {
+            CompareCondition compare = (CompareCondition) condition;
+            return compare(scope, compare.comparator, eval(scope, compare.field1), eval(scope, compare.field2), compare.escape);
+        }
+        else if (condition instanceof IsNull) {
+            return ((IsNull) condition).isNull == (eval(scope, ((IsNull) condition).field) == null);
+        }
+        else if (condition instanceof InCondition) {
+            InCondition<?> in = (InCondition<?>) condition;
+            Object value = eval(scope, in.field);
+            boolean unknown = false;
+
+            if (value == null)
+                return null;
+
+            for (Field<?> field : in.values) {
+                Object v = eval(scope, field);
+
+                if (v == null)
+                    unknown = true;
+                else if (compare(value, v) == 0)
+                    return in.comparator == org.jooq.Comparator.IN;
+            }
+
+            return unknown ? null : in.comparator != org.jooq.Comparator.IN;
+        }
+        else if (condition instanceof BetweenCondition) {
+            BetweenCondition<?> between = (BetweenCondition<?>) condition;
+            Object value = eval(scope, between.field);
+            Object min = eval(scope, between.minValue);
+            Object max = eval(scope, between.maxValue);
+
+            if (between.symmetric && min != null && max != null && compare(min, max) > 0) {
+                Object swap = min;
+                min = max;
+                max = swap;
+            }
+
+            Boolean ge = compare(scope, org.jooq.Comparator.GREATER_OR_EQUAL, value, min, null);
+            Boolean le = compare(scope, org.jooq.Comparator.LESS_OR_EQUAL, value, max, null);
+            Boolean result = FALSE.equals(ge) || FALSE.equals(le) ? FALSE : ge == null || le == null ? null : TRUE;
+
+            return result == null || !between.not ? result : !result;
+        }
+        else if (condition instanceof FieldCondition) {
+            Object value = eval(scope, ((FieldCondition) condition).field);
+            return value == null ? null : Convert.convert(value, Boolean.class);
+        }
+        else
+            throw unsupported(condition);
+    }
+
+    private final Boolean compare(Scope scope, org.jooq.Comparator comparator, Object lhs, Object rhs, Character escape) throws SQLException {
+        switch (comparator) {
+            case IS_DISTINCT_FROM:
+                return lhs == null ? rhs != null : rhs == null || compare(lhs, rhs) != 0;
+
+            case IS_NOT_DISTINCT_FROM:
+                return lhs == null ? rhs == null : rhs != null && compare(lhs, rhs) == 0;
+        }
+
+        if (lhs == null || rhs == null)
+            return null;
+
+        switch (comparator) {
+            case EQUALS:
+                return compare(lhs, rhs) == 0;
+
+            case NOT_EQUALS:
+                return compare(lhs, rhs) != 0;
+
+            case LESS:
+                return compare(lhs, rhs) < 0;
+
+            case LESS_OR_EQUAL:
+                return compare(lhs, rhs) <= 0;
+
+            case GREATER:
+                return compare(lhs, rhs) > 0;
+
+            case GREATER_OR_EQUAL:
+                return compare(lhs, rhs) >= 0;
+
+            case LIKE:
+            case NOT_LIKE:
+            case LIKE_IGNORE_CASE:
+            case NOT_LIKE_IGNORE_CASE: {
+                boolean ignoreCase = comparator == org.jooq.Comparator.LIKE_IGNORE_CASE || comparator == org.jooq.Comparator.NOT_LIKE_IGNORE_CASE;
+                boolean matches = scope.pattern(rhs.toString(), escape, ignoreCase).matcher(lhs.toString()).matches();
+
+                return comparator == org.jooq.Comparator.LIKE || comparator == org.jooq.Comparator.LIKE_IGNORE_CASE ? matches : !matches;
+            }
+
+            default:
+                throw new SQLFeatureNotSupportedException("Comparator not supported by in-memory database: " + comparator);
+        }
+    }
+
+    /**
+     * Compare two non-null values, converting the second one to the type of
+     * the first one, if needed.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static final int compare(Object lhs, Object rhs) {
+        if (lhs instanceof Number && rhs instanceof Number) {
+            if (lhs.getClass() == rhs.getClass())
+                return ((Comparable) lhs).compareTo(rhs);
+            else
+                return Convert.convert(lhs, BigDecimal.class).compareTo(Convert.convert(rhs, BigDecimal.class));
+        }
+        else if (lhs instanceof byte[] && rhs instanceof byte[]) {
+            byte[] l = (byte[]) lhs;
+            byte[] r = (byte[]) rhs;
+
+            for (int i = 0; i < l.length && i < r.length; i++)
+                if (l[i] != r[i])
+                    return (l[i] & 0xFF) - (r[i] & 0xFF);
+
+            return l.length - r.length;
+        }
+        else if (lhs.getClass() != rhs.getClass())
+            return ((Comparable) lhs).compareTo(Convert.convert(rhs, lhs.getClass()));
+        else
+            return ((Comparable) lhs).compareTo(rhs);
+    }
+
+    private static final long number(Object value) {
+        return value == null ? 0L : Convert.convert(value, Long.class);
+    }
+
+    private static final boolean isDefault(Field<?> field) {
+        return field instanceof SQLField && "default".equalsIgnoreCase(field.toString());
+    }
+
+    static final String key(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    static final SQLFeatureNotSupportedException unsupported(Object part) {
+        return new SQLFeatureNotSupportedException("Not supported by in-memory database: " + part);
+    }
+
+    /**
+     * A marker for a column that is explicitly set to its <code>DEFAULT</code>
+     * value.
+     */
+    private static final Object DEFAULT   = new Object();
+
+    /**
+     * A marker for a predicate that does not allow for a primary key lookup.
+     */
+    private static final Object NO_LOOKUP = new Object();
+
+    /**
+     * A table reference in the <code>FROM</code> clause of a
+     * <code>SELECT</code> statement, or the target table of a DML statement.
+     */
+    private static final class TableReference {
+        final String      name;
+        final MemoryTable table;
+
+        TableReference(String name, MemoryTable table) {
+            this.name = name;
+            this.table = table;
+        }
+    }
+
+    /**
+     * The evaluation state of a single statement.
+     */
+    private static final class Scope {
+        final List<TableReference>       sources  = new ArrayList<>();
+        final Map<Table<?>, Integer>     tables   = new IdentityHashMap<>();
+        final Map<Field<?>, int[]>       resolved = new IdentityHashMap<>();
+        final Map<String, Pattern>       patterns = new HashMap<>();
+
+        /**
+         * The current row, containing one table row per {@link #sources} entry,
+         * which is <code>null</code> for the absent side of outer joins.
+         */
+        Object[][]                       row;
+
+        /**
+         * The current group's rows, if aggregate functions can be evaluated.
+         */
+        List<Object[][]>                 group;
+
+        final MemoryTable declare(Table<?> table, MemoryTable memory) {
+            Alias<? extends Table<?>> alias = Tools.alias(table);
+
+            tables.put(table, sources.size());
+            sources.add(new TableReference(alias == null ? memory.name : key(alias.alias.last()), memory));
+            return memory;
+        }
+
+        /**
+         * A field referencing a column of a declared table.
+         */
+        final Field<?> column(int source, int column) {
+            TableReference reference = sources.get(source);
+            Field<?> field = reference.table.fields[column];
+
+            return DSL.field(DSL.name(reference.name, field.getName()), field.getDataType());
+        }
+
+        final int[] resolve(Field<?> field) throws SQLException {
+            int[] result = resolved.get(field);
+
+            if (result == null) {
+                String[] name = field.getQualifiedName().getName();
+                String column = key(name[name.length - 1]);
+                String qualifier = name.length > 1 ? key(name[name.length - 2]) : null;
+
+                for (int i = 0; i < sources.size(); i++) {
+                    TableReference reference = sources.get(i);
+
+                    if (qualifier != null && !qualifier.equals(reference.name))
+                        continue;
+
+                    int index = reference.table.indexOf(column);
+                    if (index >= 0) {
+                        if (result != null)
+                            throw new SQLException("Ambiguous column reference: " + field, "42702");
+
+                        result = new int[] { i, index };
+                    }
+                }
+
+                if (result == null)
+                    throw new SQLException("Column not found: " + field, "42703");
+
+                resolved.put(field, result);
+            }
+
+            return result;
+        }
+
+        final Object value(Field<?> field) throws SQLException {
+            int[] index = resolve(field);
+            Object[] r = row == null ? null : row[index[0]];
+
+            return r == null ? null : r[index[1]];
+        }
+
+        final Pattern pattern(String like, Character escape, boolean ignoreCase) {
+            String key = (ignoreCase ? "i" : "c") + (escape == null ? "" : escape) + ":" + like;
+            Pattern result = patterns.get(key);
+
+            if (result == null) {
+                StringBuilder sb = new StringBuilder();
+
+                for (int i = 0; i < like.length(); i++) {
+                    char c = like.charAt(i);
+
+                    if (escape != null && c == escape && i + 1 < like.length())
+                        sb.append(Pattern.quote(String.valueOf(like.charAt(++i))));
+                    else if (c == '%')
+                        sb.append(".*");
+                    else if (c == '_')
+                        sb.append('.');
+                    else
+                        sb.append(Pattern.quote(String.valueOf(c)));
+                }
+
+                patterns.put(key, result = Pattern.compile(sb.toString(),
+                    Pattern.DOTALL | (ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0)));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * The rows of a table, with hash indexes on its primary key and unique
+     * keys.
+     */
+    private static final class MemoryTable {
+        final Table<?>                          table;
+        final String                            name;
+        final Field<?>[]                        fields;
+        final Map<String, Integer>              columns;
+        final int[]                             primaryKey;
+        final List<int[]>                       keys;
+        final List<Map<List<Object>, Object[]>> indexes;
+        final int                               identity;
+        final List<Object[]>                    rows;
+        long                                    identityValue;
+
+        MemoryTable(Table<?> table) {
+            this.table = table;
+            this.name = key(table.getName());
+            this.fields = table.fields();
+            this.columns = new HashMap<>();
+            this.keys = new ArrayList<>();
+            this.indexes = new ArrayList<>();
+            this.rows = new ArrayList<>();
+
+            int id = -1;
+            for (int i = 0; i < fields.length; i++) {
+                columns.put(key(fields[i].getName()), i);
+
+                if (id < 0 && fields[i].getDataType().identity())
+                    id = i;
+            }
+
+            this.identity = id;
+
+            UniqueKey<?> pk = table.getPrimaryKey();
+            int[] primary = null;
+
+            for (UniqueKey<?> uk : table.getKeys()) {
+                int[] key = new int[uk.getFields().size()];
+
+                for (int i = 0; i < key.length; i++)
+                    key[i] = indexOf(key(uk.getFields().get(i).getName()));
+
+                if (pk != null && primary == null && uk.getName().equals(pk.getName()))
+                    primary = key;
+
+                keys.add(key);
+                indexes.add(new HashMap<>());
+            }
+
+            this.primaryKey = primary;
+        }
+
+        /**
+         * Create a table with a new definition, copying all rows from this
+         * table by column name.
+         */
+        final MemoryTable migrate(Table<?> definition) {
+            MemoryTable result = new MemoryTable(definition);
+            int[] columns = new int[result.fields.length];
+
+            for (int i = 0; i < columns.length; i++)
+                columns[i] = indexOf(key(result.fields[i].getName()));
+
+            result.identityValue = identityValue;
+            for (Object[] row : rows) {
+                Object[] copy = new Object[columns.length];
+
+                for (int i = 0; i < columns.length; i++)
+                    copy[i] = columns[i] >= 0 ? result.convert(i, row[columns[i]]) : result.migrationDefault(i);
+
+                result.rows.add(copy);
+                result.index(copy, copy);
+            }
+
+            return result;
+        }
+
+        private final Object migrationDefault(int column) {
+            Field<?> d = fields[column].getDataType().defaultValue();
+            return d instanceof Param ? convert(column, ((Param<?>) d).getValue()) : null;
+        }
+
+        final int indexOf(String column) {
+            Integer result = columns.get(column);
+            return result == null ? -1 : result;
+        }
+
+        final int indexOfOrFail(Field<?> field) throws SQLException {
+            int result = indexOf(key(field.getName()));
+
+            if (result < 0)
+                throw new SQLException("Column not found in table " + table + ": " + field, "42703");
+
+            return result;
+        }
+
+        final int[] generatedKeys() {
+            return identity >= 0
+                 ? new int[] { identity }
+                 : primaryKey != null
+                 ? primaryKey
+                 : new int[0];
+        }
+
+        final Object convert(int column, Object value) {
+            return fields[column].getDataType().convert(value);
+        }
+
+        final Object defaultValue(InMemoryDataProvider provider, int column) throws SQLException {
+            if (column == identity)
+                return convert(column, ++identityValue);
+
+            Field<?> d = fields[column].getDataType().defaultValue();
+            return d == null ? null : convert(column, provider.eval(new Scope(), d));
+        }
+
+        /**
+         * Create a new row from values for a set of columns, applying defaults
+         * and checking constraints.
+         */
+        final Object[] newRow(InMemoryDataProvider provider, int[] columns, Object[] values) throws SQLException {
+            Object[] row = new Object[fields.length];
+            boolean[] set = new boolean[fields.length];
+
+            for (int i = 0; i < columns.length && i < values.length; i++) {
+                if (values[i] != DEFAULT) {
+                    row[columns[i]] = convert(columns[i], values[i]);
+                    set[columns[i]] = true;
+                }
+            }
+
+            for (int i = 0; i < row.length; i++)
+                if (!set[i] || i == identity && row[i] == null)
+                    row[i] = defaultValue(provider, i);
+
+            if (identity >= 0 && row[identity] instanceof Number)
+                identityValue = Math.max(identityValue, ((Number) row[identity]).longValue());
+
+            checkNotNull(row);
+            return row;
+        }
+
+        final void checkNotNull(Object[] row) throws SQLException {
+            for (int i = 0; i < row.length; i++)
+                if (row[i] == null && !fields[i].getDataType().nullable())
+                    throw new SQLIntegrityConstraintViolationException("NULL not allowed for column " + fields[i], "23502");
+
+            if (primaryKey != null)
+                for (int i : primaryKey)
+                    if (row[i] == null)
+                        throw new SQLIntegrityConstraintViolationException("NULL not allowed for primary key column " + fields[i], "23502");
+        }
+
+        final Object[] lookup(Object value) {
+            return value == null ? null : indexes.get(keys.indexOf(primaryKey)).get(Collections.singletonList(value));
+        }
+
+        /**
+         * The index key of a row, or <code>null</code> if the row does not
+         * participate in the index, because it contains <code>NULL</code>
+         * values.
+         */
+        private final List<Object> indexKey(int index, Object[] row) {
+            int[] key = keys.get(index);
+            Object[] result = new Object[key.length];
+
+            for (int i = 0; i < key.length; i++)
+                if ((result[i] = row[key[i]]) == null)
+                    return null;
+
+            return Arrays.asList(result);
+        }
+
+        final boolean conflicts(Object[] row) {
+            for (int i = 0; i < keys.size(); i++) {
+                List<Object> key = indexKey(i, row);
+
+                if (key != null && indexes.get(i).containsKey(key))
+                    return true;
+            }
+
+            return false;
+        }
+
+        private final void check(Object[] row) throws SQLException {
+            for (int i = 0; i < keys.size(); i++) {
+                List<Object> key = indexKey(i, row);
+
+                if (key != null && indexes.get(i).containsKey(key))
+                    throw new SQLIntegrityConstraintViolationException("Unique constraint violation in table " + table + ": " + key, "23505");
+            }
+        }
+
+        private final void index(Object[] values, Object[] row) {
+            for (int i = 0; i < keys.size(); i++) {
+                List<Object> key = indexKey(i, values);
+
+                if (key != null)
+                    indexes.get(i).put(key, row);
+            }
+        }
+
+        private final void unindex(Object[] values, Object[] row) {
+            for (int i = 0; i < keys.size(); i++) {
+                List<Object> key = indexKey(i, values);
+
+                if (key != null)
+                    indexes.get(i).remove(key, row);
+            }
+        }
+
+        final void insert(Object[] row) throws SQLException {
+            check(row);
+            index(row, row);
+            rows.add(row);
+        }
+
+        /**
+         * Replace the values of rows atomically, such that unique keys are
+         * checked only once all rows have been updated.
+         */
+        final void update(List<Object[]> rows, List<Object[]> values) throws SQLException {
+            for (Object[] row : rows)
+                unindex(row, row);
+
+            int i = 0;
+            try {
+                for (; i < rows.size(); i++) {
+                    check(values.get(i));
+                    index(values.get(i), rows.get(i));
+                }
+            }
+            catch (SQLException e) {
+                for (int j = 0; j < i; j++)
+                    unindex(values.get(j), rows.get(j));
+                for (Object[] row : rows)
+                    index(row, row);
+
+                throw e;
+            }
+
+            for (int j = 0; j < rows.size(); j++)
+                System.arraycopy(values.get(j), 0, rows.get(j), 0, fields.length);
+        }
+
+        final void delete(List<Object[]> delete) {
+            Set<Object[]> set = Collections.newSetFromMap(new IdentityHashMap<>());
+            set.addAll(delete);
+
+            for (Object[] row : delete)
+                unindex(row, row);
+
+            rows.removeIf(set::contains);
+        }
+
+        final void truncate() {
+            rows.clear();
+
+            for (Map<List<Object>, Object[]> index : indexes)
+                index.clear();
+        }
+    }
+}
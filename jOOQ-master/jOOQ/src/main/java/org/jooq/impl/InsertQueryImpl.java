@@ -104,7 +104,9 @@ import org.jooq.MergeNotMatchedStep;
 import org.jooq.MergeOnConditionStep;
 import org.jooq.Name;
 import org.jooq.Operator;
+import org.jooq.Param;
 // ...
+import org.jooq.Query;
 import org.jooq.QueryPart;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
@@ -128,8 +130,8 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
     private final FieldMapsForInsert     insertMaps;
     private Select<?>                    select;
     private boolean                      defaultValues;
-    private boolean                      onDuplicateKeyUpdate;
-    private boolean                      onDuplicateKeyIgnore;
+    boolean                              onDuplicateKeyUpdate;
+    boolean                              onDuplicateKeyIgnore;
     private Constraint                   onConstraint;
     private UniqueKey<R>                 onConstraintUniqueKey;
     private QueryPartList<Field<?>>      onConflict;
@@ -287,6 +289,73 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
         insertMaps.set(map);
     }
 
+    @Override
+    final List<? extends Query> split(int maxBindValues) {
+        int rows = insertMaps.rows;
+        if (select != null || defaultValues || rows <= 1 || !returning.isEmpty())
+            return null;
+
+        int[] binds = new int[rows];
+        int total = 0;
+        int max = 0;
+
+        for (List<Field<?>> column : insertMaps.values.values()) {
+            for (int row = 0; row < rows; row++) {
+                Field<?> value = column.get(row);
+
+                if (value instanceof Param && !((Param<?>) value).isInline())
+                    binds[row]++;
+            }
+        }
+
+        for (int row = 0; row < rows; row++) {
+            total += binds[row];
+            max = Math.max(max, binds[row]);
+        }
+
+        // Avoid rendering a probe for statements that are likely small enough
+        if (total <= maxBindValues / 2)
+            return null;
+
+        // The bind values outside of the VALUES clause
+        int reserve = configuration().dsl().extractBindValues(copy(0, 1)).size() - binds[0];
+        if (reserve + total <= maxBindValues || reserve + max > maxBindValues)
+            return null;
+
+        List<Query> result = new ArrayList<>();
+        for (int from = 0, to = 0; from < rows; from = to) {
+            int sum = reserve;
+
+            while (to < rows && sum + binds[to] <= maxBindValues)
+                sum += binds[to++];
+
+            result.add(copy(from, to));
+        }
+
+        return result;
+    }
+
+    private final InsertQueryImpl<R> copy(int from, int to) {
+        InsertQueryImpl<R> result = new InsertQueryImpl<>(configuration(), with, table());
+
+        for (int row = from; row < to; row++) {
+            result.newRecord();
+            result.addValues(insertMaps.map(row));
+        }
+
+        result.updateMap.putAll(updateMap);
+        result.onDuplicateKeyUpdate = onDuplicateKeyUpdate;
+        result.onDuplicateKeyIgnore = onDuplicateKeyIgnore;
+        result.onConstraint = onConstraint;
+        result.onConstraintUniqueKey = onConstraintUniqueKey;
+        result.onConflict = onConflict;
+
+        if (condition.hasWhere())
+            result.addConditions(condition.getWhere());
+
+        return result;
+    }
+
     @Override
     final void accept0(Context<?> ctx) {
 
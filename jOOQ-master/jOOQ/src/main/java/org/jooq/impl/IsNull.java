@@ -60,8 +60,8 @@ final class IsNull extends AbstractCondition {
     private static final Clause[] CLAUSES_NULL     = { CONDITION, CONDITION_IS_NULL };
     private static final Clause[] CLAUSES_NULL_NOT = { CONDITION, CONDITION_IS_NOT_NULL };
 
-    private final Field<?>        field;
-    private final boolean         isNull;
+    final Field<?>                field;
+    final boolean                 isNull;
 
     IsNull(Field<?> field, boolean isNull) {
         this.field = field;
@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.blocking;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * A {@link Spliterator} fetching the results of a {@link SelectQueryImpl} page
+ * by page, using keyset pagination.
+ * <p>
+ * The next page is prefetched asynchronously while the current one is
+ * consumed only if each query acquires its own connection from a
+ * {@link DataSourceConnectionProvider}, i.e. outside of jOOQ managed
+ * transactions. Otherwise, pages are fetched synchronously on the consuming
+ * thread, as the underlying {@link java.sql.Connection} must not be used
+ * concurrently.
+ *
+ * @author Lukas Eder
+ */
+final class KeysetSpliterator<R extends Record> implements Spliterator<R> {
+
+    private final SelectQueryImpl<R>     query;
+    private final int                    pageSize;
+    private final Field<?>[]             keys;
+    private final Executor               executor;
+    private Iterator<R>                  page;
+    private Supplier<Result<R>>          next;
+    private CompletableFuture<Result<R>> prefetch;
+
+    KeysetSpliterator(SelectQueryImpl<R> query, int pageSize) {
+        List<Field<?>> k = query.getOrderBy().fields();
+        Configuration c = Tools.configuration(query);
+
+        this.query = query;
+        this.pageSize = pageSize;
+        this.keys = k.toArray(Tools.EMPTY_FIELD);
+        this.executor = c.connectionProvider() instanceof DataSourceConnectionProvider
+            ? c.executorProvider().provide()
+            : null;
+    }
+
+    @Override
+    public final boolean tryAdvance(Consumer<? super R> action) {
+        if (page == null)
+            page(query(null).fetch());
+
+        for (;;) {
+            if (page.hasNext()) {
+                action.accept(page.next());
+                return true;
+            }
+            else if (next == null) {
+                return false;
+            }
+            else {
+                Supplier<Result<R>> n = next;
+                next = null;
+                prefetch = null;
+                page(n.get());
+            }
+        }
+    }
+
+    /**
+     * Start consuming a page, and prepare fetching the next page, if there can
+     * be any.
+     */
+    private final void page(Result<R> result) {
+        page = result.iterator();
+
+        if (result.size() >= pageSize) {
+            R last = result.get(result.size() - 1);
+            Object[] values = new Object[keys.length];
+
+            for (int i = 0; i < keys.length; i++) {
+                if (last.field(keys[i]) == null)
+                    throw new IllegalStateException("ORDER BY field is not contained in SELECT clause: " + keys[i]);
+
+                values[i] = last.get(keys[i]);
+            }
+
+            SelectQueryImpl<R> q = query(values);
+
+            if (executor == null) {
+                next = q::fetch;
+            }
+            else {
+                CompletableFuture<Result<R>> f = CompletableFuture.supplyAsync(blocking(q::fetch), executor);
+                prefetch = f;
+                next = () -> join(f);
+            }
+        }
+    }
+
+    /**
+     * A copy of the query fetching the page after the given keys, or the first
+     * page if there are no keys.
+     */
+    private final SelectQueryImpl<R> query(Object[] values) {
+        SelectQueryImpl<R> result = query.copy();
+        query.copyExecutionAttributes(result);
+
+        if (values != null) {
+            result.getSeek().clear();
+            result.addSeekAfter(Tools.fields(values, keys));
+        }
+
+        result.addLimit(pageSize);
+        return result;
+    }
+
+    private static final <R extends Record> Result<R> join(CompletableFuture<Result<R>> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    final void close() {
+        if (prefetch != null) {
+            prefetch.cancel(false);
+            prefetch = null;
+        }
+
+        next = null;
+    }
+
+    @Override
+    public final Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public final long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public final int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
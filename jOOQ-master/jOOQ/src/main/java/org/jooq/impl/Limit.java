@@ -420,6 +420,13 @@ final class Limit extends AbstractQueryPart {
         return offsetOrZero.add(numberOfRowsOrMax);
     }
 
+    /**
+     * The number of rows, or {@link Integer#MAX_VALUE} if there is no limit.
+     */
+    final Field<?> getNumberOfRowsOrMax() {
+        return numberOfRowsOrMax;
+    }
+
     /**
      * Whether this LIMIT clause is applicable. If <code>false</code>, then no
      * LIMIT clause should be rendered.
@@ -439,6 +446,17 @@ final class Limit extends AbstractQueryPart {
         return rendersParams;
     }
 
+    final void from(Limit other) {
+        this.numberOfRows = other.numberOfRows;
+        this.numberOfRowsOrMax = other.numberOfRowsOrMax;
+        this.offset = other.offset;
+        this.offsetOrZero = other.offsetOrZero;
+        this.offsetPlusOne = other.offsetPlusOne;
+        this.rendersParams = other.rendersParams;
+        this.withTies = other.withTies;
+        this.percent = other.percent;
+    }
+
     final void setOffset(Number offset) {
         if (offset.longValue() != 0L) {
             this.offset = val(offset.longValue(), BIGINT);
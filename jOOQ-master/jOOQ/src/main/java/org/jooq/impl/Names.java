@@ -110,6 +110,7 @@ final class Names {
     static final Name N_MEDIAN            = DSL.unquotedName("median");
     static final Name N_MOD               = DSL.unquotedName("mod");
     static final Name N_MODE              = DSL.unquotedName("mode");
+    static final Name N_NESTED            = DSL.unquotedName("nested");
     static final Name N_NEXTVAL           = DSL.unquotedName("nextval");
     static final Name N_NOT               = DSL.unquotedName("not");
     static final Name N_NTILE             = DSL.unquotedName("ntile");
@@ -0,0 +1,235 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.impl.DSL.jsonArray;
+import static org.jooq.impl.DSL.jsonArrayAgg;
+import static org.jooq.impl.Names.N_NESTED;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jooq.Context;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.JSONArrayAggOrderByStep;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.Table;
+
+/**
+ * A nested collection, aggregated to JSON and decoded into a {@link Result}.
+ * <p>
+ * The nested <code>SELECT</code> is rendered as a derived table, whose rows are
+ * aggregated as JSON arrays of their column values:
+ * <p>
+ * <code><pre>
+ * (select coalesce(json_arrayagg(json_array(t.v1, t.v2, ...)), json_array())
+ *  from (select ...) as t (v1, v2, ...))
+ * </pre></code>
+ * <p>
+ * As the order of a derived table is not guaranteed to be preserved, an
+ * <code>ORDER BY</code> clause of the nested <code>SELECT</code> is applied
+ * to the aggregate function instead, where this is supported. Sort fields
+ * that are not selected are added to the derived table as additional
+ * columns.
+ *
+ * @author Lukas Eder
+ */
+final class Nested<R extends Record> extends AbstractField<Result<R>> {
+
+    /**
+     * Generated UID
+     */
+    private static final long            serialVersionUID        = -1964203540384036005L;
+    private static final Set<SQLDialect> NO_SUPPORT_AGG_ORDER_BY = SQLDialect.supportedBy(MYSQL);
+
+    private final Select<R>              select;
+
+    Nested(Select<R> select) {
+        super(N_NESTED, dataType(select));
+
+        this.select = select;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <R extends Record> DataType<Result<R>> dataType(Select<R> select) {
+        return SQLDataType.JSON.asConvertedDataType(new NestedBinding<>(
+            (Class<R>) select.getRecordType(),
+            select.getSelect().toArray(Tools.EMPTY_FIELD)
+        ));
+    }
+
+    @Override
+    public final void accept(Context<?> ctx) {
+        List<Field<?>> s = select.getSelect();
+        Select<R> derived = select;
+        List<SortField<?>> order = null;
+        List<Integer> orderIndexes = null;
+        SelectQueryImpl<R> q = selectQueryImpl(select);
+
+        if (q != null
+                && !q.getOrderBy().isEmpty()
+                && !q.hasUnion()
+                && !NO_SUPPORT_AGG_ORDER_BY.contains(ctx.family())) {
+            q = q.copy();
+            order = new ArrayList<>(q.getOrderBy());
+            orderIndexes = new ArrayList<>(order.size());
+
+            for (SortField<?> o : order) {
+                if (!(o instanceof SortFieldImpl)) {
+                    order = null;
+                    break;
+                }
+
+                Field<?> field = ((SortFieldImpl<?>) o).getField();
+                int index = indexOf(s, field);
+
+                // Sort fields that are not selected are added as hidden columns
+                if (index < 0) {
+                    index = q.getSelect().size();
+                    q.addSelect(field);
+                }
+
+                orderIndexes.add(index);
+            }
+
+            if (order != null) {
+
+                // The ORDER BY clause is still needed to select the right rows
+                if (!q.getLimit().isApplicable() && q.getSeek().isEmpty())
+                    q.getOrderBy().clear();
+
+                derived = q;
+            }
+        }
+
+        String[] aliases = new String[derived == select ? s.size() : q.getSelect().size()];
+        for (int i = 0; i < aliases.length; i++)
+            aliases[i] = "v" + (i + 1);
+
+        Table<?> t = derived.asTable("t", aliases);
+        List<Field<?>> values = new ArrayList<>(s.size());
+
+        for (int i = 0; i < s.size(); i++)
+            values.add(value(t.field(i), s.get(i).getDataType()));
+
+        JSONArrayAggOrderByStep<JSON> agg = jsonArrayAgg(jsonArray(values).nullOnNull());
+        Field<JSON> aggregated = agg;
+
+        if (derived != select) {
+            List<SortField<?>> sort = new ArrayList<>(order.size());
+
+            for (int i = 0; i < order.size(); i++) {
+                SortFieldImpl<?> o = (SortFieldImpl<?>) order.get(i);
+                SortField<?> f = t.field(orderIndexes.get(i)).sort(o.getOrder());
+
+                if (o.getNullsFirst())
+                    f = f.nullsFirst();
+                else if (o.getNullsLast())
+                    f = f.nullsLast();
+
+                sort.add(f);
+            }
+
+            aggregated = agg.orderBy(sort);
+        }
+
+        ctx.visit(DSL.field(DSL.select(DSL.coalesce(aggregated, jsonArray())).from(t)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <R extends Record> SelectQueryImpl<R> selectQueryImpl(Select<R> select) {
+        if (select instanceof SelectQueryImpl)
+            return (SelectQueryImpl<R>) select;
+        else if (select instanceof SelectImpl)
+            return (SelectQueryImpl<R>) ((SelectImpl<R, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) select).getDelegate();
+        else
+            return null;
+    }
+
+    /**
+     * The index of a sort field in the <code>SELECT</code> clause, or
+     * <code>-1</code> if it is not selected. Unqualified sort fields may
+     * reference aliased columns.
+     */
+    private static final int indexOf(List<Field<?>> select, Field<?> field) {
+        int index = select.indexOf(field);
+
+        if (index < 0 && !field.getQualifiedName().qualified())
+            for (int i = 0; i < select.size(); i++)
+                if (select.get(i).getName().equals(field.getName()))
+                    return i;
+
+        return index;
+    }
+
+    /**
+     * Values whose JSON representation cannot be converted back losslessly
+     * (e.g. decimal numbers and temporal values) are aggregated as strings.
+     */
+    private static final Field<?> value(Field<?> field, DataType<?> type) {
+        if (type.getBinding() instanceof NestedBinding)
+            return field;
+
+        DataType<?> sqlType = type.getSQLDataType();
+        Class<?> t = sqlType == null ? Object.class : sqlType.getType();
+
+        if (t == String.class
+            || t == Boolean.class
+            || t == Byte.class
+            || t == Short.class
+            || t == Integer.class
+            || t == Long.class
+            || t == Float.class
+            || t == Double.class
+            || t == JSON.class
+            || t == JSONB.class)
+            return field;
+        else
+            return field.cast(VARCHAR);
+    }
+}
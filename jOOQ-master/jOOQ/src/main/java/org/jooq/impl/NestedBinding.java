@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.SQLException;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.JSONFormat;
+import org.jooq.JSONFormat.RecordFormat;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * A binding that decodes JSON arrays of arrays produced by {@link Nested}
+ * into {@link Result} values.
+ * <p>
+ * Fetched JSON strings are decoded with the {@link NestedReader} directly,
+ * such that the resulting records are attached to the fetching
+ * {@link org.jooq.Configuration}.
+ *
+ * @author Lukas Eder
+ */
+final class NestedBinding<R extends Record> implements Binding<JSON, Result<R>> {
+
+    /**
+     * Generated UID
+     */
+    private static final long                serialVersionUID = -5284402950236457224L;
+
+    final Class<R>                           type;
+    final Field<?>[]                         fields;
+    private final Converter<JSON, Result<R>> converter;
+    private final Binding<JSON, Result<R>>   delegate;
+
+    NestedBinding(Class<R> type, Field<?>[] fields) {
+        this.type = type;
+        this.fields = fields;
+        this.converter = new NestedConverter<>(type, fields);
+        this.delegate = DefaultBinding.binding(converter);
+    }
+
+    @Override
+    public final Converter<JSON, Result<R>> converter() {
+        return converter;
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<Result<R>> ctx) throws SQLException {
+        delegate.sql(ctx);
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<Result<R>> ctx) throws SQLException {
+        delegate.register(ctx);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<Result<R>> ctx) throws SQLException {
+        delegate.set(ctx);
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<Result<R>> ctx) throws SQLException {
+        delegate.set(ctx);
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<Result<R>> ctx) throws SQLException {
+        String string = ctx.resultSet().getString(ctx.index());
+        ctx.value(string == null ? null : NestedReader.read(ctx.configuration(), type, fields, string));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<Result<R>> ctx) throws SQLException {
+        String string = ctx.statement().getString(ctx.index());
+        ctx.value(string == null ? null : NestedReader.read(ctx.configuration(), type, fields, string));
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<Result<R>> ctx) throws SQLException {
+        delegate.get(ctx);
+    }
+
+    private static final class NestedConverter<R extends Record> extends AbstractConverter<JSON, Result<R>> {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 2180478402931823361L;
+        private final Class<R>    type;
+        private final Field<?>[]  fields;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        NestedConverter(Class<R> type, Field<?>[] fields) {
+            super(JSON.class, (Class) Result.class);
+
+            this.type = type;
+            this.fields = fields;
+        }
+
+        @Override
+        public final Result<R> from(JSON json) {
+            return json == null ? null : NestedReader.read(null, type, fields, json.data());
+        }
+
+        @Override
+        public final JSON to(Result<R> result) {
+            return result == null ? null : JSON.valueOf(result.formatJSON(new JSONFormat().header(false).recordFormat(RecordFormat.ARRAY)));
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.exception.DataTypeException;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONValue;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * A streaming reader for the JSON arrays of arrays produced by {@link Nested}.
+ * <p>
+ * Records are created directly from parser events without an intermediary
+ * {@link java.util.List} or {@link java.util.Map} representation. Nested
+ * collections are decoded recursively. Other JSON structures (e.g. the
+ * contents of <code>JSON</code> columns) are collected as JSON text.
+ *
+ * @author Lukas Eder
+ */
+final class NestedReader implements ContentHandler {
+
+    private final Configuration configuration;
+    private final Deque<Frame>  frames;
+    private Result<?>           result;
+
+    // Collected JSON text of JSON values that are not nested collections
+    private StringBuilder       json;
+    private int                 jsonDepth;
+    private boolean             jsonComma;
+
+    private NestedReader(Configuration configuration, Class<? extends Record> type, Field<?>[] fields) {
+        this.configuration = configuration;
+        this.frames = new ArrayDeque<>();
+        this.frames.push(new Frame(configuration, type, fields));
+    }
+
+    @SuppressWarnings("unchecked")
+    static final <R extends Record> Result<R> read(Configuration configuration, Class<R> type, Field<?>[] fields, String string) {
+        NestedReader reader = new NestedReader(configuration, type, fields);
+
+        try {
+            new JSONParser().parse(string, reader);
+        }
+        catch (ParseException e) {
+            throw new DataTypeException("Cannot decode nested collection: " + string, e);
+        }
+
+        if (reader.result == null)
+            throw new DataTypeException("Cannot decode nested collection: " + string);
+
+        return (Result<R>) reader.result;
+    }
+
+    @Override
+    public final void startJSON() {}
+
+    @Override
+    public final void endJSON() {}
+
+    @Override
+    public final boolean startObject() {
+        open('{');
+        return true;
+    }
+
+    @Override
+    public final boolean endObject() {
+        close('}');
+        return true;
+    }
+
+    @Override
+    public final boolean startObjectEntry(String key) {
+        if (jsonComma)
+            json.append(',');
+
+        json.append(JSONValue.toJSONString(key)).append(':');
+        jsonComma = false;
+        return true;
+    }
+
+    @Override
+    public final boolean endObjectEntry() {
+        return true;
+    }
+
+    @Override
+    public final boolean startArray() throws ParseException {
+        Frame frame = frames.peek();
+
+        if (json != null || frame == null)
+            open('[');
+
+        // The top level array of the current collection has been entered
+        else if (!frame.started)
+            frame.started = true;
+
+        // A record's array of column values
+        else if (frame.values == null)
+            frame.values = new Object[frame.fields.length];
+
+        else if (frame.index >= frame.fields.length)
+            throw new ParseException(ParseException.ERROR_UNEXPECTED_TOKEN);
+
+        // A nested collection
+        else if (frame.fields[frame.index].getDataType().getBinding() instanceof NestedBinding) {
+            NestedBinding<?> binding = (NestedBinding<?>) frame.fields[frame.index].getDataType().getBinding();
+            Frame nested = new Frame(configuration, binding.type, binding.fields);
+
+            nested.started = true;
+            frames.push(nested);
+        }
+
+        // Any other array, e.g. the content of a JSON column
+        else
+            open('[');
+
+        return true;
+    }
+
+    @Override
+    public final boolean endArray() {
+        if (json != null) {
+            close(']');
+            return true;
+        }
+
+        Frame frame = frames.peek();
+
+        if (frame.values != null) {
+            frame.add();
+        }
+        else {
+            frames.pop();
+
+            if (frames.isEmpty())
+                result = frame.result;
+            else
+                value(frame.result);
+        }
+
+        return true;
+    }
+
+    @Override
+    public final boolean primitive(Object value) throws ParseException {
+        if (json != null) {
+            if (jsonComma)
+                json.append(',');
+
+            json.append(JSONValue.toJSONString(value));
+            jsonComma = true;
+        }
+        else if (frames.isEmpty() || frames.peek().values == null) {
+            throw new ParseException(ParseException.ERROR_UNEXPECTED_TOKEN);
+        }
+        else {
+            value(value);
+        }
+
+        return true;
+    }
+
+    private final void open(char c) {
+        if (json == null) {
+            json = new StringBuilder();
+            jsonDepth = 0;
+        }
+        else if (jsonComma)
+            json.append(',');
+
+        json.append(c);
+        jsonComma = false;
+        jsonDepth++;
+    }
+
+    private final void close(char c) {
+        json.append(c);
+        jsonComma = true;
+
+        if (--jsonDepth == 0) {
+            String string = json.toString();
+            json = null;
+            value(string);
+        }
+    }
+
+    private final void value(Object value) {
+        Frame frame = frames.peek();
+
+        if (frame.index < frame.fields.length)
+            frame.values[frame.index] = frame.fields[frame.index].getDataType().convert(value);
+
+        frame.index++;
+    }
+
+    private static final class Frame {
+        final Configuration configuration;
+        final Field<?>[]    fields;
+        final F0<Record>    factory;
+        final Result<?>     result;
+        boolean             started;
+        Object[]            values;
+        int                 index;
+
+        @SuppressWarnings("unchecked")
+        Frame(Configuration configuration, Class<? extends Record> type, Field<?>[] fields) {
+            this.configuration = configuration;
+            this.fields = fields;
+            this.factory = Tools.recordFactory((Class<Record>) type, fields);
+            this.result = new ResultImpl<>(configuration, fields);
+        }
+
+        @SuppressWarnings("unchecked")
+        final void add() {
+            final Object[] v = values;
+
+            values = null;
+            index = 0;
+
+            ((Result<Record>) result).add(Tools.newRecord(true, factory, configuration).operate(new RecordOperation<Record, RuntimeException>() {
+                @Override
+                public Record operate(Record record) {
+                    AbstractRecord r = (AbstractRecord) record;
+
+                    for (int i = 0; i < v.length; i++) {
+                        r.values[i] = v[i];
+                        r.originals[i] = v[i];
+                    }
+
+                    return record;
+                }
+            }));
+        }
+    }
+}
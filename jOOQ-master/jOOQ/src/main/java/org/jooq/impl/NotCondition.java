@@ -50,7 +50,7 @@ final class NotCondition extends AbstractCondition {
     private static final long     serialVersionUID = 2921001862882237932L;
     private static final Clause[] CLAUSES          = { CONDITION, CONDITION_NOT };
 
-    private final Condition   condition;
+    final Condition           condition;
 
     NotCondition(Condition condition) {
         this.condition = condition;
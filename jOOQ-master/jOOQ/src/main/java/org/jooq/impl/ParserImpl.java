@@ -11107,11 +11107,27 @@ final class ParserImpl implements Parser {
     }
 
     private static final int afterWhitespace(ParserContext ctx, int position, boolean peekIntoParens) {
+        if (peekIntoParens)
+            return afterWhitespace0(ctx, position, true);
+
+        // Keywords are usually probed many times at the same position, which
+        // only needs to skip whitespace and comments once
+        int result = ctx.cachedAfterWhitespace(position);
+
+        if (result < 0)
+            ctx.cacheAfterWhitespace(position, result = afterWhitespace0(ctx, position, false));
+
+        return result;
+    }
+
+    private static final int afterWhitespace0(ParserContext ctx, int position, boolean peekIntoParens) {
 
         // [#8074] The SQL standard and some implementations (e.g. PostgreSQL,
         //         SQL Server) support nesting block comments
         int blockCommentNestLevel = 0;
-        PeekIgnoreComment ignoreComment = new PeekIgnoreComment(ctx);
+
+        // Only needed once a comment is encountered
+        PeekIgnoreComment ignoreComment = null;
 
         loop:
         for (int i = position; i < ctx.sql.length; i++) {
@@ -11135,7 +11151,7 @@ final class ParserImpl implements Parser {
                         blockCommentNestLevel++;
 
                         while (i < ctx.sql.length) {
-                            if (!peekIgnoreComment(ctx, ignoreComment, i).ignoreComment) {
+                            if (!peekIgnoreComment(ctx, ignoreComment == null ? ignoreComment = new PeekIgnoreComment(ctx) : ignoreComment, i).ignoreComment) {
                                 switch (ctx.sql[i]) {
                                     case '/':
                                         if (i + 1 < ctx.sql.length && ctx.sql[i + 1] == '*') {
@@ -11174,7 +11190,7 @@ final class ParserImpl implements Parser {
                         i = i + 2;
 
                         while (i < ctx.sql.length) {
-                            if (!peekIgnoreComment(ctx, ignoreComment, i).ignoreComment) {
+                            if (!peekIgnoreComment(ctx, ignoreComment == null ? ignoreComment = new PeekIgnoreComment(ctx) : ignoreComment, i).ignoreComment) {
                                 switch (ctx.sql[i]) {
                                     case '\r':
                                     case '\n':
@@ -11196,7 +11212,7 @@ final class ParserImpl implements Parser {
                         i = i + 2;
 
                         while (i < ctx.sql.length) {
-                            if (!peekIgnoreComment(ctx, ignoreComment, i).ignoreComment) {
+                            if (!peekIgnoreComment(ctx, ignoreComment == null ? ignoreComment = new PeekIgnoreComment(ctx) : ignoreComment, i).ignoreComment) {
                                 switch (ctx.sql[i]) {
                                     case '\r':
                                     case '\n':
@@ -11415,6 +11431,11 @@ final class ParserContext {
     private int                           bindIndex       = 0;
     private String                        delimiter       = ";";
 
+    // Single entry cache of the most recent afterWhitespace() lookup
+    private int                           afterWhitespaceFrom = -1;
+    private int                           afterWhitespaceTo   = -1;
+    private boolean                       afterWhitespaceIgnoreHints;
+
 
 
 
@@ -11594,6 +11615,20 @@ final class ParserContext {
         return ignoreHints;
     }
 
+    /**
+     * The most recently cached position after whitespace and comments
+     * following a given position, or <code>-1</code> if there is none.
+     */
+    int cachedAfterWhitespace(int from) {
+        return from == afterWhitespaceFrom && ignoreHints == afterWhitespaceIgnoreHints ? afterWhitespaceTo : -1;
+    }
+
+    void cacheAfterWhitespace(int from, int to) {
+        afterWhitespaceFrom = from;
+        afterWhitespaceTo = to;
+        afterWhitespaceIgnoreHints = ignoreHints;
+    }
+
     void ignoreHints(boolean newIgnoreHints) {
         ignoreHints = newIgnoreHints;
     }
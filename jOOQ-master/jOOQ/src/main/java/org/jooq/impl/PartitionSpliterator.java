@@ -0,0 +1,213 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.time.ZoneOffset.UTC;
+import static org.jooq.impl.DSL.noCondition;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
+
+/**
+ * A {@link Spliterator} fetching the results of a set of
+ * {@link SelectQueryImpl} partitions, which can be split into groups of
+ * partitions to be fetched concurrently.
+ *
+ * @author Lukas Eder
+ */
+final class PartitionSpliterator<R extends Record> implements Spliterator<R> {
+
+    private final List<SelectQueryImpl<R>> partitions;
+    private final Set<Cursor<R>>           open;
+    private int                            from;
+    private int                            to;
+    private Cursor<R>                      cursor;
+
+    PartitionSpliterator(List<SelectQueryImpl<R>> partitions) {
+        this(partitions, ConcurrentHashMap.<Cursor<R>>newKeySet(), 0, partitions.size());
+    }
+
+    private PartitionSpliterator(List<SelectQueryImpl<R>> partitions, Set<Cursor<R>> open, int from, int to) {
+        this.partitions = partitions;
+        this.open = open;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * The predicates partitioning the values of a key between a minimum and a
+     * maximum value into at most <code>n</code> ranges.
+     * <p>
+     * The first and last ranges are unbounded, so every row belongs to exactly
+     * one partition, including rows whose key is <code>NULL</code>.
+     */
+    @SuppressWarnings("unchecked")
+    static final List<Condition> partitions(Field<?> key, Object min, Object max, int n) {
+        Field<Object> k = (Field<Object>) key;
+        List<Condition> result = new ArrayList<>();
+        List<Object> bounds = new ArrayList<>();
+
+        if (min != null) {
+            long lo = toLong(min);
+            long hi = toLong(max);
+            long previous = lo;
+
+            for (int i = 1; i < n; i++) {
+                long bound = lo + (long) (((double) hi - (double) lo) * i / n);
+
+                if (bound > previous) {
+                    bounds.add(fromLong(bound, min, key));
+                    previous = bound;
+                }
+            }
+        }
+
+        if (bounds.isEmpty()) {
+            result.add(noCondition());
+        }
+        else {
+            result.add(k.lt(bounds.get(0)).or(k.isNull()));
+
+            for (int i = 1; i < bounds.size(); i++)
+                result.add(k.ge(bounds.get(i - 1)).and(k.lt(bounds.get(i))));
+
+            result.add(k.ge(bounds.get(bounds.size() - 1)));
+        }
+
+        return result;
+    }
+
+    private static final long toLong(Object value) {
+        if (value instanceof Number)
+            return ((Number) value).longValue();
+        else if (value instanceof java.util.Date)
+            return ((java.util.Date) value).getTime();
+        else if (value instanceof LocalDate)
+            return ((LocalDate) value).toEpochDay();
+        else if (value instanceof LocalDateTime)
+            return ((LocalDateTime) value).toEpochSecond(UTC);
+        else
+            throw new IllegalArgumentException("Unsupported partition key type: " + value.getClass());
+    }
+
+    private static final Object fromLong(long value, Object type, Field<?> key) {
+        if (type instanceof Number)
+            return key.getDataType().convert(value);
+        else if (type instanceof Timestamp)
+            return new Timestamp(value);
+        else if (type instanceof java.sql.Date)
+            return new java.sql.Date(value);
+        else if (type instanceof LocalDate)
+            return LocalDate.ofEpochDay(value);
+        else if (type instanceof LocalDateTime)
+            return LocalDateTime.ofEpochSecond(value, 0, UTC);
+        else
+            throw new IllegalArgumentException("Unsupported partition key type: " + type.getClass());
+    }
+
+    @Override
+    public final boolean tryAdvance(Consumer<? super R> action) {
+        for (;;) {
+            if (cursor == null) {
+                if (from >= to)
+                    return false;
+
+                cursor = partitions.get(from).fetchLazy();
+                open.add(cursor);
+            }
+
+            R record = cursor.fetchNext();
+
+            if (record != null) {
+                action.accept(record);
+                return true;
+            }
+
+            cursor.close();
+            open.remove(cursor);
+            cursor = null;
+            from++;
+        }
+    }
+
+    @Override
+    public final Spliterator<R> trySplit() {
+
+        // At least the first partition, which may currently be fetched, stays
+        // with this spliterator
+        if (to - from < 2)
+            return null;
+
+        int mid = (from + 1 + to) >>> 1;
+        PartitionSpliterator<R> result = new PartitionSpliterator<>(partitions, open, mid, to);
+        to = mid;
+        return result;
+    }
+
+    /**
+     * Close all cursors that are still open, in this or any split spliterator.
+     */
+    final void close() {
+        for (Cursor<R> c : open)
+            c.close();
+
+        open.clear();
+    }
+
+    @Override
+    public final long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public final int characteristics() {
+        return NONNULL;
+    }
+}
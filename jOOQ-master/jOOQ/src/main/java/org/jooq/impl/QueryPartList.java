@@ -64,6 +64,12 @@ class QueryPartList<T extends QueryPart> extends AbstractQueryPart implements Li
         this((Collection<T>) null);
     }
 
+    QueryPartList(int initialCapacity) {
+        super();
+
+        this.wrappedList = new ArrayList<>(initialCapacity);
+    }
+
     QueryPartList(T[] wrappedList) {
         this(asList(wrappedList));
     }
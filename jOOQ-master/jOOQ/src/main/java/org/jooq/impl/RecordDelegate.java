@@ -40,8 +40,11 @@ package org.jooq.impl;
 import static org.jooq.ExecuteType.READ;
 import static org.jooq.ExecuteType.WRITE;
 import static org.jooq.conf.InvocationOrder.REVERSE;
+import static org.jooq.impl.RecordDelegate.RecordLifecycleType.DELETE;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.LOAD;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.REFRESH;
+import static org.jooq.impl.RecordDelegate.RecordLifecycleType.STORE;
+import static org.jooq.impl.RecordDelegate.RecordLifecycleType.UPDATE;
 import static org.jooq.impl.Tools.attachRecords;
 
 import java.util.Arrays;
@@ -61,6 +64,13 @@ import org.jooq.exception.ControlFlowSignal;
  */
 final class RecordDelegate<R extends Record> {
 
+    /**
+     * The listener invalidating {@link DAOImpl} caches, which is added to the
+     * configured listeners if {@link org.jooq.conf.Settings#getDaoCacheSize()}
+     * is positive.
+     */
+    private static final RecordListener DAO_CACHE_LISTENER = new DAOCacheListener();
+
     private final Configuration       configuration;
     private final R                   record;
     private final RecordLifecycleType type;
@@ -93,12 +103,18 @@ final class RecordDelegate<R extends Record> {
         if (configuration != null) {
             providers = configuration.recordListenerProviders();
 
-            if (providers != null && providers.length > 0) {
-                listeners = new RecordListener[providers.length];
+            int length = providers != null ? providers.length : 0;
+            boolean daoCache = daoCache();
+
+            if (length > 0 || daoCache) {
+                listeners = new RecordListener[daoCache ? length + 1 : length];
                 ctx = new DefaultRecordContext(configuration, executeType(), record);
 
-                for (int i = 0; i < providers.length; i++)
+                for (int i = 0; i < length; i++)
                     listeners[i] = providers[i].provide();
+
+                if (daoCache)
+                    listeners[length] = DAO_CACHE_LISTENER;
             }
         }
 
@@ -171,6 +187,14 @@ final class RecordDelegate<R extends Record> {
         return record;
     }
 
+    private final boolean daoCache() {
+        if (type != STORE && type != UPDATE && type != DELETE)
+            return false;
+
+        Integer size = configuration.settings().getDaoCacheSize();
+        return size != null && size > 0;
+    }
+
     private final ExecuteType executeType() {
         return type == LOAD || type == REFRESH ? READ : WRITE;
     }
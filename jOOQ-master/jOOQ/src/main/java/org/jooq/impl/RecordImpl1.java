@@ -63,6 +63,10 @@ class RecordImpl1<T1> extends AbstractRecord implements InternalRecord, Record1<
         super(t1);
     }
 
+    RecordImpl1(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
@@ -63,6 +63,10 @@ class RecordImpl13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> exten
         super(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13);
     }
 
+    RecordImpl13(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
@@ -63,6 +63,10 @@ class RecordImpl2<T1, T2> extends AbstractRecord implements InternalRecord, Reco
         super(t1, t2);
     }
 
+    RecordImpl2(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
@@ -63,6 +63,10 @@ class RecordImpl3<T1, T2, T3> extends AbstractRecord implements InternalRecord,
         super(t1, t2, t3);
     }
 
+    RecordImpl3(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
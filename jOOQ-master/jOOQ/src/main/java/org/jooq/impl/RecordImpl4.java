@@ -63,6 +63,10 @@ class RecordImpl4<T1, T2, T3, T4> extends AbstractRecord implements InternalReco
         super(t1, t2, t3, t4);
     }
 
+    RecordImpl4(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
@@ -63,6 +63,10 @@ class RecordImpl5<T1, T2, T3, T4, T5> extends AbstractRecord implements Internal
         super(t1, t2, t3, t4, t5);
     }
 
+    RecordImpl5(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
@@ -63,6 +63,10 @@ class RecordImpl6<T1, T2, T3, T4, T5, T6> extends AbstractRecord implements Inte
         super(t1, t2, t3, t4, t5, t6);
     }
 
+    RecordImpl6(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
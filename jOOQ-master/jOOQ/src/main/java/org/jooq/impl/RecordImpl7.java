@@ -63,6 +63,10 @@ class RecordImpl7<T1, T2, T3, T4, T5, T6, T7> extends AbstractRecord implements
         super(t1, t2, t3, t4, t5, t6, t7);
     }
 
+    RecordImpl7(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
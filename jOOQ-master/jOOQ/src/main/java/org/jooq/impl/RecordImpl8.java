@@ -63,6 +63,10 @@ class RecordImpl8<T1, T2, T3, T4, T5, T6, T7, T8> extends AbstractRecord impleme
         super(t1, t2, t3, t4, t5, t6, t7, t8);
     }
 
+    RecordImpl8(AbstractRow fields) {
+        super(fields);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Type-safe Record APIs
     // ------------------------------------------------------------------------
@@ -47,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -57,6 +58,7 @@ import java.util.Set;
 
 import org.jooq.Configuration;
 import org.jooq.Converter;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Name;
@@ -354,14 +356,10 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         if (keys == null)
             keys = new Field[0];
 
+        int[] indexes = indexesOrFail(keys);
         Map<Record, R> map = new LinkedHashMap<>();
         for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
-
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
-
-            if (map.put(key, record) != null)
+            if (map.put(key(record, keys, indexes), record) != null)
                 throw new InvalidResultException("Key list " + Arrays.asList(keys) + " is not unique in Result for " + this);
         }
 
@@ -388,22 +386,44 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         if (keys == null)
             keys = new Field[0];
 
+        int[] kIndexes = indexesOrFail(keys);
+        int[] vIndexes = indexesOrFail(values);
         Map<Record, Record> map = new LinkedHashMap<>();
         for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
-            RecordImplN value = new RecordImplN(values);
+            if (map.put(key(record, keys, kIndexes), key(record, values, vIndexes)) != null)
+                throw new InvalidResultException("Key list " + Arrays.asList(keys) + " is not unique in Result for " + this);
+        }
 
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
+        return map;
+    }
 
-            for (Field<?> field : values)
-                Tools.copyValue(value, field, record, field);
+    /**
+     * The indexes of the argument fields in this result.
+     */
+    private final int[] indexesOrFail(Field<?>[] f) {
+        int[] result = new int[f.length];
 
-            if (map.put(key, value) != null)
-                throw new InvalidResultException("Key list " + Arrays.asList(keys) + " is not unique in Result for " + this);
+        for (int i = 0; i < f.length; i++)
+            result[i] = indexOrFail(fieldsRow(), f[i]);
+
+        return result;
+    }
+
+    /**
+     * Copy the values at the given indexes of a record into a new key record.
+     */
+    private static final RecordImplN key(Record record, Field<?>[] keys, int[] indexes) {
+        RecordImplN result = new RecordImplN(keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            DataType<?> type = keys[i].getDataType();
+
+            result.values[i] = type.convert(record.get(indexes[i]));
+            result.originals[i] = type.convert(record.original(indexes[i]));
+            result.changed.set(i, record.changed(indexes[i]));
         }
 
-        return map;
+        return result;
     }
 
     @Override
@@ -763,16 +783,18 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         if (keys == null)
             keys = new Field[0];
 
+        int[] indexes = indexesOrFail(keys);
+        GroupKey probe = new GroupKey(indexes);
+        Map<GroupKey, Result<R>> groups = new HashMap<>();
         Map<Record, Result<R>> map = new LinkedHashMap<>();
         for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
+            Result<R> result = groups.get(probe.of(record));
 
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
-
-            Result<R> result = map.get(key);
-            if (result == null)
-                map.put(key, result = new ResultImpl<>(configuration(), this.fields));
+            // Key records are created only per group, not per row
+            if (result == null) {
+                groups.put(probe.copy(), result = new ResultImpl<>(configuration(), this.fields));
+                map.put(key(record, keys, indexes), result);
+            }
 
             result.add(record);
         }
@@ -803,22 +825,20 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         if (values == null)
             values = new Field[0];
 
+        int[] kIndexes = indexesOrFail(keys);
+        int[] vIndexes = indexesOrFail(values);
+        GroupKey probe = new GroupKey(kIndexes);
+        Map<GroupKey, Result<Record>> groups = new HashMap<>();
         Map<Record, Result<Record>> map = new LinkedHashMap<>();
         for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
-            RecordImplN value = new RecordImplN(values);
-
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
+            Result<Record> result = groups.get(probe.of(record));
 
-            for (Field<?> field : values)
-                Tools.copyValue(value, field, record, field);
-
-            Result<Record> result = map.get(key);
-            if (result == null)
-                map.put(key, result = new ResultImpl<>(configuration(), values));
+            if (result == null) {
+                groups.put(probe.copy(), result = new ResultImpl<>(configuration(), values));
+                map.put(key(record, keys, kIndexes), result);
+            }
 
-            result.add(value);
+            result.add(key(record, values, vIndexes));
         }
 
         return map;
@@ -864,23 +884,69 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         if (keys == null)
             keys = new Field[0];
 
+        int[] indexes = indexesOrFail(keys);
+        GroupKey probe = new GroupKey(indexes);
+        Map<GroupKey, List<E>> groups = new HashMap<>();
         Map<Record, List<E>> map = new LinkedHashMap<>();
         for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
+            List<E> list = groups.get(probe.of(record));
 
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
+            if (list == null) {
+                groups.put(probe.copy(), list = new ArrayList<>());
+                map.put(key(record, keys, indexes), list);
+            }
+
+            list.add(mapper.map(record));
+        }
+
+        return map;
+    }
+
+    @Override
+    public final Map<Record, int[]> intoGroupIndexes(Field<?>[] keys) {
+        if (keys == null)
+            keys = new Field[0];
+
+        int[] indexes = indexesOrFail(keys);
+        GroupKey probe = new GroupKey(indexes);
+        Map<GroupKey, IndexList> groups = new LinkedHashMap<>();
+
+        for (int i = 0; i < size(); i++) {
+            IndexList list = groups.get(probe.of(get(i)));
 
-            List<E> list = map.get(key);
             if (list == null)
-                map.put(key, list = new ArrayList<>());
+                groups.put(probe.copy(), list = new IndexList(key(get(i), keys, indexes)));
 
-            list.add(mapper.map(record));
+            list.add(i);
         }
 
+        Map<Record, int[]> map = new LinkedHashMap<>();
+        for (IndexList list : groups.values())
+            map.put(list.key, Arrays.copyOf(list.indexes, list.size));
+
         return map;
     }
 
+    /**
+     * A growable list of row indexes of a group.
+     */
+    private static final class IndexList {
+        final Record key;
+        int[]        indexes = new int[4];
+        int          size;
+
+        IndexList(Record key) {
+            this.key = key;
+        }
+
+        void add(int index) {
+            if (size == indexes.length)
+                indexes = Arrays.copyOf(indexes, size << 1);
+
+            indexes[size++] = index;
+        }
+    }
+
     @Override
     public final <K> Map<K, Result<R>> intoGroups(Class<? extends K> keyType) {
         return intoGroups(Tools.configuration(this).recordMapperProvider().provide(fields, keyType));
@@ -1417,10 +1483,13 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final Result<R> intern(int... fieldIndexes) {
-        for (int fieldIndex : fieldIndexes)
-            if (fields.fields[fieldIndex].getType() == String.class)
+        for (int fieldIndex : fieldIndexes) {
+            StringDictionary dictionary = StringDictionary.of(Tools.configuration(configuration()), fields.fields[fieldIndex], false);
+
+            if (dictionary != null)
                 for (Record record : this)
-                    ((AbstractRecord) record).intern0(fieldIndex);
+                    ((AbstractRecord) record).intern0(fieldIndex, dictionary);
+        }
 
         return this;
     }
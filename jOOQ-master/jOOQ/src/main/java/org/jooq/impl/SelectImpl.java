@@ -43,6 +43,7 @@ import static org.jooq.impl.DSL.notExists;
 import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 
+import java.io.OutputStream;
 import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Collection;
@@ -60,6 +61,7 @@ import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import org.jooq.CSVFormat;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.Converter;
@@ -68,6 +70,7 @@ import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.GroupField;
+import org.jooq.JSONFormat;
 import org.jooq.JoinType;
 import org.jooq.Name;
 import org.jooq.Operator;
@@ -2882,6 +2885,16 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().collect(collector);
     }
 
+    @Override
+    public final void exportCSV(OutputStream stream, CSVFormat format) {
+        getDelegate().exportCSV(stream, format);
+    }
+
+    @Override
+    public final void exportJSON(OutputStream stream, JSONFormat format) {
+        getDelegate().exportJSON(stream, format);
+    }
+
 
 
     @Override
@@ -3903,6 +3916,16 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
     }
 
 
+    @Override
+    public final Stream<R> fetchKeysetStream(int pageSize) {
+        return getDelegate().fetchKeysetStream(pageSize);
+    }
+
+    @Override
+    public final Stream<R> fetchPartitionedStream(Field<?> key, int partitions) {
+        return getDelegate().fetchPartitionedStream(key, partitions);
+    }
+
     @Override
     public final CompletionStage<Result<R>> fetchAsync() {
         return getDelegate().fetchAsync();
@@ -158,6 +158,7 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.Asterisk;
 import org.jooq.Clause;
@@ -2347,6 +2348,51 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return getSelectResolveAllAsterisks(configuration() != null ? configuration().family() : SQLDialect.DEFAULT);
     }
 
+    @Override
+    public final Stream<R> fetchKeysetStream(int pageSize) {
+        if (pageSize <= 0)
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        if (orderBy.isEmpty())
+            throw new IllegalStateException("Keyset pagination requires an ORDER BY clause");
+        if (!unionOp.isEmpty() || limit.isApplicable() || seekBefore)
+            throw new IllegalStateException("Keyset pagination is not supported with set operations, LIMIT, or SEEK BEFORE clauses");
+
+        KeysetSpliterator<R> spliterator = new KeysetSpliterator<>(this, pageSize);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public final Stream<R> fetchPartitionedStream(Field<?> key, int partitions) {
+        if (partitions <= 0)
+            throw new IllegalArgumentException("Number of partitions must be positive: " + partitions);
+        if (grouping || !unionOp.isEmpty() || limit.isApplicable())
+            throw new IllegalStateException("Partitioning is not supported with GROUP BY, LIMIT, or set operations");
+
+        SelectQueryImpl<Record> probe = (SelectQueryImpl) copy();
+        probe.select.clear();
+        probe.select.add(DSL.min(key));
+        probe.select.add(DSL.max(key));
+        probe.orderBy.clear();
+        probe.seek.clear();
+
+        Record minMax = probe.fetchOne();
+        List<SelectQueryImpl<R>> queries = new ArrayList<>();
+
+        for (Condition condition : PartitionSpliterator.partitions(key, minMax.get(0), minMax.get(1), partitions)) {
+            SelectQueryImpl<R> query = copy();
+            query.addConditions(condition);
+            queries.add(query);
+        }
+
+        // Partitions are fetched concurrently only if each query acquires its
+        // own connection, as a single JDBC connection must not be used by
+        // several threads at the same time
+        PartitionSpliterator<R> spliterator = new PartitionSpliterator<>(queries);
+        boolean parallel = Tools.configuration(this).connectionProvider() instanceof DataSourceConnectionProvider;
+        return StreamSupport.stream(spliterator, parallel).onClose(spliterator::close);
+    }
+
     private final Collection<? extends Field<?>> subtract(List<Field<?>> left, List<Field<?>> right) {
 
         // [#7921] TODO Make this functionality more generally reusable
@@ -2612,6 +2658,74 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return (unionOp.size() == 0) ? limit : unionLimit;
     }
 
+    final boolean isDistinct() {
+        return distinct;
+    }
+
+    final QueryPartList<GroupField> getGroupBy() {
+        return groupBy;
+    }
+
+    final boolean hasUnion() {
+        return unionOp.size() > 0;
+    }
+
+    /**
+     * A shallow copy of this query, whose clauses can be modified without
+     * affecting this query.
+     */
+    final SelectQueryImpl<R> copy() {
+        SelectQueryImpl<R> result = new SelectQueryImpl<>(configuration(), with, distinct);
+
+        result.select.addAll(select);
+        result.into = into;
+        result.hint = hint;
+        result.option = option;
+        result.distinctOn = distinctOn == null ? null : new QueryPartList<>(distinctOn);
+        result.forLockOf = forLockOf == null ? null : new QueryPartList<>(forLockOf);
+        result.forLockOfTables = forLockOfTables == null ? null : new TableList(forLockOfTables);
+        result.forLockMode = forLockMode;
+        result.forLockWaitMode = forLockWaitMode;
+        result.forLockWait = forLockWait;
+        result.from.addAll(from);
+        copy(condition, result.condition);
+        copy(connectBy, result.connectBy);
+        result.connectByNoCycle = connectByNoCycle;
+        copy(connectByStartWith, result.connectByStartWith);
+        result.grouping = grouping;
+        result.groupBy = groupBy == null ? null : new QueryPartList<>(groupBy);
+        copy(having, result.having);
+
+        if (window != null) {
+            result.window = new WindowList();
+            result.window.addAll(window);
+        }
+
+        copy(qualify, result.qualify);
+        result.orderBy.addAll(orderBy);
+        result.orderBySiblings = orderBySiblings;
+        result.seek.addAll(seek);
+        result.seekBefore = seekBefore;
+        result.limit.from(limit);
+        result.unionOp.addAll(unionOp);
+
+        for (QueryPartList<Select<?>> u : union)
+            result.union.add(new QueryPartList<>(u));
+
+        result.unionOrderBy.addAll(unionOrderBy);
+        result.unionOrderBySiblings = unionOrderBySiblings;
+        result.unionSeek.addAll(unionSeek);
+        result.unionSeekBefore = unionSeekBefore;
+        result.unionLimit.from(unionLimit);
+
+        return result;
+    }
+
+    private static final void copy(ConditionProviderImpl from, ConditionProviderImpl to) {
+        if (from.hasWhere())
+            to.addConditions(from.getWhere());
+    }
+
     final SortFieldList getNonEmptyOrderBy(Configuration configuration) {
         if (getOrderBy().isEmpty()) {
             SortFieldList result = new SortFieldList();
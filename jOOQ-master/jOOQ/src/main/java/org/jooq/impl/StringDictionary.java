@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Arrays;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+
+/**
+ * A bounded dictionary canonicalising {@link String} values of a single
+ * column, such that identical values share one instance.
+ * <p>
+ * Unlike {@link String#intern()}, this dictionary does not write to the JVM's
+ * global string table. It is owned by a single fetch and is thus not
+ * thread-safe. Values are stored in a direct-mapped table by hash code, i.e. a
+ * new value replaces any other value with a colliding hash code, which keeps
+ * the dictionary's size bounded.
+ *
+ * @author Lukas Eder
+ */
+final class StringDictionary {
+
+    /**
+     * The number of lookups after which an adaptive dictionary checks the
+     * observed cardinality.
+     */
+    private static final int WINDOW = 1024;
+
+    private final String[]   entries;
+    private final int        mask;
+    private final boolean    adaptive;
+    private int              lookups;
+    private int              misses;
+    private boolean          disabled;
+
+    /**
+     * Create a dictionary.
+     *
+     * @param size The maximum number of values stored in the dictionary.
+     * @param adaptive Whether the dictionary should disable itself when it
+     *            observes a high cardinality, i.e. when more than half of
+     *            the values looked up in a window are not found.
+     */
+    StringDictionary(int size, boolean adaptive) {
+        int capacity = Integer.highestOneBit(Math.max(1, size));
+
+        this.entries = new String[capacity < size ? capacity << 1 : capacity];
+        this.mask = entries.length - 1;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Create a dictionary for a given column if needed.
+     *
+     * @return The new dictionary, or <code>null</code> if the column does not
+     *         contain <code>String</code> values, or if the configured size
+     *         is not positive.
+     */
+    static final StringDictionary of(Configuration configuration, Field<?> field, boolean adaptive) {
+        if (field.getType() != String.class)
+            return null;
+
+        Integer size = configuration.settings().getFetchInternDictionarySize();
+        return size == null || size > 0 ? new StringDictionary(size == null ? 1024 : size, adaptive) : null;
+    }
+
+    /**
+     * Get the canonical instance of a value.
+     */
+    final String canonical(String value) {
+        if (value == null || disabled)
+            return value;
+
+        int h = value.hashCode();
+        int i = (h ^ (h >>> 16)) & mask;
+        String entry = entries[i];
+
+        if (entry != null && (entry == value || entry.equals(value)))
+            value = entry;
+        else {
+            entries[i] = value;
+            misses++;
+        }
+
+        if (adaptive && ++lookups == WINDOW) {
+            if (misses > WINDOW / 2) {
+                disabled = true;
+
+                // Release the dictionary for garbage collection
+                Arrays.fill(entries, null);
+            }
+
+            lookups = 0;
+            misses = 0;
+        }
+
+        return value;
+    }
+}
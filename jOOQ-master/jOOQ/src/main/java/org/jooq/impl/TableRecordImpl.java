@@ -222,25 +222,30 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
     }
 
     final void getReturningIfNeeded(StoreQuery<R> query, Collection<Field<?>> key) {
-        if (key != null && !key.isEmpty()) {
-            R record = query.getReturnedRecord();
-
-            if (record != null) {
-                for (Field<?> field : key) {
-                    int index = indexOrFail(fieldsRow(), field);
-                    Object value = record.get(field);
+        if (key != null && !key.isEmpty())
+            setReturnedValues(query.getReturnedRecord(), key);
+    }
 
-                    values[index] = value;
-                    originals[index] = value;
-                }
+    /**
+     * Set values returned by an <code>INSERT .. RETURNING</code> or
+     * <code>UPDATE .. RETURNING</code> statement to this record.
+     */
+    final void setReturnedValues(Record record, Collection<Field<?>> key) {
+        if (record != null) {
+            for (Field<?> field : key) {
+                int index = indexOrFail(fieldsRow(), field);
+                Object value = record.get(field);
+
+                values[index] = value;
+                originals[index] = value;
             }
-
-            // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
-            if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord())
-                    && REFRESH_GENERATED_KEYS.contains(configuration().family())
-                    && this instanceof UpdatableRecord)
-                ((UpdatableRecord<?>) this).refresh(key.toArray(EMPTY_FIELD));
         }
+
+        // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
+        if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord())
+                && REFRESH_GENERATED_KEYS.contains(configuration().family())
+                && this instanceof UpdatableRecord)
+            ((UpdatableRecord<?>) this).refresh(key.toArray(EMPTY_FIELD));
     }
 
     final Collection<Field<?>> setReturningIfNeeded(StoreQuery<R> query) {
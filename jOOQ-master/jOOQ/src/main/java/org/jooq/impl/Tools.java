@@ -156,6 +156,10 @@ import static org.jooq.tools.StringUtils.defaultIfNull;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
 import java.io.Serializable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -538,6 +542,12 @@ final class Tools {
          */
         DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION,
 
+        /**
+         * The tables written to within a transaction, whose {@link DAOImpl}
+         * record caches are invalidated when the transaction ends.
+         */
+        DATA_DAO_CACHE_WRITTEN_TABLES,
+
         /**
          * [#2080] When emulating OFFSET pagination in certain databases, synthetic
          * aliases are generated that must be referenced also in
@@ -632,19 +642,28 @@ final class Tools {
      * objects.
      */
     enum DataCacheKey {
-        DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER("org.jooq.configuration.reflection-cache.get-annotated-getter"),
-        DATA_REFLECTION_CACHE_GET_ANNOTATED_MEMBERS("org.jooq.configuration.reflection-cache.get-annotated-members"),
-        DATA_REFLECTION_CACHE_GET_ANNOTATED_SETTERS("org.jooq.configuration.reflection-cache.get-annotated-setters"),
-        DATA_REFLECTION_CACHE_GET_MATCHING_GETTER("org.jooq.configuration.reflection-cache.get-matching-getter"),
-        DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS("org.jooq.configuration.reflection-cache.get-matching-members"),
-        DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS("org.jooq.configuration.reflection-cache.get-matching-setters"),
-        DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS("org.jooq.configuration.reflection-cache.has-column-annotations"),
-        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers");
-
-        final String key;
-
-        private DataCacheKey(String key) {
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER("org.jooq.configuration.reflection-cache.get-annotated-getter", true),
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_MEMBERS("org.jooq.configuration.reflection-cache.get-annotated-members", true),
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_SETTERS("org.jooq.configuration.reflection-cache.get-annotated-setters", true),
+        DATA_REFLECTION_CACHE_GET_MATCHING_GETTER("org.jooq.configuration.reflection-cache.get-matching-getter", true),
+        DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS("org.jooq.configuration.reflection-cache.get-matching-members", true),
+        DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS("org.jooq.configuration.reflection-cache.get-matching-setters", true),
+        DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS("org.jooq.configuration.reflection-cache.has-column-annotations", true),
+        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers", false),
+        DATA_CACHE_DAO("org.jooq.configuration.cache.dao", true);
+
+        final String  key;
+
+        /**
+         * Whether the cached values are independent of the
+         * {@link Configuration}, and can thus be shared by all derived
+         * configurations.
+         */
+        final boolean shared;
+
+        private DataCacheKey(String key, boolean shared) {
             this.key = key;
+            this.shared = shared;
         }
     }
 
@@ -969,41 +988,43 @@ final class Tools {
 
         // An ad-hoc type resulting from a JOIN or arbitrary SELECT
         if (type == AbstractRecord.class || type == Record.class || InternalRecord.class.isAssignableFrom(type)) {
+
+            // All records produced by this factory share the same row type
+            final AbstractRow row = row0(fields);
+
             switch (fields.length) {
 
 
-                case 1: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl1<>(fields[0]); } };
-                case 2: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl2<>(fields[0], fields[1]); } };
-                case 3: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl3<>(fields[0], fields[1], fields[2]); } };
-                case 4: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl4<>(fields[0], fields[1], fields[2], fields[3]); } };
-                case 5: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl5<>(fields[0], fields[1], fields[2], fields[3], fields[4]); } };
-                case 6: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl6<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5]); } };
-                case 7: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl7<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6]); } };
-                case 8: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl8<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7]); } };
-                case 9: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl9<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8]); } };
-                case 10: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl10<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9]); } };
-                case 11: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl11<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10]); } };
-                case 12: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl12<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11]); } };
-                case 13: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl13<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12]); } };
-                case 14: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl14<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13]); } };
-                case 15: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl15<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14]); } };
-                case 16: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl16<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15]); } };
-                case 17: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl17<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15], fields[16]); } };
-                case 18: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl18<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15], fields[16], fields[17]); } };
-                case 19: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl19<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15], fields[16], fields[17], fields[18]); } };
-                case 20: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl20<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15], fields[16], fields[17], fields[18], fields[19]); } };
-                case 21: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl21<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15], fields[16], fields[17], fields[18], fields[19], fields[20]); } };
-                case 22: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl22<>(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13], fields[14], fields[15], fields[16], fields[17], fields[18], fields[19], fields[20], fields[21]); } };
+                case 1: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl1<>(row); } };
+                case 2: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl2<>(row); } };
+                case 3: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl3<>(row); } };
+                case 4: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl4<>(row); } };
+                case 5: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl5<>(row); } };
+                case 6: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl6<>(row); } };
+                case 7: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl7<>(row); } };
+                case 8: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl8<>(row); } };
+                case 9: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl9<>(row); } };
+                case 10: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl10<>(row); } };
+                case 11: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl11<>(row); } };
+                case 12: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl12<>(row); } };
+                case 13: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl13<>(row); } };
+                case 14: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl14<>(row); } };
+                case 15: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl15<>(row); } };
+                case 16: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl16<>(row); } };
+                case 17: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl17<>(row); } };
+                case 18: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl18<>(row); } };
+                case 19: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl19<>(row); } };
+                case 20: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl20<>(row); } };
+                case 21: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl21<>(row); } };
+                case 22: return new F0<R>() { @Override public R apply() { return (R) new RecordImpl22<>(row); } };
 
 
 
                 default:
-                    final RowImplN row = new RowImplN(fields);
-
                     return new F0<R>() {
                         @Override
                         public R apply() {
-                            return (R) new RecordImplN(row);
+                            return (R) new RecordImplN((RowImplN) row);
                         }
                     };
             }
@@ -1011,14 +1032,48 @@ final class Tools {
 
         // Any generated record
         else {
+            return (F0<R>) RECORD_FACTORIES.get(type);
+        }
+    }
+
+    /**
+     * The record factories of generated record types, calling their no-argument
+     * constructor.
+     */
+    private static final ClassValue<F0<?>> RECORD_FACTORIES = new ClassValue<F0<?>>() {
+        @Override
+        protected F0<?> computeValue(Class<?> type) {
             try {
+                final Constructor<?> constructor = type.getDeclaredConstructor();
+
+                // Accessible constructors are called through a lambda, which
+                // avoids the overhead of reflection for every record. The
+                // lambda is spun from this class, so it can only link types
+                // that are visible to jOOQ's class loader
+                if (Modifier.isPublic(type.getModifiers())
+                        && Modifier.isPublic(constructor.getModifiers())
+                        && visibleToJooq(type)) {
+                    try {
+                        Lookup lookup = MethodHandles.lookup();
+
+                        return (F0<?>) LambdaMetafactory.metafactory(
+                            lookup,
+                            "apply",
+                            MethodType.methodType(F0.class),
+                            MethodType.methodType(Object.class),
+                            lookup.unreflectConstructor(constructor),
+                            MethodType.methodType(type)
+                        ).getTarget().invoke();
+                    }
+                    catch (Throwable ignore) {}
+                }
 
                 // [#919] Allow for accessing non-public constructors
-                final Constructor<R> constructor = Reflect.accessible(type.getDeclaredConstructor());
+                Reflect.accessible(constructor);
 
-                return new F0<R>() {
+                return new F0<Object>() {
                     @Override
-                    public R apply() {
+                    public Object apply() {
                         try {
                             return constructor.newInstance();
                         }
@@ -1032,6 +1087,22 @@ final class Tools {
                 throw new IllegalStateException("Could not construct new record", e);
             }
         }
+    };
+
+    /**
+     * Whether a type is loaded by jOOQ's class loader or one of its ancestors.
+     */
+    private static final boolean visibleToJooq(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+
+        if (loader == null)
+            return true;
+
+        for (ClassLoader l = Tools.class.getClassLoader(); l != null; l = l.getParent())
+            if (l == loader)
+                return true;
+
+        return false;
     }
 
     /**
@@ -2148,7 +2219,7 @@ final class Tools {
     static final void setFetchSize(ExecuteContext ctx, int fetchSize) throws SQLException {
         // [#1263] [#4753] Allow for negative fetch sizes to support some non-standard
         // MySQL feature, where Integer.MIN_VALUE is used
-        int f = SettingsTools.getFetchSize(fetchSize, ctx.settings());
+        int f = CompiledSettings.of(ctx.configuration()).fetchSize(fetchSize);
         if (f != 0) {
             if (log.isDebugEnabled())
                 log.debug("Setting fetch size", f);
@@ -3301,7 +3372,11 @@ final class Tools {
             if (!reflectionCaching(configuration.settings()))
                 return operation.apply();
 
-            Map<Object, Object> cache = (Map<Object, Object>) configuration.data(type);
+            // Configuration-independent caches survive Configuration.derive() calls
+            Map<Object, Object> cache = type.shared && configuration instanceof DefaultConfiguration
+                ? ((DefaultConfiguration) configuration).cache(type)
+                : (Map<Object, Object>) configuration.data(type);
+
             if (cache == null) {
                 synchronized (type) {
                     cache = (Map<Object, Object>) configuration.data(type);
@@ -73,7 +73,7 @@ final class TruncateImpl<R extends Record> extends AbstractRowCountQuery impleme
     private static final long     serialVersionUID = 8904572826501186329L;
     private static final Clause[] CLAUSES          = { TRUNCATE };
 
-    private final Table<R>        table;
+    final Table<R>                table;
     private Boolean               cascade;
     private Boolean               restartIdentity;
 
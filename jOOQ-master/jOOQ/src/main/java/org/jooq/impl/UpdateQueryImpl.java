@@ -82,6 +82,7 @@ import static org.jooq.impl.Keywords.K_WHERE;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -94,6 +95,7 @@ import org.jooq.Operator;
 import org.jooq.OrderField;
 import org.jooq.Param;
 // ...
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record10;
@@ -508,6 +510,23 @@ final class UpdateQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
         return condition.hasWhere();
     }
 
+    @Override
+    final List<? extends Query> split(int maxBindValues) {
+        if (multiRow != null || !orderBy.isEmpty() || limit != null)
+            return null;
+
+        return split(getWhere(), maxBindValues, updateMap.keySet(), this::copy);
+    }
+
+    private final UpdateQueryImpl<R> copy(Condition where) {
+        UpdateQueryImpl<R> result = new UpdateQueryImpl<>(configuration(), with, table());
+
+        result.updateMap.putAll(updateMap);
+        result.from.addAll(from);
+        result.addConditions(where);
+        return result;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     final void accept0(Context<?> ctx) {
@@ -77,6 +77,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 // ...
@@ -124,6 +127,23 @@ public final class Convert {
      */
     private static final Pattern UUID_PATTERN = Pattern.compile("(\\p{XDigit}{8})-?(\\p{XDigit}{4})-?(\\p{XDigit}{4})-?(\\p{XDigit}{4})-?(\\p{XDigit}{12})");
 
+    /**
+     * Resolved conversions by source type and target type.
+     * <p>
+     * Only conversions between types that are visible to jOOQ's own class
+     * loader are cached, as those types cannot be unloaded before jOOQ itself.
+     * Conversions involving types from other class loaders (e.g. those of
+     * redeployed web applications) are resolved on each call, lest this cache
+     * pin those class loaders.
+     */
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Conversion<?>>> CONVERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of cached source types, and of cached target types
+     * per source type, beyond which conversions are resolved on each call.
+     */
+    private static final int MAX_CONVERSIONS = 256;
+
     static {
         Set<String> trueValues = new HashSet<>();
         Set<String> falseValues = new HashSet<>();
@@ -290,9 +310,10 @@ public final class Convert {
             }
             else {
                 final Object[] result = (Object[]) Array.newInstance(toComponentType, from.length);
+                final Converter<Object, ?> converter = converter(from[0] == null ? Object.class : from[0].getClass(), toComponentType);
 
                 for (int i = 0; i < from.length; i++) {
-                    result[i] = convert(from[i], toComponentType);
+                    result[i] = converter.from(from[i]);
                 }
 
                 return result;
@@ -320,8 +341,7 @@ public final class Convert {
      * Conversion type-safety
      */
     private static final <T, U> U convert0(Object from, Converter<T, ? extends U> converter) throws DataTypeException {
-        ConvertAll<T> all = new ConvertAll<>(converter.fromType());
-        return converter.from(all.from(from));
+        return converter.from(convert(from, converter.fromType()));
     }
 
     /**
@@ -384,7 +404,67 @@ public final class Convert {
      * @throws DataTypeException - When the conversion is not possible
      */
     public static final <T> T convert(Object from, Class<? extends T> toClass) throws DataTypeException {
-        return convert(from, new ConvertAll<T>(toClass));
+        return Convert.<T>converter(from == null ? Object.class : from.getClass(), toClass).from(from);
+    }
+
+    /**
+     * Get a converter that converts objects to a type, using the rules of
+     * {@link #convert(Object, Class)}.
+     * <p>
+     * The conversion path is resolved once per pair of source type and target
+     * type and then cached, such that clients converting many values of the
+     * same type should hold on to the returned converter. The converter can
+     * still convert values of any other type, or <code>null</code>, at the
+     * cost of a slower conversion.
+     *
+     * @param fromClass The expected source type
+     * @param toClass The target type
+     * @return The converter
+     */
+    @SuppressWarnings("unchecked")
+    public static final <T> Converter<Object, T> converter(Class<?> fromClass, Class<? extends T> toClass) {
+        if (!cacheable(fromClass) || !cacheable(toClass))
+            return new Conversion<>(fromClass, toClass);
+
+        ConcurrentMap<Class<?>, Conversion<?>> map = CONVERSIONS.get(fromClass);
+
+        if (map == null) {
+            if (CONVERSIONS.size() >= MAX_CONVERSIONS)
+                return new Conversion<>(fromClass, toClass);
+
+            map = CONVERSIONS.computeIfAbsent(fromClass, c -> new ConcurrentHashMap<>());
+        }
+
+        Conversion<?> result = map.get(toClass);
+
+        if (result == null) {
+            result = new Conversion<>(fromClass, toClass);
+
+            if (map.size() < MAX_CONVERSIONS) {
+                Conversion<?> previous = map.putIfAbsent(toClass, result);
+
+                if (previous != null)
+                    result = previous;
+            }
+        }
+
+        return (Converter<Object, T>) result;
+    }
+
+    /**
+     * Whether a type is loaded by jOOQ's class loader or one of its ancestors.
+     */
+    private static final boolean cacheable(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+
+        if (loader == null)
+            return true;
+
+        for (ClassLoader l = Convert.class.getClassLoader(); l != null; l = l.getParent())
+            if (l == loader)
+                return true;
+
+        return false;
     }
 
     /**
@@ -419,11 +499,15 @@ public final class Convert {
      * Type safe conversion
      */
     private static final <T, U> List<U> convert0(Collection<?> collection, Converter<T, ? extends U> converter) throws DataTypeException {
-        ConvertAll<T> all = new ConvertAll<>(converter.fromType());
+        Converter<Object, T> all = null;
         List<U> result = new ArrayList<>(collection.size());
 
-        for (Object o : collection)
-            result.add(convert(all.from(o), converter));
+        for (Object o : collection) {
+            if (all == null && o != null)
+                all = converter(o.getClass(), converter.fromType());
+
+            result.add(converter.from(all == null ? convert(o, converter.fromType()) : all.from(o)));
+        }
 
         return result;
     }
@@ -433,6 +517,92 @@ public final class Convert {
      */
     private Convert() {}
 
+    /**
+     * A conversion from a given source type to a given target type, whose
+     * conversion path is resolved once.
+     */
+    private static final class Conversion<U> implements Converter<Object, U> {
+
+        /**
+         * Generated UID
+         */
+        private static final long                        serialVersionUID = -4614360617738440380L;
+
+        private final Class<?>                           fromClass;
+        private final ConvertAll<U>                      all;
+        private final transient Function<Object, Object> path;
+
+        Conversion(Class<?> fromClass, Class<? extends U> toClass) {
+            this.fromClass = fromClass;
+            this.all = new ConvertAll<>(toClass);
+            this.path = path(fromClass, toClass);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final U from(Object from) {
+            if (path != null && from != null && from.getClass() == fromClass)
+                return (U) path.apply(from);
+            else
+                return all.from(from);
+        }
+
+        @Override
+        public final Object to(U to) {
+            return to;
+        }
+
+        @Override
+        public final Class<Object> fromType() {
+            return Object.class;
+        }
+
+        @Override
+        public final Class<U> toType() {
+            return all.toType();
+        }
+
+        /**
+         * Resolve the most common conversion paths of {@link ConvertAll},
+         * or <code>null</code> if {@link ConvertAll} has to decide on each
+         * call.
+         */
+        private static final Function<Object, Object> path(Class<?> fromClass, Class<?> toClass) {
+            final Class<?> wrapperTo = wrapper(toClass);
+
+            // No conversion, or simple up-casting
+            if (toClass == fromClass || wrapperTo == wrapper(fromClass) || toClass.isAssignableFrom(fromClass))
+                return from -> from;
+
+            // Array and collection types are not resolved, see ConvertAll
+            else if (fromClass.isArray() || Collection.class.isAssignableFrom(fromClass))
+                return null;
+
+            else if (toClass == String.class)
+                return EnumType.class.isAssignableFrom(fromClass)
+                    ? from -> ((EnumType) from).getLiteral()
+                    : Object::toString;
+
+            // Numbers are converted among each other without parsing
+            else if (Number.class.isAssignableFrom(fromClass)) {
+                if (wrapperTo == Byte.class)
+                    return from -> Byte.valueOf(((Number) from).byteValue());
+                else if (wrapperTo == Short.class)
+                    return from -> Short.valueOf(((Number) from).shortValue());
+                else if (wrapperTo == Integer.class)
+                    return from -> Integer.valueOf(((Number) from).intValue());
+                else if (wrapperTo == Long.class)
+                    return from -> Long.valueOf(((Number) from).longValue());
+                else if (wrapperTo == Float.class)
+                    return from -> Float.valueOf(((Number) from).floatValue());
+                else if (wrapperTo == Double.class)
+                    return from -> Double.valueOf(((Number) from).doubleValue());
+            }
+
+            return null;
+        }
+    }
+
     /**
      * The converter to convert them all.
      */
@@ -0,0 +1,236 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.jooq.tools.jdbc.StatementCachingConnection.Key;
+
+/**
+ * A {@link PreparedStatement} that is kept in a
+ * {@link StatementCachingConnection}'s cache, and that is reset rather than
+ * closed when {@link #close()} is called.
+ *
+ * @author Lukas Eder
+ */
+final class CachedPreparedStatement extends DefaultPreparedStatement {
+
+    final Key                                key;
+    private final StatementCachingConnection connection;
+
+    private boolean                          inUse;
+    private boolean                          evicted;
+    private boolean                          batch;
+
+    private int                              maxRows        = -1;
+    private int                              fetchSize      = -1;
+    private int                              queryTimeout   = -1;
+    private int                              maxFieldSize   = -1;
+    private int                              fetchDirection = -1;
+
+    CachedPreparedStatement(StatementCachingConnection connection, Key key, PreparedStatement delegate) {
+        super(delegate, connection);
+
+        this.connection = connection;
+        this.key = key;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Cache lifecycle
+    // ------------------------------------------------------------------------
+
+    /**
+     * Check out this statement from the cache.
+     *
+     * @return Whether this statement was available.
+     */
+    final synchronized boolean acquire() {
+        if (inUse || evicted)
+            return false;
+
+        inUse = true;
+        return true;
+    }
+
+    /**
+     * Mark this statement as evicted from the cache.
+     *
+     * @return Whether the statement can be closed right away, or whether it is
+     *         still in use, in case of which it is closed by {@link #close()}.
+     */
+    final synchronized boolean evict() {
+        evicted = true;
+        return !inUse;
+    }
+
+    private final synchronized boolean release() {
+        inUse = false;
+        return evicted;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        synchronized (this) {
+            if (!inUse)
+                return;
+        }
+
+        boolean close;
+
+        try {
+            reset();
+            close = release();
+        }
+        catch (SQLException e) {
+            connection.remove(this);
+            evict();
+            release();
+            close = true;
+        }
+
+        if (close)
+            super.close();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        synchronized (this) {
+            if (!inUse)
+                return true;
+        }
+
+        return super.isClosed();
+    }
+
+    /**
+     * Reset all the state that a client may have modified on this statement.
+     */
+    private final void reset() throws SQLException {
+        PreparedStatement s = getDelegate();
+
+        s.clearParameters();
+        s.clearWarnings();
+
+        if (batch) {
+            s.clearBatch();
+            batch = false;
+        }
+
+        if (maxRows != -1) {
+            s.setMaxRows(maxRows);
+            maxRows = -1;
+        }
+
+        if (fetchSize != -1) {
+            s.setFetchSize(fetchSize);
+            fetchSize = -1;
+        }
+
+        if (queryTimeout != -1) {
+            s.setQueryTimeout(queryTimeout);
+            queryTimeout = -1;
+        }
+
+        if (maxFieldSize != -1) {
+            s.setMaxFieldSize(maxFieldSize);
+            maxFieldSize = -1;
+        }
+
+        if (fetchDirection != -1) {
+            s.setFetchDirection(fetchDirection);
+            fetchDirection = -1;
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Tracking modified state
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void addBatch() throws SQLException {
+        batch = true;
+        super.addBatch();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        batch = true;
+        super.addBatch(sql);
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        if (maxRows == -1)
+            maxRows = getDelegate().getMaxRows();
+
+        super.setMaxRows(max);
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        if (fetchSize == -1)
+            fetchSize = getDelegate().getFetchSize();
+
+        super.setFetchSize(rows);
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        if (queryTimeout == -1)
+            queryTimeout = getDelegate().getQueryTimeout();
+
+        super.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        if (maxFieldSize == -1)
+            maxFieldSize = getDelegate().getMaxFieldSize();
+
+        super.setMaxFieldSize(max);
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        if (fetchDirection == -1)
+            fetchDirection = getDelegate().getFetchDirection();
+
+        super.setFetchDirection(direction);
+    }
+}
@@ -44,6 +44,7 @@ import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.ParameterMetaData;
@@ -72,6 +73,10 @@ public class DefaultPreparedStatement extends DefaultStatement implements Prepar
         super(delegate);
     }
 
+    public DefaultPreparedStatement(PreparedStatement delegate, Connection creator) {
+        super(delegate, creator);
+    }
+
     protected DefaultPreparedStatement(Statement delegate) {
         super(delegate);
     }
@@ -45,10 +45,16 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -117,12 +123,20 @@ import org.jooq.tools.JooqLogger;
  */
 public class MockFileDatabase implements MockDataProvider {
 
-    private static final JooqLogger              log = JooqLogger.getLogger(MockFileDatabase.class);
+    private static final JooqLogger              log                 = JooqLogger.getLogger(MockFileDatabase.class);
+
+    /**
+     * The maximum number of matched statements and bind values to remember.
+     */
+    private static final int                     MAX_CACHED_MATCHES  = 8192;
+
+    /**
+     * The maximum length of a pattern's literal prefix used for indexing.
+     */
+    private static final int                     MAX_PREFIX_LENGTH   = 16;
 
-    private final MockFileDatabaseConfiguration  configuration;
-    private final Map<String, List<MockResult>>  matchExactly;
-    private final Map<Pattern, List<MockResult>> matchPattern;
     private final DSLContext                     create;
+    private volatile Statements                  statements;
 
     @Deprecated
     private String                               nullLiteral;
@@ -172,17 +186,37 @@ public class MockFileDatabase implements MockDataProvider {
     }
 
     public MockFileDatabase(MockFileDatabaseConfiguration configuration) throws IOException {
-        this.configuration = configuration;
-        this.matchExactly = new LinkedHashMap<>();
-        this.matchPattern = new LinkedHashMap<>();
         this.create = DSL.using(SQLDialect.DEFAULT);
+        this.statements = load(configuration);
+    }
+
+    /**
+     * Replace the statements and results of this database by those of another
+     * source, using the current configuration otherwise.
+     *
+     * @see #reload(MockFileDatabaseConfiguration)
+     */
+    public void reload(Source source) throws IOException {
+        reload(statements.configuration.source(source));
+    }
 
-        load();
+    /**
+     * Replace the statements and results of this database by those of another
+     * configuration.
+     * <p>
+     * The new contents are loaded and indexed before they replace the current
+     * ones atomically, so concurrent executions either see the previous or the
+     * new contents. If loading fails, the current contents are retained.
+     */
+    public void reload(MockFileDatabaseConfiguration configuration) throws IOException {
+        this.statements = load(configuration);
     }
 
     private static final Pattern END_OF_STATEMENT = Pattern.compile("^(.*?);[ \t]*$");
 
-    private void load() throws FileNotFoundException, IOException {
+    private Statements load(final MockFileDatabaseConfiguration configuration) throws FileNotFoundException, IOException {
+        final Map<String, List<MockResult>> matchExactly = new LinkedHashMap<>();
+        final Map<Pattern, List<MockResult>> matchPattern = new LinkedHashMap<>();
 
         // Wrap the below code in a local scope
         new Object() {
@@ -350,6 +384,8 @@ public class MockFileDatabase implements MockDataProvider {
                 }
             }
         }.load();
+
+        return new Statements(configuration, matchExactly, matchPattern);
     }
 
     /**
@@ -357,7 +393,7 @@ public class MockFileDatabase implements MockDataProvider {
      */
     @Deprecated
     public Map<String, List<MockResult>> queries() {
-        return matchExactly;
+        return statements.matchExactly;
     }
 
     @Override
@@ -366,28 +402,20 @@ public class MockFileDatabase implements MockDataProvider {
             throw new SQLFeatureNotSupportedException("Not yet supported");
         }
         else {
+            Statements current = statements;
             String sql = ctx.sql();
-            String inlined = null;
+            Object[] bindings = ctx.bindings();
+            Match key = new Match(sql, bindings);
+            List<MockResult> list = current.matches.get(key);
 
-            // Check for an exact match
-            List<MockResult> list = matchExactly.get(sql);
-
-            // Check again, with inlined bind values
             if (list == null) {
-                inlined = create.query(sql, ctx.bindings()).toString();
-                list = matchExactly.get(inlined);
-            }
+                list = current.match(sql, bindings);
 
-            // Check for the first pattern match
-            if (list == null) {
+                if (list != null) {
+                    if (current.matches.size() >= MAX_CACHED_MATCHES)
+                        current.matches.clear();
 
-                patternLoop:
-                for (Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet()) {
-                    if (    entry.getKey().matcher(sql).matches()
-                         || entry.getKey().matcher(inlined).matches()) {
-                        list = entry.getValue();
-                        break patternLoop;
-                    }
+                    current.matches.put(key, list);
                 }
             }
 
@@ -403,4 +431,215 @@ public class MockFileDatabase implements MockDataProvider {
             return list.toArray(new MockResult[list.size()]);
         }
     }
+
+    /**
+     * The loaded contents of a {@link MockFileDatabase}, with indexes to speed
+     * up matching.
+     */
+    private final class Statements {
+
+        final MockFileDatabaseConfiguration           configuration;
+        final Map<String, List<MockResult>>           matchExactly;
+
+        /**
+         * The patterns, their results, and their literal prefixes in the
+         * order of declaration.
+         */
+        final Pattern[]                               patterns;
+        final List<List<MockResult>>                  patternResults;
+        final String[]                                patternPrefixes;
+
+        /**
+         * The patterns by their literal prefixes, truncated to
+         * {@link #MAX_PREFIX_LENGTH}, and the patterns without any literal
+         * prefix.
+         */
+        final Map<String, BitSet>                     prefixIndex;
+        final int[]                                   prefixLengths;
+        final BitSet                                  unprefixed;
+
+        /**
+         * The results of previously matched statements and bind values.
+         */
+        final ConcurrentMap<Match, List<MockResult>>  matches;
+
+        Statements(
+            MockFileDatabaseConfiguration configuration,
+            Map<String, List<MockResult>> matchExactly,
+            Map<Pattern, List<MockResult>> matchPattern
+        ) {
+            this.configuration = configuration;
+            this.matchExactly = matchExactly;
+            this.patterns = matchPattern.keySet().toArray(new Pattern[0]);
+            this.patternResults = new ArrayList<>(matchPattern.values());
+            this.patternPrefixes = new String[patterns.length];
+            this.prefixIndex = new HashMap<>();
+            this.unprefixed = new BitSet();
+            this.matches = new ConcurrentHashMap<>();
+
+            Set<Integer> lengths = new TreeSet<>();
+            for (int i = 0; i < patterns.length; i++) {
+                String prefix = literalPrefix(patterns[i].pattern());
+                patternPrefixes[i] = prefix;
+
+                if (prefix.isEmpty()) {
+                    unprefixed.set(i);
+                }
+                else {
+                    String truncated = prefix.substring(0, Math.min(prefix.length(), MAX_PREFIX_LENGTH));
+                    BitSet bits = prefixIndex.get(truncated);
+
+                    if (bits == null)
+                        prefixIndex.put(truncated, bits = new BitSet());
+
+                    bits.set(i);
+                    lengths.add(truncated.length());
+                }
+            }
+
+            this.prefixLengths = new int[lengths.size()];
+
+            int i = 0;
+            for (Integer length : lengths)
+                prefixLengths[i++] = length;
+        }
+
+        /**
+         * Find the results of a statement, or <code>null</code> if there is no
+         * match.
+         */
+        final List<MockResult> match(String sql, Object[] bindings) {
+            String inlined = null;
+
+            // Check for an exact match
+            List<MockResult> list = matchExactly.get(sql);
+
+            // Check again, with inlined bind values
+            if (list == null) {
+                inlined = create.query(sql, bindings).toString();
+                list = matchExactly.get(inlined);
+            }
+
+            // Check for the first pattern match, among the patterns whose
+            // literal prefix matches either SQL string
+            if (list == null && patterns.length > 0) {
+                BitSet candidates = (BitSet) unprefixed.clone();
+                candidates(sql, candidates);
+                candidates(inlined, candidates);
+
+                for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                    if (    sql.startsWith(patternPrefixes[i]) && patterns[i].matcher(sql).matches()
+                         || inlined.startsWith(patternPrefixes[i]) && patterns[i].matcher(inlined).matches()) {
+                        list = patternResults.get(i);
+                        break;
+                    }
+                }
+            }
+
+            return list;
+        }
+
+        private final void candidates(String string, BitSet candidates) {
+            for (int length : prefixLengths) {
+                if (length > string.length())
+                    break;
+
+                BitSet bits = prefixIndex.get(string.substring(0, length));
+                if (bits != null)
+                    candidates.or(bits);
+            }
+        }
+    }
+
+    /**
+     * The literal prefix that any string matched by a regular expression must
+     * start with, or the empty string if no such prefix can be determined
+     * cheaply.
+     */
+    static final String literalPrefix(String regex) {
+
+        // Alternations may make any prefix optional
+        if (regex.indexOf('|') >= 0)
+            return "";
+
+        StringBuilder sb = new StringBuilder();
+
+        prefixLoop:
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+
+            switch (c) {
+
+                // Escaped special characters are literals, other escapes are
+                // character classes, quotations, or back references
+                case '\\':
+                    if (i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                        sb.append(regex.charAt(++i));
+                        continue prefixLoop;
+                    }
+
+                    break prefixLoop;
+
+                // Quantifiers make the previous character optional
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    if (sb.length() > 0)
+                        sb.setLength(sb.length() - 1);
+                    if (sb.length() > 0 && Character.isHighSurrogate(sb.charAt(sb.length() - 1)))
+                        sb.setLength(sb.length() - 1);
+
+                    break prefixLoop;
+
+                case '.':
+                case '[':
+                case ']':
+                case '(':
+                case ')':
+                case '}':
+                case '^':
+                case '$':
+                    break prefixLoop;
+
+                default:
+                    sb.append(c);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * A statement and its bind values.
+     */
+    private static final class Match {
+        final String   sql;
+        final Object[] bindings;
+        final int      hash;
+
+        Match(String sql, Object[] bindings) {
+            this.sql = sql;
+            this.bindings = bindings == null ? new Object[0] : bindings.clone();
+            this.hash = 31 * sql.hashCode() + Arrays.deepHashCode(this.bindings);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Match))
+                return false;
+
+            Match other = (Match) obj;
+            return hash == other.hash
+                && sql.equals(other.sql)
+                && Arrays.deepEquals(bindings, other.bindings);
+        }
+    }
 }
@@ -0,0 +1,377 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Connection} that keeps an LRU cache of {@link PreparedStatement}
+ * instances per physical connection.
+ * <p>
+ * Statements are cached by their SQL string and the arguments that were passed
+ * to the various <code>prepareStatement()</code> methods, such as the result
+ * set type, concurrency and holdability, or the requested generated keys.
+ * Calling {@link PreparedStatement#close()} on a cached statement does not
+ * close it, but resets its parameters, batch, warnings and any modified
+ * <code>maxRows</code>, <code>fetchSize</code>, <code>queryTimeout</code>,
+ * <code>maxFieldSize</code>, or <code>fetchDirection</code> values to the
+ * driver defaults, before returning it to the cache. Statements are closed
+ * physically when they are evicted from the cache, or when this connection is
+ * closed.
+ * <p>
+ * This is useful with JDBC drivers that do not implement any server side or
+ * driver side statement caching, such as SQLite, H2, HSQLDB, Derby, where
+ * re-preparing an identical SQL string incurs re-parsing it.
+ * <p>
+ * If the same statement is requested again while a previous instance is still
+ * open (e.g. when nesting lazy fetches), a new, uncached statement is prepared
+ * and returned.
+ * <p>
+ * Like most JDBC {@link Connection} implementations, this type is not meant to
+ * be accessed concurrently from several threads, although its cache is
+ * synchronized.
+ *
+ * @author Lukas Eder
+ * @see StatementCachingConnectionProvider
+ */
+public class StatementCachingConnection extends DefaultConnection {
+
+    private final int                                         maxStatements;
+    private final LinkedHashMap<Key, CachedPreparedStatement> cache;
+    final AtomicLong                                          hits;
+    final AtomicLong                                          misses;
+    final AtomicLong                                          evictions;
+
+    public StatementCachingConnection(Connection delegate, int maxStatements) {
+        this(delegate, maxStatements, new AtomicLong(), new AtomicLong(), new AtomicLong());
+    }
+
+    StatementCachingConnection(
+        Connection delegate,
+        int maxStatements,
+        AtomicLong hits,
+        AtomicLong misses,
+        AtomicLong evictions
+    ) {
+        super(delegate);
+
+        this.maxStatements = maxStatements;
+        this.cache = new LRU(maxStatements);
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Statistics
+    // ------------------------------------------------------------------------
+
+    /**
+     * The maximum number of statements kept in this connection's cache.
+     */
+    public final int maxStatements() {
+        return maxStatements;
+    }
+
+    /**
+     * The number of statements currently kept in this connection's cache.
+     */
+    public final int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * The number of <code>prepareStatement()</code> calls that could be served
+     * from the cache.
+     */
+    public final long hits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of <code>prepareStatement()</code> calls that had to prepare
+     * a new statement.
+     */
+    public final long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of statements that were closed because they were evicted from
+     * the cache.
+     */
+    public final long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * The ratio between {@link #hits()} and all <code>prepareStatement()</code>
+     * calls, or <code>0.0</code> if no statements have been prepared yet.
+     */
+    public final double hitRatio() {
+        return hitRatio(hits(), misses());
+    }
+
+    static final double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0L ? 0.0 : (double) hits / total;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Statement caching
+    // ------------------------------------------------------------------------
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return prepare(new Key(sql, -1, -1, -1, -1, null, null));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return prepare(new Key(sql, resultSetType, resultSetConcurrency, -1, -1, null, null));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return prepare(new Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, -1, null, null));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return prepare(new Key(sql, -1, -1, -1, autoGeneratedKeys, null, null));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return prepare(new Key(sql, -1, -1, -1, -1, columnIndexes == null ? null : columnIndexes.clone(), null));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return prepare(new Key(sql, -1, -1, -1, -1, null, columnNames == null ? null : columnNames.clone()));
+    }
+
+    @Override
+    public void close() throws SQLException {
+        clear();
+        super.close();
+    }
+
+    /**
+     * Close all cached statements that are currently not in use and remove
+     * them from the cache.
+     */
+    public final void clear() {
+        List<CachedPreparedStatement> closing = new ArrayList<>();
+
+        synchronized (cache) {
+            Iterator<CachedPreparedStatement> it = cache.values().iterator();
+
+            while (it.hasNext()) {
+                CachedPreparedStatement s = it.next();
+                it.remove();
+
+                // Statements that are currently in use are closed when they're released
+                if (s.evict())
+                    closing.add(s);
+            }
+        }
+
+        for (CachedPreparedStatement s : closing)
+            JDBCUtils.safeClose(s.getDelegate());
+    }
+
+    private final PreparedStatement prepare(Key key) throws SQLException {
+        synchronized (cache) {
+            CachedPreparedStatement s = cache.get(key);
+
+            if (s != null) {
+                if (s.getDelegate().isClosed()) {
+                    cache.remove(key);
+                }
+                else if (s.acquire()) {
+                    hits.incrementAndGet();
+                    return s;
+                }
+
+                // The same statement is still open (e.g. in a nested lazy
+                // fetch). Don't share it, but create an uncached one.
+                else {
+                    misses.incrementAndGet();
+                    return new DefaultPreparedStatement(key.prepare(getDelegate()), this);
+                }
+            }
+
+            misses.incrementAndGet();
+            s = new CachedPreparedStatement(this, key, key.prepare(getDelegate()));
+            s.acquire();
+            cache.put(key, s);
+            return s;
+        }
+    }
+
+    /**
+     * Remove a statement from the cache after it has failed to reset.
+     */
+    final void remove(CachedPreparedStatement statement) {
+        synchronized (cache) {
+            if (cache.get(statement.key) == statement)
+                cache.remove(statement.key);
+        }
+    }
+
+    private final class LRU extends LinkedHashMap<Key, CachedPreparedStatement> {
+        private static final long serialVersionUID = 2766815476925183389L;
+        private final int         size;
+
+        LRU(int size) {
+            super(size + 1, 1.0f, true);
+            this.size = size;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Entry<Key, CachedPreparedStatement> eldest) {
+            if (size() > size) {
+                evictions.incrementAndGet();
+
+                if (eldest.getValue().evict())
+                    JDBCUtils.safeClose(eldest.getValue().getDelegate());
+
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * The cache key, consisting of all <code>prepareStatement()</code>
+     * arguments.
+     */
+    static final class Key {
+        final String   sql;
+        final int      resultSetType;
+        final int      resultSetConcurrency;
+        final int      resultSetHoldability;
+        final int      autoGeneratedKeys;
+        final int[]    columnIndexes;
+        final String[] columnNames;
+        final int      hash;
+
+        Key(
+            String sql,
+            int resultSetType,
+            int resultSetConcurrency,
+            int resultSetHoldability,
+            int autoGeneratedKeys,
+            int[] columnIndexes,
+            String[] columnNames
+        ) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.columnIndexes = columnIndexes;
+            this.columnNames = columnNames;
+
+            int h = sql.hashCode();
+            h = 31 * h + resultSetType;
+            h = 31 * h + resultSetConcurrency;
+            h = 31 * h + resultSetHoldability;
+            h = 31 * h + autoGeneratedKeys;
+            h = 31 * h + Arrays.hashCode(columnIndexes);
+            h = 31 * h + Arrays.hashCode(columnNames);
+            this.hash = h;
+        }
+
+        final PreparedStatement prepare(Connection connection) throws SQLException {
+            if (columnIndexes != null)
+                return connection.prepareStatement(sql, columnIndexes);
+            else if (columnNames != null)
+                return connection.prepareStatement(sql, columnNames);
+            else if (autoGeneratedKeys != -1)
+                return connection.prepareStatement(sql, autoGeneratedKeys);
+            else if (resultSetHoldability != -1)
+                return connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+            else if (resultSetType != -1)
+                return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+            else
+                return connection.prepareStatement(sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return hash == other.hash
+                && resultSetType == other.resultSetType
+                && resultSetConcurrency == other.resultSetConcurrency
+                && resultSetHoldability == other.resultSetHoldability
+                && autoGeneratedKeys == other.autoGeneratedKeys
+                && sql.equals(other.sql)
+                && Arrays.equals(columnIndexes, other.columnIndexes)
+                && Arrays.equals(columnNames, other.columnNames);
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+}
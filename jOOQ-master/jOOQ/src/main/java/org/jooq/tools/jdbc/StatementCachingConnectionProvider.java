@@ -0,0 +1,184 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A {@link ConnectionProvider} that keeps an LRU cache of
+ * {@link PreparedStatement} instances per physical connection.
+ * <p>
+ * This decorator wraps all connections obtained from a delegate
+ * {@link ConnectionProvider} in a {@link StatementCachingConnection}. jOOQ
+ * prepares a new statement for each execution, and closes it again after
+ * execution, unless {@link org.jooq.Query#keepStatement(boolean)} is used. With
+ * this decorator, the closing of a statement merely returns it to the cache,
+ * from where it can be reused by the next execution of the same SQL string on
+ * the same connection.
+ * <p>
+ * The cache is kept per instance of {@link Connection} returned by the
+ * delegate provider's {@link ConnectionProvider#acquire()} method. It is only
+ * effective if the delegate provider returns the same instances repeatedly,
+ * such as e.g. the {@link org.jooq.impl.DefaultConnectionProvider}, or a
+ * connection pool that does not wrap its connections in new proxies on each
+ * checkout. Should a connection be closed by the delegate provider upon
+ * {@link ConnectionProvider#release(Connection)}, its cache is discarded.
+ * <p>
+ * Use this only with drivers that do not cache statements themselves, and
+ * with {@link Settings#getStatementType()} being the default
+ * {@link org.jooq.conf.StatementType#PREPARED_STATEMENT}, as inlined bind
+ * values produce distinct SQL strings.
+ *
+ * @author Lukas Eder
+ */
+public class StatementCachingConnectionProvider implements ConnectionProvider {
+
+    private final ConnectionProvider                          delegate;
+    private final int                                         maxStatements;
+    private final Map<Connection, StatementCachingConnection> connections;
+    private final AtomicLong                                  hits;
+    private final AtomicLong                                  misses;
+    private final AtomicLong                                  evictions;
+
+    public StatementCachingConnectionProvider(ConnectionProvider delegate, int maxStatements) {
+        if (maxStatements <= 0)
+            throw new IllegalArgumentException("maxStatements must be positive: " + maxStatements);
+
+        this.delegate = delegate;
+        this.maxStatements = maxStatements;
+        this.connections = new IdentityHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    public final ConnectionProvider delegate() {
+        return delegate;
+    }
+
+    @Override
+    public Connection acquire() throws DataAccessException {
+        Connection connection = delegate.acquire();
+
+        synchronized (connections) {
+            StatementCachingConnection result = connections.get(connection);
+
+            if (result == null) {
+                result = new StatementCachingConnection(connection, maxStatements, hits, misses, evictions);
+                connections.put(connection, result);
+            }
+
+            return result;
+        }
+    }
+
+    @Override
+    public void release(Connection connection) throws DataAccessException {
+        Connection physical = connection instanceof StatementCachingConnection
+            ? ((StatementCachingConnection) connection).getDelegate()
+            : connection;
+
+        delegate.release(physical);
+
+        try {
+            if (physical.isClosed())
+                discard(physical);
+        }
+        catch (SQLException e) {
+            discard(physical);
+        }
+    }
+
+    private final void discard(Connection physical) {
+        StatementCachingConnection c;
+
+        synchronized (connections) {
+            c = connections.remove(physical);
+        }
+
+        if (c != null)
+            c.clear();
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Statistics
+    // ------------------------------------------------------------------------
+
+    /**
+     * The number of statements served from any connection's cache.
+     */
+    public final long hits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of statements that had to be prepared on any connection.
+     */
+    public final long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of statements that were evicted from any connection's cache.
+     */
+    public final long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * The ratio between {@link #hits()} and all prepared statement requests,
+     * or <code>0.0</code> if no statements have been prepared yet.
+     */
+    public final double hitRatio() {
+        return StatementCachingConnection.hitRatio(hits(), misses());
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCachingConnectionProvider [hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+    }
+}